@@ -0,0 +1,226 @@
+package com.cmpe343.project2.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Small in-process runner for rough timings; it is not JMH and gives none of
+ * JMH's guarantees. Each benchmark runs a fixed number of timed warm-up
+ * iterations chosen by the caller, then measurement iterations, and an
+ * iteration calls the operation repeatedly until its time budget is used up.
+ * Scores are milliseconds per operation with a 99.9% confidence interval over
+ * the iterations.
+ * <p>
+ * Limits to keep in mind when reading the numbers:
+ * <ul>
+ * <li>No fork isolation: every benchmark shares one JVM, so JIT profiles, heap
+ *     state and caches carry over from one benchmark to the next.</li>
+ * <li>No blackhole: the last result is stored in a volatile field. That is
+ *     enough for database round trips, not for pure computations.</li>
+ * <li>Warm-up is a fixed iteration count, not detected steady state.</li>
+ * </ul>
+ * The numbers are good for comparing two commits on the same machine, not as
+ * absolute figures. The JSON output borrows JMH's result layout so that the
+ * same diff tools can read it, and is marked as produced by this harness.
+ */
+final class BenchmarkHarness {
+
+    /**
+     * Code under measurement.
+     */
+    @FunctionalInterface
+    interface Operation {
+        Object run() throws Exception;
+    }
+
+    // Student's t quantiles for a two-sided 99.9% interval, by degrees of freedom
+    private static final double[] T_999 = { 636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781,
+            4.587, 4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922, 3.883, 3.850 };
+    private static final double Z_999 = 3.291;
+
+    private final String benchmarkClass;
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationMillis;
+    private final Pattern include;
+    private final List<Result> results = new ArrayList<>();
+    private volatile Object sink;
+
+    /**
+     * @param benchmarkClass        prefix of the reported benchmark names
+     * @param include               only benchmarks whose name matches run
+     */
+    BenchmarkHarness(String benchmarkClass, int warmupIterations, int measurementIterations, long iterationMillis,
+            Pattern include) {
+        this.benchmarkClass = benchmarkClass;
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationMillis = iterationMillis;
+        this.include = include;
+    }
+
+    boolean isIncluded(String benchmark) {
+        return include.matcher(benchmark).find();
+    }
+
+    /**
+     * Measures one benchmark with one parameter combination.
+     *
+     * @param opsPerInvocation operations done by one call, e.g. the rows of a
+     *                         batch, so that the score is per operation
+     */
+    void run(String benchmark, Map<String, String> params, int opsPerInvocation, Operation op) throws Exception {
+        if (!isIncluded(benchmark)) {
+            return;
+        }
+        System.out.printf("# %s %s%n", benchmark, params);
+        for (int i = 0; i < warmupIterations; i++) {
+            System.out.printf("  warmup %d: %.3f ms/op%n", i + 1, iteration(op, opsPerInvocation));
+        }
+        double[] samples = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            samples[i] = iteration(op, opsPerInvocation);
+            System.out.printf("  iteration %d: %.3f ms/op%n", i + 1, samples[i]);
+        }
+        Result result = new Result(benchmarkClass + "." + benchmark, new LinkedHashMap<>(params), samples);
+        results.add(result);
+        System.out.printf("  result: %.3f +- %.3f ms/op%n", result.score(), result.error());
+    }
+
+    private double iteration(Operation op, int opsPerInvocation) throws Exception {
+        long budget = iterationMillis * 1_000_000L;
+        long calls = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink = op.run();
+            calls++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < budget);
+        return elapsed / 1e6 / (calls * opsPerInvocation);
+    }
+
+    void printSummary() {
+        System.out.printf("%nRough timings (BenchmarkHarness, not JMH: single JVM, no forks, no blackhole, %d warm-up"
+                + " and %d measured iterations of %d ms)%n", warmupIterations, measurementIterations,
+                iterationMillis);
+        System.out.printf("%-60s %-40s %12s %10s%n", "Benchmark", "Params", "Score", "Error");
+        for (Result r : results) {
+            System.out.printf("%-60s %-40s %12.3f %10.3f  ms/op%n", r.benchmark, r.params, r.score(), r.error());
+        }
+    }
+
+    /**
+     * Writes all results as a JMH-compatible JSON array.
+     */
+    void writeJson(Path file) throws IOException {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            results.get(i).appendJson(json);
+            json.append(i + 1 < results.size() ? ",\n" : "\n");
+        }
+        json.append("]\n");
+        Files.writeString(file, json, StandardCharsets.UTF_8);
+    }
+
+    private final class Result {
+        final String benchmark;
+        final Map<String, String> params;
+        final double[] samples;
+
+        Result(String benchmark, Map<String, String> params, double[] samples) {
+            this.benchmark = benchmark;
+            this.params = params;
+            this.samples = samples;
+        }
+
+        double score() {
+            return Arrays.stream(samples).average().orElse(Double.NaN);
+        }
+
+        double error() {
+            int n = samples.length;
+            if (n < 2) {
+                return Double.NaN;
+            }
+            double mean = score();
+            double squares = 0;
+            for (double s : samples) {
+                squares += (s - mean) * (s - mean);
+            }
+            double t = n - 1 <= T_999.length ? T_999[n - 2] : Z_999;
+            return t * Math.sqrt(squares / (n - 1)) / Math.sqrt(n);
+        }
+
+        void appendJson(StringBuilder json) {
+            double[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            json.append("  {\n");
+            field(json, "jmhVersion", "n/a (BenchmarkHarness rough timings, not JMH)");
+            field(json, "benchmark", benchmark);
+            field(json, "mode", "avgt");
+            json.append("    \"threads\" : 1,\n    \"forks\" : 0,\n");
+            field(json, "jdkVersion", System.getProperty("java.version"));
+            field(json, "vmName", System.getProperty("java.vm.name"));
+            json.append("    \"warmupIterations\" : ").append(warmupIterations).append(",\n");
+            field(json, "warmupTime", iterationMillis + " ms");
+            json.append("    \"measurementIterations\" : ").append(measurementIterations).append(",\n");
+            field(json, "measurementTime", iterationMillis + " ms");
+            json.append("    \"params\" : {");
+            int p = 0;
+            for (Map.Entry<String, String> e : params.entrySet()) {
+                json.append(p++ == 0 ? "\n" : ",\n").append("      ").append(quote(e.getKey())).append(" : ")
+                        .append(quote(e.getValue()));
+            }
+            json.append(p == 0 ? "},\n" : "\n    },\n");
+            json.append("    \"primaryMetric\" : {\n");
+            json.append("      \"score\" : ").append(number(score())).append(",\n");
+            json.append("      \"scoreError\" : ").append(number(error())).append(",\n");
+            json.append("      \"scoreConfidence\" : [ ").append(number(score() - error())).append(", ")
+                    .append(number(score() + error())).append(" ],\n");
+            json.append("      \"scorePercentiles\" : {\n")
+                    .append("        \"0.0\" : ").append(number(sorted[0])).append(",\n")
+                    .append("        \"50.0\" : ").append(number(sorted[sorted.length / 2])).append(",\n")
+                    .append("        \"90.0\" : ").append(number(sorted[(int) Math.ceil(0.9 * sorted.length) - 1]))
+                    .append(",\n")
+                    .append("        \"100.0\" : ").append(number(sorted[sorted.length - 1])).append("\n      },\n");
+            json.append("      \"scoreUnit\" : \"ms/op\",\n");
+            json.append("      \"rawData\" : [ [ ");
+            for (int i = 0; i < samples.length; i++) {
+                json.append(i == 0 ? "" : ", ").append(number(samples[i]));
+            }
+            json.append(" ] ]\n    },\n    \"secondaryMetrics\" : {}\n  }");
+        }
+    }
+
+    private static void field(StringBuilder json, String name, String value) {
+        json.append("    ").append(quote(name)).append(" : ").append(quote(value)).append(",\n");
+    }
+
+    private static String number(double value) {
+        return Double.isFinite(value) ? String.format(Locale.ROOT, "%.6f", value) : "\"NaN\"";
+    }
+
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char ch : String.valueOf(value).toCharArray()) {
+            if (ch == '"' || ch == '\\') {
+                sb.append('\\').append(ch);
+            } else if (ch < 0x20) {
+                sb.append(String.format("\\u%04x", (int) ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
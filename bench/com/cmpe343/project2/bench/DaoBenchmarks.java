@@ -0,0 +1,209 @@
+package com.cmpe343.project2.bench;
+
+import com.cmpe343.project2.dao.ContactDAO;
+import com.cmpe343.project2.dao.JdbcRunner;
+import com.cmpe343.project2.dao.UserDAO;
+import com.cmpe343.project2.db.ContactGenerator;
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.db.DatabaseConnection;
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.model.Role;
+import com.cmpe343.project2.model.SearchCriteria;
+import com.cmpe343.project2.model.User;
+
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Rough timings (see {@link BenchmarkHarness} for what they do not control) of
+ * the DAO hot paths against an embedded database seeded at
+ * increasing sizes (10K, 100K and 1M contacts by default):
+ * <ul>
+ * <li>{@code findAll} for every sortable column,</li>
+ * <li>{@code searchByField} on first name, last name and email,</li>
+ * <li>{@code searchByCriteria} with one to five active criteria,</li>
+ * <li>{@code getStats},</li>
+ * <li>{@code addContact} one by one versus batched {@code addContacts}
+ *     (scored per contact),</li>
+ * <li>{@code UserDAO.authenticate}.</li>
+ * </ul>
+ * Unless {@code cmpe343.db.url} is set, the database is an in-memory H2
+ * instance created by the startup migrations, so the H2 jar must be on the
+ * classpath; it does not ship in {@code lib/}. Seeding uses a fixed-seed
+ * {@link ContactGenerator}, so runs on different commits compare like with
+ * like; results go to a JSON file in JMH's layout for diffing. A baseline
+ * run on H2 is kept in {@code bench/results/}.
+ * <p>
+ * Usage: {@code java -Xmx4g -cp out:bench-out:<h2.jar> com.cmpe343.project2.bench.DaoBenchmarks
+ * [--rows 10000,100000,1000000] [--wi 2] [--i 5] [--time 1000] [--include regex]
+ * [--out dao-benchmarks.json] [--allowServer]}
+ */
+public final class DaoBenchmarks {
+
+    // H2 would otherwise return the previous result of a repeated query on the same session
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:cmpe343bench;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0";
+    private static final String[] SORT_COLUMNS = { "contact_id", "first_name", "middle_name", "last_name",
+            "nickname", "email", "phone_primary", "phone_secondary", "birth_date", "linkedin_url", "created_at",
+            "updated_at" };
+    private static final long SEED = 343L;
+
+    private DaoBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        if (System.getProperty("cmpe343.db.url") == null) {
+            System.setProperty("cmpe343.db.url", EMBEDDED_URL);
+        }
+        DatabaseConfig config = DatabaseConfig.get();
+        if (!config.getDialect().isEmbedded() && !options.containsKey("allowServer")) {
+            System.err.println("Refusing to seed " + config.getJdbcUrl()
+                    + ": benchmarks insert up to millions of rows. Use an embedded URL or pass --allowServer.");
+            System.exit(2);
+        }
+
+        int[] sizes = Arrays.stream(options.getOrDefault("rows", "10000,100000,1000000").split(","))
+                .mapToInt(s -> Integer.parseInt(s.trim())).sorted().toArray();
+        int batchSize = config.getBatchSize();
+        BenchmarkHarness harness = new BenchmarkHarness(DaoBenchmarks.class.getName(),
+                Integer.parseInt(options.getOrDefault("wi", "2")),
+                Integer.parseInt(options.getOrDefault("i", "5")),
+                Long.parseLong(options.getOrDefault("time", "1000")),
+                Pattern.compile(options.getOrDefault("include", ".")));
+
+        ContactDAO contacts = new ContactDAO();
+        UserDAO users = new UserDAO();
+        JdbcRunner jdbc = new JdbcRunner();
+        if (users.authenticate("bench", "bench") == null) {
+            users.addUser(new User("bench", "", "Bench", "User", Role.TESTER), "bench");
+        }
+        ContactGenerator generator = new ContactGenerator(SEED);
+        AtomicLong nextIndex = new AtomicLong();
+
+        try {
+            int seeded = contacts.countAll();
+            for (int rows : sizes) {
+                if (seeded < rows) {
+                    System.out.printf("Seeding %d contacts...%n", rows - seeded);
+                    for (int done = seeded; done < rows; done += 10_000) {
+                        contacts.addContacts(generate(generator, nextIndex, Math.min(10_000, rows - done)));
+                    }
+                    seeded = rows;
+                }
+                String size = String.valueOf(rows);
+
+                for (String column : SORT_COLUMNS) {
+                    harness.run("findAll", params("rows", size, "sortColumn", column), 1,
+                            () -> contacts.findAll(column, true));
+                }
+                harness.run("searchByField", params("rows", size, "field", "first_name"), 1,
+                        () -> contacts.searchByField("first_name", "li"));
+                harness.run("searchByField", params("rows", size, "field", "last_name"), 1,
+                        () -> contacts.searchByField("last_name", "an"));
+                harness.run("searchByField", params("rows", size, "field", "email"), 1,
+                        () -> contacts.searchByField("email", "sahin"));
+                for (int active = 1; active <= 5; active++) {
+                    SearchCriteria criteria = criteria(active);
+                    harness.run("searchByCriteria", params("rows", size, "criteria", String.valueOf(active)), 1,
+                            () -> contacts.searchByCriteria(criteria));
+                }
+                harness.run("getStats", params("rows", size), 1, contacts::getStats);
+                harness.run("authenticate", params("rows", size), 1, () -> users.authenticate("bench", "bench"));
+
+                // Inserts grow the table; remove what they added before the next size
+                int maxId = maxContactId(jdbc);
+                harness.run("addContact", params("rows", size), 1,
+                        () -> contacts.addContact(generator.contact(nextIndex.getAndIncrement())));
+                harness.run("addContactsBatched", params("rows", size, "batchSize", String.valueOf(batchSize)),
+                        batchSize, () -> contacts.addContacts(generate(generator, nextIndex, batchSize)));
+                deleteAbove(jdbc, maxId);
+            }
+        } finally {
+            DatabaseConnection.closeConnection();
+        }
+
+        harness.printSummary();
+        Path out = Path.of(options.getOrDefault("out", "dao-benchmarks.json"));
+        harness.writeJson(out);
+        System.out.println("Results written to " + out.toAbsolutePath());
+    }
+
+    /**
+     * Cumulative criteria sets, so each step adds exactly one predicate.
+     */
+    private static SearchCriteria criteria(int active) {
+        SearchCriteria criteria = new SearchCriteria();
+        criteria.setLastName("a");
+        if (active >= 2) {
+            criteria.setFirstName("e");
+        }
+        if (active >= 3) {
+            criteria.setBirthMonth(6);
+        }
+        if (active >= 4) {
+            criteria.setEmail("example");
+        }
+        if (active >= 5) {
+            criteria.setPhone("7");
+        }
+        return criteria;
+    }
+
+    private static List<Contact> generate(ContactGenerator generator, AtomicLong nextIndex, int count) {
+        long from = nextIndex.getAndAdd(count);
+        return generator.range(from, from + count);
+    }
+
+    private static int maxContactId(JdbcRunner jdbc) {
+        return jdbc.read("Max contact id", conn -> {
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(contact_id), 0) FROM contacts")) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        });
+    }
+
+    private static void deleteAbove(JdbcRunner jdbc, int maxId) {
+        jdbc.write("Remove benchmark inserts", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM contacts WHERE contact_id > ?")) {
+                stmt.setInt(1, maxId);
+                return stmt.executeUpdate();
+            }
+        });
+    }
+
+    private static Map<String, String> params(String... keyValues) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put(keyValues[i], keyValues[i + 1]);
+        }
+        return params;
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String name = args[i].substring(2);
+            if ("allowServer".equals(name)) {
+                options.put(name, "true");
+            } else if (i + 1 < args.length) {
+                options.put(name, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+        }
+        return options;
+    }
+}
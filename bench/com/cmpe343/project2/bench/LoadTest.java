@@ -0,0 +1,362 @@
+package com.cmpe343.project2.bench;
+
+import com.cmpe343.project2.command.AddContactCommand;
+import com.cmpe343.project2.command.CommandInvoker;
+import com.cmpe343.project2.command.DeleteContactCommand;
+import com.cmpe343.project2.command.UpdateContactCommand;
+import com.cmpe343.project2.dao.ContactDAO;
+import com.cmpe343.project2.dao.DataAccessException;
+import com.cmpe343.project2.dao.UserDAO;
+import com.cmpe343.project2.db.ContactGenerator;
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.db.DatabaseConnection;
+import com.cmpe343.project2.metrics.LatencyHistogram;
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.model.Role;
+import com.cmpe343.project2.model.SearchCriteria;
+import com.cmpe343.project2.model.User;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Workload driver that simulates many operators using the application at
+ * once. Each operator is a thread with its own {@link CommandInvoker} that
+ * loops over: pick an operation from the configured mix, run it against the
+ * DAO and Command layers exactly as the menus do, then pause for an
+ * exponentially distributed think time. After the warm-up period every
+ * operation's latency (think time excluded) goes into a
+ * {@link LatencyHistogram}, and the report shows throughput and percentiles
+ * per operation.
+ * <p>
+ * Operations: {@code list} (findAll with a random sort), {@code search}
+ * (single field), {@code multi} (two to four criteria), {@code add},
+ * {@code update}, {@code delete}, {@code undo}, {@code stats} and
+ * {@code login}. Updates and deletes pick random IDs of the seeded range, so
+ * some of them miss or conflict, as they would in production.
+ * <p>
+ * Like {@link DaoBenchmarks} it runs against an in-memory H2 database, with
+ * its query cache off, unless {@code cmpe343.db.url} is set, and refuses to write to a server database
+ * without {@code --allowServer}. Command messages are suppressed unless
+ * {@code --verbose} is given.
+ * <p>
+ * Usage: {@code java -cp out:bench-out:lib/*:<h2.jar> com.cmpe343.project2.bench.LoadTest
+ * [--operators 32] [--duration 60] [--warmup 10] [--think 250] [--rows 10000]
+ * [--mix list=15,search=25,multi=10,add=8,update=10,delete=4,undo=3,stats=5,login=20]
+ * [--seed 343] [--allowServer] [--verbose]}
+ */
+public final class LoadTest {
+
+    enum Operation {
+        LIST, SEARCH, MULTI, ADD, UPDATE, DELETE, UNDO, STATS, LOGIN
+    }
+
+    // H2 would otherwise answer repeated list and stats reads from its query cache
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:cmpe343load;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0";
+    private static final String DEFAULT_MIX =
+            "list=15,search=25,multi=10,add=8,update=10,delete=4,undo=3,stats=5,login=20";
+    private static final String[] SORT_COLUMNS = { "contact_id", "first_name", "last_name", "email",
+            "birth_date", "created_at" };
+    private static final String[] SEARCH_FIELDS = { "first_name", "last_name", "email" };
+    private static final String USERNAME = "load";
+
+    private final ContactDAO contacts = new ContactDAO();
+    private final UserDAO users = new UserDAO();
+    private final ContactGenerator generator;
+    private final Operation[] operations;
+    private final double[] cumulativeMix;
+    private final long thinkMillis;
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final AtomicLong nextIndex;
+    private final int highestId;
+    private volatile boolean measuring;
+    private volatile boolean running = true;
+
+    private LoadTest(ContactGenerator generator, Map<Operation, Double> mix, long thinkMillis, long firstIndex,
+            int highestId) {
+        this.generator = generator;
+        this.thinkMillis = thinkMillis;
+        this.nextIndex = new AtomicLong(firstIndex);
+        this.highestId = highestId;
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.cumulativeMix = new double[operations.length];
+        double total = mix.values().stream().mapToDouble(Double::doubleValue).sum();
+        double cumulative = 0;
+        for (int i = 0; i < operations.length; i++) {
+            cumulative += mix.get(operations[i]);
+            cumulativeMix[i] = cumulative / total;
+        }
+        for (Operation op : Operation.values()) {
+            latencies.put(op, new LatencyHistogram());
+            errors.put(op, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        if (System.getProperty("cmpe343.db.url") == null) {
+            System.setProperty("cmpe343.db.url", EMBEDDED_URL);
+        }
+        DatabaseConfig config = DatabaseConfig.get();
+        if (!config.getDialect().isEmbedded() && !options.containsKey("allowServer")) {
+            System.err.println("Refusing to load-test " + config.getJdbcUrl()
+                    + ": operators add, update and delete contacts. Use an embedded URL or pass --allowServer.");
+            System.exit(2);
+        }
+
+        int operators = Integer.parseInt(options.getOrDefault("operators", "32"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "60"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "10"));
+        long thinkMillis = Long.parseLong(options.getOrDefault("think", "250"));
+        int rows = Integer.parseInt(options.getOrDefault("rows", "10000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "343"));
+        Map<Operation, Double> mix = mix(options.getOrDefault("mix", DEFAULT_MIX));
+        boolean verbose = options.containsKey("verbose");
+
+        ContactGenerator generator = new ContactGenerator(seed);
+        LoadTest test;
+        try {
+            if (new UserDAO().authenticate(USERNAME, USERNAME) == null) {
+                new UserDAO().addUser(new User(USERNAME, "", "Load", "Operator", Role.MANAGER), USERNAME);
+            }
+            ContactDAO contacts = new ContactDAO();
+            int existing = contacts.countAll();
+            if (existing < rows) {
+                System.out.printf("Seeding %d contacts...%n", rows - existing);
+                for (long from = existing; from < rows; from += 10_000) {
+                    contacts.addContacts(generator.range(from, Math.min(rows, from + 10_000)));
+                }
+            }
+            int seeded = Math.max(1, Math.max(existing, rows));
+            // Added contacts continue the generator sequence after the seeded ones
+            test = new LoadTest(generator, mix, thinkMillis, seeded, seeded);
+            System.out.printf("Running %d operators for %d s (+%d s warm-up), think time %d ms, pool size %d%n",
+                    operators, durationSeconds, warmupSeconds, thinkMillis, config.getPoolSize());
+
+            PrintStream console = System.out;
+            if (!verbose) {
+                System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            }
+            long elapsedNanos;
+            try {
+                elapsedNanos = test.run(operators, warmupSeconds, durationSeconds, seed);
+            } finally {
+                System.setOut(console);
+            }
+            test.report(elapsedNanos);
+        } finally {
+            DatabaseConnection.closeConnection();
+        }
+    }
+
+    /**
+     * Starts the operators, measures for the given duration after the
+     * warm-up and stops them.
+     *
+     * @return measured wall-clock time in nanoseconds
+     */
+    private long run(int operators, long warmupSeconds, long durationSeconds, long seed)
+            throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(operators);
+        for (int i = 0; i < operators; i++) {
+            SplittableRandom random = new SplittableRandom(seed * 31 + i);
+            Thread t = new Thread(() -> {
+                try {
+                    operate(random);
+                } finally {
+                    done.countDown();
+                }
+            }, "operator-" + (i + 1));
+            t.setDaemon(true);
+            t.start();
+        }
+        Thread.sleep(warmupSeconds * 1000);
+        measuring = true;
+        long start = System.nanoTime();
+        Thread.sleep(durationSeconds * 1000);
+        measuring = false;
+        long elapsed = System.nanoTime() - start;
+        running = false;
+        // Not interrupted: an interrupt inside a JDBC call can break the connection. Stragglers in a long
+        // think time are daemons and are simply abandoned.
+        done.await(Math.max(5_000, 20 * thinkMillis), TimeUnit.MILLISECONDS);
+        return elapsed;
+    }
+
+    private void operate(SplittableRandom random) {
+        CommandInvoker invoker = new CommandInvoker();
+        while (running) {
+            Operation op = next(random);
+            long start = System.nanoTime();
+            try {
+                execute(op, invoker, random);
+            } catch (DataAccessException e) {
+                if (measuring) {
+                    errors.get(op).increment();
+                }
+            }
+            if (measuring) {
+                latencies.get(op).recordSince(start);
+            }
+            if (thinkMillis > 0) {
+                try {
+                    // Exponential think time, the usual model for independent users
+                    Thread.sleep((long) (-thinkMillis * Math.log(1 - random.nextDouble())));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void execute(Operation op, CommandInvoker invoker, SplittableRandom random) {
+        switch (op) {
+            case LIST:
+                contacts.findAll(SORT_COLUMNS[random.nextInt(SORT_COLUMNS.length)], random.nextBoolean());
+                break;
+            case SEARCH:
+                contacts.searchByField(SEARCH_FIELDS[random.nextInt(SEARCH_FIELDS.length)], term(random));
+                break;
+            case MULTI:
+                contacts.searchByCriteria(criteria(random));
+                break;
+            case ADD:
+                invoker.executeCommand(new AddContactCommand(contacts,
+                        generator.contact(nextIndex.getAndIncrement())));
+                break;
+            case UPDATE: {
+                Contact old = contacts.findById(1 + random.nextInt(highestId));
+                if (old != null) {
+                    Contact changed = new Contact(old);
+                    changed.setNickname(generator.contact(random.nextInt(highestId)).getFirstName());
+                    invoker.executeCommand(new UpdateContactCommand(contacts, old, changed));
+                }
+                break;
+            }
+            case DELETE: {
+                Contact victim = contacts.findById(1 + random.nextInt(highestId));
+                if (victim != null) {
+                    invoker.executeCommand(new DeleteContactCommand(contacts, victim));
+                }
+                break;
+            }
+            case UNDO:
+                if (invoker.canUndo()) {
+                    invoker.undoLastCommand();
+                }
+                break;
+            case STATS:
+                contacts.getStats();
+                break;
+            case LOGIN:
+                users.authenticate(USERNAME, USERNAME);
+                break;
+        }
+    }
+
+    /**
+     * Short prefix of a generated name, so search terms follow the same skew
+     * as the stored data.
+     */
+    private String term(SplittableRandom random) {
+        String name = generator.contact(random.nextInt(highestId)).getLastName();
+        return name.substring(0, Math.min(name.length(), 2 + random.nextInt(3)));
+    }
+
+    private SearchCriteria criteria(SplittableRandom random) {
+        Contact sample = generator.contact(random.nextInt(highestId));
+        SearchCriteria criteria = new SearchCriteria();
+        criteria.setLastName(sample.getLastName().substring(0, 2));
+        criteria.setFirstName(sample.getFirstName().substring(0, 1));
+        int extra = random.nextInt(3);
+        if (extra >= 1) {
+            criteria.setBirthMonth(1 + random.nextInt(12));
+        }
+        if (extra >= 2) {
+            criteria.setPhone(String.valueOf(random.nextInt(10)));
+        }
+        return criteria;
+    }
+
+    private Operation next(SplittableRandom random) {
+        double u = random.nextDouble();
+        for (int i = 0; i < cumulativeMix.length; i++) {
+            if (u < cumulativeMix[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        LatencyHistogram all = new LatencyHistogram();
+        long allErrors = 0;
+        System.out.printf("%n%-8s %9s %8s %9s %9s %9s %9s %9s %9s %9s%n", "op", "count", "errors", "ops/s",
+                "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation op : operations) {
+            LatencyHistogram h = latencies.get(op);
+            long failed = errors.get(op).sum();
+            all.add(h);
+            allErrors += failed;
+            row(op.name().toLowerCase(Locale.ROOT), h, failed, seconds);
+        }
+        row("total", all, allErrors, seconds);
+    }
+
+    private static void row(String name, LatencyHistogram h, long failed, double seconds) {
+        System.out.printf("%-8s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, h.count(), failed,
+                h.count() / seconds, h.mean() / 1e6, h.percentile(50) / 1e6, h.percentile(90) / 1e6,
+                h.percentile(99) / 1e6, h.percentile(99.9) / 1e6, h.max() / 1e6);
+    }
+
+    private static Map<Operation, Double> mix(String spec) {
+        Map<Operation, Double> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry: " + part);
+            }
+            double weight = Double.parseDouble(kv[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight: " + part);
+            }
+            if (weight > 0) {
+                mix.put(Operation.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix is empty");
+        }
+        return mix;
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String name = args[i].substring(2);
+            if ("allowServer".equals(name) || "verbose".equals(name)) {
+                options.put(name, "true");
+            } else if (i + 1 < args.length) {
+                options.put(name, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+        }
+        return options;
+    }
+}
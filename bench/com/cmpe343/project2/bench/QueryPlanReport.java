@@ -0,0 +1,178 @@
+package com.cmpe343.project2.bench;
+
+import com.cmpe343.project2.dao.dialect.SqlDialect;
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.db.DatabaseConnection;
+import com.cmpe343.project2.db.migration.Migrations;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Before/after report for the index pack. Every slow query path of the DAOs is
+ * executed twice against the configured database: once with the index pack
+ * hidden from the optimizer ({@code IGNORE INDEX} on MySQL, {@code USE INDEX ()}
+ * on H2) and once normally. For each run the report prints the plan and the
+ * median latency, so the effect of each index can be read off directly. The
+ * schema is never modified.
+ * <p>
+ * Every execution prepares its statement afresh. H2 otherwise hands back the
+ * previous result of a prepared query whose parameters and data did not
+ * change, which reports cache hits instead of plans; for the same reason the
+ * report opens its own H2 connection with {@code QUERY_CACHE_SIZE=0}.
+ * <p>
+ * A run on H2 with 100K generated contacts is kept in
+ * {@code bench/results/query-plan-report-h2.txt}. No MySQL run has been
+ * recorded, so the index pack's effect on MySQL is not measured yet.
+ * <p>
+ * Usage: {@code java -cp out:bench-out:<driver.jar> com.cmpe343.project2.bench.QueryPlanReport [iterations]}
+ * (default 20). Seed a realistic volume first, e.g. with the data generator.
+ */
+public final class QueryPlanReport {
+
+    private static final String FULL = "contact_id, first_name, middle_name, last_name, nickname, phone_primary,"
+            + " phone_secondary, email, linkedin_url, birth_date, created_at, updated_at, version";
+    // An embedded engine is compiled by the JIT along with the queries, so it needs a long warm-up
+    private static final int WARMUP = 10;
+
+    private QueryPlanReport() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        DatabaseConfig config = DatabaseConfig.load();
+        SqlDialect dialect = config.getDialect();
+
+        List<QueryPath> paths = List.of(
+                new QueryPath("findAll FULL by last_name", "SELECT " + FULL + " FROM contacts ORDER BY last_name ASC"),
+                new QueryPath("findAll FULL by birth_date", "SELECT " + FULL + " FROM contacts ORDER BY birth_date ASC"),
+                new QueryPath("searchByCriteria birth month",
+                        "SELECT " + FULL + " FROM contacts WHERE 1=1 AND birth_month = ?", 3),
+                new QueryPath("upcoming birthdays over year end",
+                        "SELECT " + FULL + " FROM contacts WHERE birth_mmdd BETWEEN ? AND ? OR birth_mmdd BETWEEN ? AND ?"
+                                + " ORDER BY CASE WHEN birth_mmdd >= ? THEN 0 ELSE 1 END, birth_mmdd, contact_id",
+                        1220, 1231, 101, 110, 1220),
+                new QueryPath("stats oldest birth date", "SELECT MIN(birth_date) FROM contacts"));
+
+        // The pool applies pending migrations, so the index pack exists before it is looked up
+        DatabaseConnection.getConnection().close();
+        try (Connection conn = open(config)) {
+            List<String> pack = new ArrayList<>();
+            for (String name : Migrations.indexPackNames()) {
+                if (Migrations.indexExists(conn, "contacts", name)) {
+                    pack.add(name);
+                }
+            }
+            System.out.println("Engine: " + dialect.name() + ", contacts: " + countContacts(conn) + ", iterations: "
+                    + iterations + " after " + WARMUP + " warm-up runs, JDK " + System.getProperty("java.version"));
+            System.out.println("Index pack present: " + (pack.isEmpty() ? "none (run migrations first)" : pack));
+            System.out.println();
+
+            System.out.printf("%-32s %14s %14s %9s%n", "query path", "before ms", "after ms", "speedup");
+            List<String> plans = new ArrayList<>();
+            for (QueryPath path : paths) {
+                String before = hideIndexes(path.sql, pack, dialect);
+                double beforeMs = medianMillis(conn, before, path.params, iterations);
+                double afterMs = medianMillis(conn, path.sql, path.params, iterations);
+                System.out.printf("%-32s %14.3f %14.3f %8.1fx%n", path.name, beforeMs, afterMs, beforeMs / afterMs);
+                plans.add("== " + path.name + "\n-- before\n" + explain(conn, before, path.params)
+                        + "-- after\n" + explain(conn, path.sql, path.params));
+            }
+            System.out.println();
+            plans.forEach(System.out::println);
+        } finally {
+            DatabaseConnection.closeConnection();
+        }
+    }
+
+    private static Connection open(DatabaseConfig config) throws SQLException {
+        if ("H2".equals(config.getDialect().name())) {
+            // The setting only applies when the database is opened, so the pool's session must go first
+            DatabaseConnection.closeConnection();
+            return DriverManager.getConnection(config.getJdbcUrl() + ";QUERY_CACHE_SIZE=0", config.getUser(),
+                    config.getPassword());
+        }
+        return DatabaseConnection.getConnection();
+    }
+
+    private static int countContacts(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM contacts");
+                ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+        private static String hideIndexes(String sql, List<String> pack, SqlDialect dialect) {
+        if (pack.isEmpty()) {
+            return sql;
+        }
+        String hint = "MySQL".equals(dialect.name()) ? " IGNORE INDEX (" + String.join(", ", pack) + ")"
+                : " USE INDEX ()";
+        return sql.replaceFirst("FROM contacts", "FROM contacts" + hint);
+    }
+
+    private static double medianMillis(Connection conn, String sql, Object[] params, int iterations)
+            throws SQLException {
+        double[] samples = new double[iterations];
+        for (int i = 0; i < WARMUP + iterations; i++) {
+            long start = System.nanoTime();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                bind(stmt, params);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getObject(1);
+                    }
+                }
+            }
+            if (i >= WARMUP) {
+                samples[i - WARMUP] = (System.nanoTime() - start) / 1e6;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[iterations / 2];
+    }
+
+    private static String explain(Connection conn, String sql, Object[] params) throws SQLException {
+        StringBuilder out = new StringBuilder();
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + sql)) {
+            bind(stmt, params);
+            try (ResultSet rs = stmt.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                while (rs.next()) {
+                    List<String> cells = new ArrayList<>();
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        cells.add(meta.getColumnLabel(i) + "=" + rs.getString(i));
+                    }
+                    out.append(cells.stream().collect(Collectors.joining(", "))).append('\n');
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static void bind(PreparedStatement stmt, Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            stmt.setObject(i + 1, params[i]);
+        }
+    }
+
+    private static final class QueryPath {
+        final String name;
+        final String sql;
+        final Object[] params;
+
+        QueryPath(String name, String sql, Object... params) {
+            this.name = name;
+            this.sql = sql;
+            this.params = params;
+        }
+    }
+}
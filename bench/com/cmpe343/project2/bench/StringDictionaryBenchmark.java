@@ -0,0 +1,157 @@
+package com.cmpe343.project2.bench;
+
+import com.cmpe343.project2.dao.StringDictionary;
+import com.cmpe343.project2.model.Contact;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Heap benchmark for {@link StringDictionary}: builds a large in-memory
+ * {@code findAll} result the way {@code ContactDAO.mapRowToContact} does,
+ * once with a fresh {@code String} per column (as the driver returns them)
+ * and once through the dictionary, then compares retained heap and mapping
+ * time. Names follow a Zipfian distribution over a pool of distinct values.
+ * No database is needed.
+ * <p>
+ * Usage: {@code java -cp out:bench-out com.cmpe343.project2.bench.StringDictionaryBenchmark
+ * [rows] [distinctNames] [dictionarySize]} (defaults 1000000, 5000, 4096).
+ * Run with a fixed heap, e.g. {@code -Xms2g -Xmx2g}, for stable numbers.
+ */
+public final class StringDictionaryBenchmark {
+
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private StringDictionaryBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int distinct = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        int dictionarySize = args.length > 2 ? Integer.parseInt(args[2]) : 4_096;
+
+        String[] firstNames = namePool("First", distinct);
+        String[] lastNames = namePool("Last", distinct);
+        double[] cumulative = zipfCumulative(distinct);
+
+        // Warm-up so both measured runs see compiled code
+        build(rows / 10, firstNames, lastNames, cumulative, null);
+        build(rows / 10, firstNames, lastNames, cumulative, new StringDictionary(dictionarySize));
+
+        Result baseline = measure(rows, firstNames, lastNames, cumulative, null);
+        StringDictionary dictionary = new StringDictionary(dictionarySize);
+        Result interned = measure(rows, firstNames, lastNames, cumulative, dictionary);
+
+        System.out.printf("rows=%d distinctNames=%d dictionarySize=%d zipfExponent=%.2f%n", rows, distinct,
+                dictionarySize, ZIPF_EXPONENT);
+        System.out.printf("%-12s %14s %12s %12s%n", "variant", "retained MB", "bytes/row", "map ms");
+        print("baseline", baseline, rows);
+        print("dictionary", interned, rows);
+        System.out.printf("saved: %.1f MB (%.1f%%), %s%n",
+                (baseline.retainedBytes - interned.retainedBytes) / 1e6,
+                100.0 * (baseline.retainedBytes - interned.retainedBytes) / baseline.retainedBytes, dictionary);
+    }
+
+    private static Result measure(int rows, String[] firstNames, String[] lastNames, double[] cumulative,
+            StringDictionary dictionary) {
+        long before = usedHeapAfterGc();
+        long start = System.nanoTime();
+        List<Contact> result = build(rows, firstNames, lastNames, cumulative, dictionary);
+        long elapsed = System.nanoTime() - start;
+        long after = usedHeapAfterGc();
+        if (result.size() != rows) {
+            throw new IllegalStateException("unexpected result size");
+        }
+        return new Result(after - before, elapsed / 1_000_000);
+    }
+
+    private static List<Contact> build(int rows, String[] firstNames, String[] lastNames, double[] cumulative,
+            StringDictionary dictionary) {
+        Random random = new Random(42);
+        List<Contact> list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String first = fresh(firstNames[sample(cumulative, random)]);
+            String last = fresh(lastNames[sample(cumulative, random)]);
+            String nickname = fresh(first.substring(0, 2));
+            if (dictionary != null) {
+                first = dictionary.canonical(first);
+                last = dictionary.canonical(last);
+                nickname = dictionary.canonical(nickname);
+            }
+            Contact c = new Contact();
+            c.setContactId(i + 1);
+            c.setFirstName(first);
+            c.setLastName(last);
+            c.setNickname(nickname);
+            list.add(c);
+        }
+        return list;
+    }
+
+    /** A new instance with its own backing array, as decoded by the JDBC driver. */
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static String[] namePool(String prefix, int size) {
+        String[] pool = new String[size];
+        for (int i = 0; i < size; i++) {
+            pool[i] = prefix + Integer.toString(i, 36);
+        }
+        return pool;
+    }
+
+    private static double[] zipfCumulative(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int k = 0; k < size; k++) {
+            sum += 1.0 / Math.pow(k + 1, ZIPF_EXPONENT);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < size; k++) {
+            cumulative[k] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int sample(double[] cumulative, Random random) {
+        double u = random.nextDouble();
+        int lo = 0;
+        int hi = cumulative.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] < u) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void print(String variant, Result result, int rows) {
+        System.out.printf("%-12s %14.1f %12.1f %12d%n", variant, result.retainedBytes / 1e6,
+                (double) result.retainedBytes / rows, result.elapsedMillis);
+    }
+
+    private static final class Result {
+        final long retainedBytes;
+        final long elapsedMillis;
+
+        Result(long retainedBytes, long elapsedMillis) {
+            this.retainedBytes = retainedBytes;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+}
@@ -25,9 +25,39 @@ CREATE TABLE IF NOT EXISTS contacts (
     linkedin_url VARCHAR(255),
     birth_date DATE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    -- Optimistic lock counter: UPDATEs compare-and-set on it instead of taking row locks
+    version INT NOT NULL DEFAULT 0,
+    -- Birthday search keys, computed from birth_date whenever it is written
+    birth_month SMALLINT GENERATED ALWAYS AS (MONTH(birth_date)) STORED,
+    birth_mmdd SMALLINT GENERATED ALWAYS AS (MONTH(birth_date) * 100 + DAYOFMONTH(birth_date)) STORED,
+    -- Sorting by birth date and the MIN/MAX statistics
+    INDEX idx_contacts_birth_date (birth_date),
+    -- Month search and upcoming birthdays compare the stored columns, not MONTH(birth_date)
+    INDEX idx_contacts_birth_month (birth_month),
+    INDEX idx_contacts_birth_mmdd (birth_mmdd)
 );
 
+-- Phone lookup: both numbers of every contact as digits and reversed digits,
+-- so "ends with 4567" is the index prefix range reversed_digits LIKE '7654%'
+CREATE TABLE IF NOT EXISTS contact_phones (
+    contact_id INT NOT NULL,
+    kind CHAR(1) NOT NULL, -- P = primary, S = secondary
+    digits VARCHAR(20) NOT NULL,
+    reversed_digits VARCHAR(20) NOT NULL,
+    PRIMARY KEY (contact_id, kind),
+    INDEX idx_contact_phones_reversed (reversed_digits, contact_id),
+    CONSTRAINT fk_contact_phones_contact FOREIGN KEY (contact_id)
+        REFERENCES contacts (contact_id) ON DELETE CASCADE
+);
+
+-- Upgrading an existing installation: nothing to run by hand. On startup the
+-- application applies the versioned migrations in
+-- com.cmpe343.project2.db.migration (recorded in schema_migrations), which add
+-- the version column, the birthday columns, the phone lookup table and the
+-- indexes above where they are missing, and drop the projection indexes of
+-- earlier releases.
+
 -- Insert Required Users (Password is '1234' hashed, or specific project passwords)
 -- Note: In the Java code, we will handle the hashing. 
 -- For initial setup, we will rely on the Java App's "Seeder" or manual insertion.
\ No newline at end of file
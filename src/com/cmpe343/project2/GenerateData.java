@@ -0,0 +1,147 @@
+package com.cmpe343.project2;
+
+import com.cmpe343.project2.dao.ContactDAO;
+import com.cmpe343.project2.dao.DataAccessException;
+import com.cmpe343.project2.db.ContactGenerator;
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.db.DatabaseConnection;
+import com.cmpe343.project2.util.ConsoleColors;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Command-line entry point that fills the configured database with synthetic
+ * contacts from a {@link ContactGenerator}, for reproducing performance
+ * problems at production scale. The run follows these steps:
+ * <ol>
+ * <li>Load and validate the configuration exactly like {@link Main}.</li>
+ * <li>Split the index range into chunks and generate them on worker
+ *     threads; at most two chunks per thread are in memory at once, so tens
+ *     of millions of rows stream through a small heap.</li>
+ * <li>Insert each chunk with {@link ContactDAO#addContacts}, i.e. in JDBC
+ *     batches of {@code db.batchSize} rows, and report progress.</li>
+ * </ol>
+ * The same seed and index range always produce the same contacts, although
+ * parallel chunks may receive their IDs in a different order; use
+ * {@code --threads 1} when IDs must match too. {@code --start} continues an
+ * earlier run, e.g. {@code --start 1000000 --count 1000000} adds the second
+ * million of the same data set.
+ * <p>
+ * Usage: {@code java -cp out:lib/* com.cmpe343.project2.GenerateData --count N
+ * [--seed 343] [--start 0] [--threads 4] [--chunk 10000] [--names 5000]
+ * [--zipf 1.07]}
+ */
+public class GenerateData {
+
+    public static void main(String[] args) {
+        long count;
+        long seed;
+        long start;
+        int threads;
+        int chunk;
+        int names;
+        double zipf;
+        try {
+            count = Long.parseLong(option(args, "count", null));
+            seed = Long.parseLong(option(args, "seed", "343"));
+            start = Long.parseLong(option(args, "start", "0"));
+            threads = Integer.parseInt(option(args, "threads", "4"));
+            chunk = Integer.parseInt(option(args, "chunk", "10000"));
+            names = Integer.parseInt(option(args, "names", "5000"));
+            zipf = Double.parseDouble(option(args, "zipf", "1.07"));
+            if (count < 0 || start < 0 || threads < 1 || chunk < 1 || names < 1 || zipf <= 0) {
+                throw new IllegalArgumentException("count and start must not be negative; threads, chunk, names"
+                        + " and zipf must be positive");
+            }
+        } catch (IllegalArgumentException | NullPointerException e) {
+            ConsoleColors.printError("Invalid arguments: " + e.getMessage());
+            ConsoleColors.printInfo("Usage: GenerateData --count N [--seed 343] [--start 0] [--threads 4]"
+                    + " [--chunk 10000] [--names 5000] [--zipf 1.07]");
+            System.exit(2);
+            return;
+        }
+
+        try {
+            DatabaseConfig.load();
+        } catch (IllegalStateException e) {
+            ConsoleColors.printError(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        if (threads > DatabaseConfig.get().getPoolSize()) {
+            ConsoleColors.printWarning("Only " + DatabaseConfig.get().getPoolSize()
+                    + " connections are pooled (db.pool.size); extra threads will wait for one.");
+        }
+
+        ContactGenerator generator = new ContactGenerator(seed, names, zipf);
+        ContactDAO contacts = new ContactDAO();
+        ConsoleColors.printInfo(String.format("Generating %,d contacts (seed %d, indexes %,d-%,d) on %d threads...",
+                count, seed, start, start + count - 1, threads));
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        Semaphore inFlight = new Semaphore(threads * 2);
+        AtomicLong inserted = new AtomicLong();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        long began = System.nanoTime();
+        long reportEvery = Math.max(chunk, count / 20);
+
+        try {
+            for (long from = start; from < start + count && failure.get() == null; from += chunk) {
+                long to = Math.min(start + count, from + chunk);
+                inFlight.acquireUninterruptibly();
+                long chunkFrom = from;
+                workers.execute(() -> {
+                    try {
+                        int added = contacts.addContacts(generator.range(chunkFrom, to));
+                        long total = inserted.addAndGet(added);
+                        if (total / reportEvery != (total - added) / reportEvery) {
+                            double seconds = (System.nanoTime() - began) / 1e9;
+                            ConsoleColors.printInfo(String.format("%,d / %,d contacts (%,.0f rows/s)", total, count,
+                                    total / seconds));
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        } finally {
+            DatabaseConnection.closeConnection();
+        }
+
+        double seconds = (System.nanoTime() - began) / 1e9;
+        if (failure.get() != null) {
+            RuntimeException e = failure.get();
+            ConsoleColors.printError(String.format("Stopped after %,d contacts: %s", inserted.get(), e.getMessage()));
+            if (!(e instanceof DataAccessException)) {
+                e.printStackTrace();
+            }
+            System.exit(1);
+        }
+        ConsoleColors.printSuccess(String.format("Inserted %,d contacts in %.1f s (%,.0f rows/s).", inserted.get(),
+                seconds, inserted.get() / Math.max(seconds, 1e-9)));
+    }
+
+    private static String option(String[] args, String name, String fallback) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("--" + name)) {
+                return args[i + 1];
+            }
+        }
+        if (fallback == null) {
+            throw new IllegalArgumentException("--" + name + " is required");
+        }
+        return fallback;
+    }
+}
@@ -1,9 +1,36 @@
 package com.cmpe343.project2;
 
+import com.cmpe343.project2.batch.BatchRunner;
+import com.cmpe343.project2.config.MetricsConfig;
+import com.cmpe343.project2.config.UiConfig;
+import com.cmpe343.project2.dao.ContactRepository;
+import com.cmpe343.project2.dao.DaoThreadPool;
+import com.cmpe343.project2.dao.DataAccessException;
+import com.cmpe343.project2.dao.UserDAO;
 import com.cmpe343.project2.db.DataSeeder;
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.db.DatabaseConnection;
+import com.cmpe343.project2.metrics.MetricsRegistry;
+import com.cmpe343.project2.model.User;
+import com.cmpe343.project2.service.SessionContext;
 import com.cmpe343.project2.ui.MenuSystem;
 import com.cmpe343.project2.util.ConsoleColors;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * CMPE 343 - Project 2
  * Advanced Java Programming with Object-Oriented Paradigms and Database
@@ -12,12 +39,30 @@ import com.cmpe343.project2.util.ConsoleColors;
  * Main entry point responsible for orchestrating application startup. The
  * method performs the following steps in order:
  * <ol>
- * <li>Seed baseline data via {@link com.cmpe343.project2.db.DataSeeder} so the
- *     UI can be explored immediately.</li>
- * <li>Create the {@link com.cmpe343.project2.ui.MenuSystem} controller.</li>
- * <li>Delegate user interaction by invoking
- *     {@link com.cmpe343.project2.ui.MenuSystem#start()}.</li>
+ * <li>Load and validate the database configuration via
+ *     {@link com.cmpe343.project2.db.DatabaseConfig} so that a bad setting
+ *     stops the application before anything else happens.</li>
+ * <li>Publish the metrics MBean and, when {@code metrics.logIntervalSeconds}
+ *     is set, start the periodic metrics summary.</li>
+ * <li>Create the {@link com.cmpe343.project2.dao.ContactRepository} selected
+ *     by the configuration.</li>
+ * <li>On a background thread, open the connection pools with
+ *     {@code db.pool.warmUp} connections each, then seed baseline data via
+ *     {@link com.cmpe343.project2.db.DataSeeder} so the UI can be explored
+ *     immediately.</li>
+ * <li>Meanwhile, create the {@link com.cmpe343.project2.ui.MenuSystem}
+ *     controller and delegate user interaction to it; its first prompt waits
+ *     for the background work.</li>
+ * <li>Report the time from JVM launch to that prompt as
+ *     {@code cmpe343_startup_seconds}, warning when it exceeds
+ *     {@code metrics.startupTargetMillis}.</li>
  * </ol>
+ * Started as {@code Main --batch <script|-> --user <name>}, it runs a script
+ * of commands through {@link com.cmpe343.project2.batch.BatchRunner} instead
+ * of the menus. The password is read from {@code CMPE343_BATCH_PASSWORD}.
+ * Results go to standard output as JSON Lines; everything meant for people
+ * goes to standard error. The exit status is 0 when every command
+ * succeeded, 1 when some failed and 2 when the batch could not start.
  *
  * @author Raul Ibrahimov
  * @author Akhmed Nazarov
@@ -26,20 +71,160 @@ import com.cmpe343.project2.util.ConsoleColors;
  */
 public class Main {
 
+    private static final String BATCH_PASSWORD_ENV = "CMPE343_BATCH_PASSWORD";
+
     public static void main(String[] args) {
+        boolean batch = args.length > 0 && args[0].equals("--batch");
+        PrintStream results = System.out;
+        if (batch) {
+            // Standard output carries only machine-readable results
+            System.setOut(System.err);
+        }
+
+        // 0. Resolve configuration (file, environment, system properties) and validate it
+        try {
+            DatabaseConfig.load();
+            UiConfig.load();
+            MetricsConfig.load();
+        } catch (IllegalStateException e) {
+            ConsoleColors.printError(e.getMessage());
+            if (batch) {
+                System.exit(2);
+            }
+            return;
+        }
+        startMetrics(MetricsConfig.get());
+
+        if (batch) {
+            System.exit(runBatch(Arrays.copyOfRange(args, 1, args.length), results));
+        }
+
         try {
             // 1. Initialize Database and Seed Data if necessary
             // This ensures the project requirements (50 records, 4 specific users) are met
             // immediately.
-            DataSeeder.seedData();
+            ContactRepository contacts = ContactRepository.fromConfig(DatabaseConfig.get());
+            CompletableFuture<Void> ready = CompletableFuture.runAsync(() -> {
+                warmUp();
+                DataSeeder.seedData(contacts);
+            }, Main::startupThread);
 
-            // 2. Launch the Menu System
-            MenuSystem menuSystem = new MenuSystem();
-            menuSystem.start();
+            // 2. Launch the Menu System while the database side gets ready
+            MenuSystem menuSystem = new MenuSystem(contacts);
+            menuSystem.start(ready, Main::reportStartup);
 
+        } catch (DataAccessException e) {
+            ConsoleColors.printError("Critical System Failure: " + e.getMessage());
+            ConsoleColors.printWarning("Ensure MySQL is running and the database 'cmpe343_project2' exists.");
         } catch (Exception e) {
             ConsoleColors.printError("Critical System Failure: " + e.getMessage());
             e.printStackTrace();
         }
     }
+
+    /**
+     * Runs a batch script and returns the process exit status.
+     */
+    private static int runBatch(String[] args, PrintStream results) {
+        String script = null;
+        String username = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--user") && i + 1 < args.length) {
+                username = args[++i];
+            } else if (script == null && !args[i].startsWith("--")) {
+                script = args[i];
+            } else {
+                script = null;
+                break;
+            }
+        }
+        String password = System.getenv(BATCH_PASSWORD_ENV);
+        if (script == null || username == null) {
+            ConsoleColors.printError("Usage: Main --batch <script file or - for stdin> --user <username>");
+            return 2;
+        }
+        if (password == null) {
+            ConsoleColors.printError("Set " + BATCH_PASSWORD_ENV + " to the password of '" + username + "'.");
+            return 2;
+        }
+
+        long start = System.nanoTime();
+        try (BufferedReader reader = script.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(script), StandardCharsets.UTF_8)) {
+            ContactRepository contacts = ContactRepository.fromConfig(DatabaseConfig.get());
+            warmUp();
+            DataSeeder.seedData(contacts);
+            User user = new UserDAO().authenticate(username, password);
+            if (user == null) {
+                ConsoleColors.printError("Invalid credentials for '" + username + "'.");
+                return 2;
+            }
+            SessionContext.getInstance().login(user);
+
+            Writer out = new BufferedWriter(new OutputStreamWriter(results, StandardCharsets.UTF_8), 64 * 1024);
+            BatchRunner runner = new BatchRunner(contacts, user.getRole(), out,
+                    2 * DatabaseConfig.get().getPoolSize());
+            int failed = runner.run(reader);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            ConsoleColors.printInfo(String.format("Batch finished: %d commands, %d failed, %.1f s (%.0f commands/s)",
+                    runner.getExecuted(), failed, seconds, runner.getExecuted() / Math.max(seconds, 1e-9)));
+            return failed == 0 ? 0 : 1;
+        } catch (IOException e) {
+            ConsoleColors.printError("Batch I/O failed: " + e.getMessage());
+            return 2;
+        } catch (DataAccessException e) {
+            ConsoleColors.printError("Critical System Failure: " + e.getMessage());
+            return 2;
+        } finally {
+            DaoThreadPool.shutdown();
+            DatabaseConnection.closeConnection();
+        }
+    }
+
+    /**
+     * Opens the pools ahead of the first query. Failures are ignored here:
+     * the next database call meets the same problem and reports it through
+     * the usual {@link DataAccessException} path.
+     */
+    private static void warmUp() {
+        try {
+            DatabaseConnection.warmUp();
+        } catch (SQLException ignored) {
+            // Reported by the first real query
+        }
+    }
+
+    private static void startupThread(Runnable task) {
+        Thread thread = new Thread(task, "startup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Records the time from JVM launch to the first prompt and warns when it
+     * misses the configured target.
+     */
+    private static void reportStartup() {
+        long millis = ManagementFactory.getRuntimeMXBean().getUptime();
+        MetricsRegistry.shared().gauge("cmpe343_startup_seconds", "Time from JVM launch to the first prompt",
+                () -> millis / 1000.0);
+        long target = MetricsConfig.get().getStartupTargetMillis();
+        if (target > 0 && millis > target) {
+            ConsoleColors.printWarning("Startup took " + millis + " ms (target " + target
+                    + " ms); check the database latency.");
+        }
+    }
+
+    private static void startMetrics(MetricsConfig config) {
+        MetricsRegistry metrics = MetricsRegistry.shared();
+        try {
+            metrics.registerMBean();
+        } catch (IllegalStateException e) {
+            ConsoleColors.printWarning(e.getMessage());
+        }
+        if (config.getLogIntervalSeconds() > 0) {
+            metrics.startPeriodicLog(config.getLogIntervalSeconds(), ConsoleColors::printInfo);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,464 @@
+package com.cmpe343.project2.batch;
+
+import com.cmpe343.project2.command.AddContactCommand;
+import com.cmpe343.project2.command.CommandInvoker;
+import com.cmpe343.project2.command.DeleteContactCommand;
+import com.cmpe343.project2.command.UpdateContactCommand;
+import com.cmpe343.project2.dao.ContactRepository;
+import com.cmpe343.project2.dao.DaoThreadPool;
+import com.cmpe343.project2.dao.DataAccessException;
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.model.Role;
+import com.cmpe343.project2.model.SearchCriteria;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs a script of contact operations without prompts, for nightly jobs and
+ * other automation. Each line is one command (see {@link ScriptLine} for the
+ * syntax; blank lines and lines starting with {@code #} are skipped):
+ * <ul>
+ * <li>{@code add field=value ...} - requires first_name, last_name and
+ *     phone_primary;</li>
+ * <li>{@code update <id> field=value ...} - changes only the given fields;</li>
+ * <li>{@code delete <id>};</li>
+ * <li>{@code search field=value ...} - first_name, last_name, phone, email
+ *     and birth_month combine as in the multi-field search; any other single
+ *     column is a partial match on that column;</li>
+ * <li>{@code export [sort=column] [order=asc|desc]} - every contact, fetched
+ *     page by page.</li>
+ * </ul>
+ * A column the contacts table cannot be searched or sorted by makes the
+ * command {@code invalid} instead of returning no matches or the default
+ * order.
+ * <p>
+ * Changes go through the same {@link com.cmpe343.project2.command.Command}
+ * classes as the menus and need the same roles. Writes are pipelined: up to
+ * {@code window} of them run at once on the {@link DaoThreadPool}, each on
+ * its own pooled connection, while the script keeps being read. Adds run
+ * alongside each other; an update or delete waits for earlier adds, which
+ * may be creating its contact, and for earlier commands on the same
+ * contact; searches and exports wait for all earlier writes. Results
+ * therefore match running the script line by line, except that contacts
+ * added in one run of adds may receive their IDs in a different order.
+ * <p>
+ * Output is JSON Lines in script order: one object per command with its
+ * {@code line}, {@code op} and {@code status} ({@code applied},
+ * {@code rejected}, {@code not_found}, {@code invalid}, {@code denied},
+ * {@code failed} or {@code ok}), plus {@code id}, {@code error},
+ * {@code count}, {@code contacts} or {@code contact} where they apply. An
+ * applied add reports the ID it was given.
+ */
+public final class BatchRunner {
+
+    private static final Map<String, BiConsumer<Contact, String>> FIELDS = new LinkedHashMap<>();
+    private static final Map<String, Role> REQUIRED_ROLES = new HashMap<>();
+    private static final Set<String> CRITERIA = Set.of("first_name", "last_name", "phone", "email", "birth_month");
+    /** Columns a single-field search or an export sort may name, as the DAOs accept them. */
+    private static final Set<String> COLUMNS = new LinkedHashSet<>();
+    private static final int EXPORT_PAGE_ROWS = 1000;
+
+    static {
+        FIELDS.put("first_name", Contact::setFirstName);
+        FIELDS.put("middle_name", Contact::setMiddleName);
+        FIELDS.put("last_name", Contact::setLastName);
+        FIELDS.put("nickname", Contact::setNickname);
+        FIELDS.put("phone_primary", Contact::setPhonePrimary);
+        FIELDS.put("phone_secondary", Contact::setPhoneSecondary);
+        FIELDS.put("email", Contact::setEmail);
+        FIELDS.put("linkedin_url", Contact::setLinkedinUrl);
+        FIELDS.put("birth_date", (c, value) -> c.setBirthDate(date(value)));
+
+        COLUMNS.add("contact_id");
+        COLUMNS.addAll(FIELDS.keySet());
+        COLUMNS.add("created_at");
+        COLUMNS.add("updated_at");
+
+        // Same permissions as the menus
+        REQUIRED_ROLES.put("search", Role.TESTER);
+        REQUIRED_ROLES.put("export", Role.TESTER);
+        REQUIRED_ROLES.put("update", Role.JUNIOR);
+        REQUIRED_ROLES.put("add", Role.SENIOR);
+        REQUIRED_ROLES.put("delete", Role.SENIOR);
+    }
+
+    private static final class Outcome {
+        final boolean ok;
+        final String json;
+
+        Outcome(boolean ok, String json) {
+            this.ok = ok;
+            this.json = json;
+        }
+    }
+
+    private static final class Pending {
+        final ScriptLine line;
+        final CompletableFuture<Outcome> outcome;
+
+        Pending(ScriptLine line, CompletableFuture<Outcome> outcome) {
+            this.line = line;
+            this.outcome = outcome;
+        }
+    }
+
+    private final ContactRepository contacts;
+    private final Role role;
+    private final Writer out;
+    private final int window;
+    private final CommandInvoker invoker = new CommandInvoker();
+    private final Deque<Pending> pending = new ArrayDeque<>();
+    private final Set<Integer> busyIds = new HashSet<>();
+    private int pendingAdds;
+    private int executed;
+    private int failed;
+
+    /**
+     * @param role   role of the authenticated user running the script
+     * @param out    receives the JSON Lines results; flushed, never closed
+     * @param window writes allowed in flight at once
+     */
+    public BatchRunner(ContactRepository contacts, Role role, Writer out, int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        this.contacts = contacts;
+        this.role = role;
+        this.out = out;
+        this.window = window;
+    }
+
+    /**
+     * Runs every command of the script and writes their results.
+     *
+     * @return number of commands that did not succeed
+     * @throws IOException when the script cannot be read or the results
+     *                     cannot be written
+     */
+    public int run(BufferedReader script) throws IOException {
+        String text;
+        int number = 0;
+        while ((text = script.readLine()) != null) {
+            number++;
+            String command = text.strip();
+            if (command.isEmpty() || command.startsWith("#")) {
+                continue;
+            }
+            ScriptLine line;
+            try {
+                line = ScriptLine.parse(number, command);
+            } catch (IllegalArgumentException e) {
+                enqueue(null, new Outcome(false, result(number, null, "invalid").put("error", e.getMessage())
+                        .toString()));
+                continue;
+            }
+            dispatch(line);
+        }
+        while (!pending.isEmpty()) {
+            writeHead();
+        }
+        out.flush();
+        return failed;
+    }
+
+    /**
+     * Commands run so far, failed ones included.
+     */
+    public int getExecuted() {
+        return executed;
+    }
+
+    private void dispatch(ScriptLine line) throws IOException {
+        Role required = REQUIRED_ROLES.get(line.operation);
+        if (required == null) {
+            enqueue(line, new Outcome(false, result(line, "invalid")
+                    .put("error", "Unknown operation; use add, update, delete, search or export").toString()));
+            return;
+        }
+        if (role.ordinal() < required.ordinal()) {
+            enqueue(line, new Outcome(false, result(line, "denied").put("error", "Requires role " + required)
+                    .toString()));
+            return;
+        }
+        switch (line.operation) {
+            case "add":
+                submit(line, () -> add(line));
+                break;
+            case "update":
+                submit(line, () -> update(line));
+                break;
+            case "delete":
+                submit(line, () -> delete(line));
+                break;
+            case "search":
+                // Reads must see every earlier write
+                while (!pending.isEmpty()) {
+                    writeHead();
+                }
+                write(guard(line, () -> search(line)));
+                break;
+            default:
+                while (!pending.isEmpty()) {
+                    writeHead();
+                }
+                export(line);
+                break;
+        }
+    }
+
+    private void submit(ScriptLine line, Supplier<Outcome> work) throws IOException {
+        if (line.contactId != null) {
+            // The contact may be one an earlier add is still creating
+            while (pendingAdds > 0 || busyIds.contains(line.contactId)) {
+                writeHead();
+            }
+        }
+        while (pending.size() >= window) {
+            writeHead();
+        }
+        if (line.contactId != null) {
+            busyIds.add(line.contactId);
+        } else {
+            pendingAdds++;
+        }
+        pending.add(new Pending(line, DaoThreadPool.submit(() -> guard(line, work))));
+    }
+
+    /**
+     * Queues an outcome known without running anything, keeping the output in
+     * script order.
+     */
+    private void enqueue(ScriptLine line, Outcome outcome) throws IOException {
+        if (pending.isEmpty()) {
+            write(outcome);
+        } else {
+            pending.add(new Pending(line, CompletableFuture.completedFuture(outcome)));
+        }
+    }
+
+    private void writeHead() throws IOException {
+        Pending head = pending.poll();
+        Outcome outcome;
+        try {
+            outcome = head.outcome.join();
+        } catch (CompletionException e) {
+            // The pool refused the task
+            outcome = failure(head.line, e.getCause() != null ? e.getCause() : e);
+        }
+        if (head.line != null && head.line.operation.equals("add")) {
+            pendingAdds--;
+        } else if (head.line != null && head.line.contactId != null) {
+            busyIds.remove(head.line.contactId);
+        }
+        write(outcome);
+    }
+
+    private void write(Outcome outcome) throws IOException {
+        executed++;
+        if (!outcome.ok) {
+            failed++;
+        }
+        out.write(outcome.json);
+        out.write('\n');
+    }
+
+    private Outcome guard(ScriptLine line, Supplier<Outcome> work) {
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            return failure(line, e);
+        }
+    }
+
+    private Outcome add(ScriptLine line) {
+        Contact c = new Contact();
+        apply(c, line.fields);
+        requireNames(c);
+        // The repository sets the assigned key on the contact, so the add costs
+        // one insert and its ID can be reported without a lookup
+        boolean applied = invoker.executeWithoutHistory(new AddContactCommand(contacts, c));
+        JsonLine json = result(line, applied ? "applied" : "rejected");
+        if (applied) {
+            json.put("id", c.getContactId());
+        }
+        return new Outcome(applied, json.toString());
+    }
+
+    private Outcome update(ScriptLine line) {
+        if (line.fields.isEmpty()) {
+            throw new IllegalArgumentException("update needs at least one field=value");
+        }
+        Contact current = contacts.findById(line.contactId);
+        if (current == null) {
+            return new Outcome(false, result(line, "not_found").toString());
+        }
+        Contact changed = new Contact(current);
+        apply(changed, line.fields);
+        requireNames(changed);
+        boolean applied = invoker.executeWithoutHistory(new UpdateContactCommand(contacts, current, changed));
+        return new Outcome(applied, result(line, applied ? "applied" : "rejected").toString());
+    }
+
+    private Outcome delete(ScriptLine line) {
+        if (!line.fields.isEmpty()) {
+            throw new IllegalArgumentException("delete takes only a contact ID");
+        }
+        Contact current = contacts.findById(line.contactId);
+        if (current == null) {
+            return new Outcome(false, result(line, "not_found").toString());
+        }
+        boolean applied = invoker.executeWithoutHistory(new DeleteContactCommand(contacts, current));
+        return new Outcome(applied, result(line, applied ? "applied" : "rejected").toString());
+    }
+
+    private Outcome search(ScriptLine line) {
+        List<Contact> found;
+        if (line.fields.isEmpty()) {
+            throw new IllegalArgumentException("search needs at least one field=value");
+        } else if (CRITERIA.containsAll(line.fields.keySet())) {
+            found = contacts.searchByCriteria(criteria(line.fields));
+        } else if (line.fields.size() == 1) {
+            Map.Entry<String, String> field = line.fields.entrySet().iterator().next();
+            // The DAOs return nothing for an unknown column, which would pass for "no matches"
+            requireColumn(field.getKey());
+            found = contacts.searchByField(field.getKey(), field.getValue());
+        } else {
+            throw new IllegalArgumentException("Only " + String.join(", ", CRITERIA)
+                    + " can be combined; other columns are searched one at a time");
+        }
+        return new Outcome(true, result(line, "ok").put("count", found.size()).put("contacts", found).toString());
+    }
+
+    /**
+     * Streams every contact as its own line, then a summary line, without
+     * holding more than one page.
+     */
+    private void export(ScriptLine line) throws IOException {
+        Outcome outcome;
+        try {
+            String sort = line.fields.getOrDefault("sort", "last_name").toLowerCase(Locale.ROOT);
+            // The DAOs would silently sort an unknown column by last_name
+            requireColumn(sort);
+            String order = line.fields.getOrDefault("order", "asc");
+            if (!order.equalsIgnoreCase("asc") && !order.equalsIgnoreCase("desc")) {
+                throw new IllegalArgumentException("order must be asc or desc");
+            }
+            if (!Set.of("sort", "order").containsAll(line.fields.keySet())) {
+                throw new IllegalArgumentException("export takes only sort and order");
+            }
+            int count = 0;
+            Contact last = null;
+            List<Contact> page;
+            do {
+                // Seek past the previous page, so deep pages cost no more than the first
+                page = contacts.findPageAfter(sort, order.equalsIgnoreCase("asc"), last, EXPORT_PAGE_ROWS);
+                for (Contact c : page) {
+                    out.write(new JsonLine().put("line", line.number).put("op", "export").put("contact", c)
+                            .toString());
+                    out.write('\n');
+                }
+                count += page.size();
+                last = page.isEmpty() ? last : page.get(page.size() - 1);
+            } while (page.size() == EXPORT_PAGE_ROWS);
+            outcome = new Outcome(true, result(line, "ok").put("count", count).toString());
+        } catch (RuntimeException e) {
+            outcome = failure(line, e);
+        }
+        write(outcome);
+        out.flush();
+    }
+
+    private static void apply(Contact c, Map<String, String> fields) {
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            BiConsumer<Contact, String> setter = FIELDS.get(field.getKey());
+            if (setter == null) {
+                throw new IllegalArgumentException("Unknown field '" + field.getKey() + "'; use one of "
+                        + String.join(", ", FIELDS.keySet()));
+            }
+            setter.accept(c, field.getValue());
+        }
+    }
+
+    private static void requireNames(Contact c) {
+        if (isBlank(c.getFirstName()) || isBlank(c.getLastName()) || isBlank(c.getPhonePrimary())) {
+            throw new IllegalArgumentException("first_name, last_name and phone_primary are required");
+        }
+    }
+
+    private static SearchCriteria criteria(Map<String, String> fields) {
+        SearchCriteria criteria = new SearchCriteria();
+        criteria.setFirstName(fields.get("first_name"));
+        criteria.setLastName(fields.get("last_name"));
+        criteria.setPhone(fields.get("phone"));
+        criteria.setEmail(fields.get("email"));
+        String month = fields.get("birth_month");
+        if (month != null) {
+            if (!month.matches("\\d{1,2}") || Integer.parseInt(month) < 1 || Integer.parseInt(month) > 12) {
+                throw new IllegalArgumentException("birth_month must be 1-12");
+            }
+            criteria.setBirthMonth(Integer.parseInt(month));
+        }
+        return criteria;
+    }
+
+    private static LocalDate date(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("birth_date must be yyyy-MM-dd but was '" + value + "'");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static void requireColumn(String column) {
+        if (!COLUMNS.contains(column)) {
+            throw new IllegalArgumentException("Unknown column '" + column + "'; use one of "
+                    + String.join(", ", COLUMNS));
+        }
+    }
+
+    private static Outcome failure(ScriptLine line, Throwable error) {
+        String status = error instanceof IllegalArgumentException ? "invalid" : "failed";
+        JsonLine json = result(line, status).put("error", String.valueOf(error.getMessage()));
+        if (error instanceof DataAccessException) {
+            json.put("transient", ((DataAccessException) error).isTransient());
+        }
+        return new Outcome(false, json.toString());
+    }
+
+    private static JsonLine result(ScriptLine line, String status) {
+        JsonLine json = result(line.number, line.operation, status);
+        if (line.contactId != null) {
+            json.put("id", line.contactId);
+        }
+        return json;
+    }
+
+    private static JsonLine result(int number, String operation, String status) {
+        return new JsonLine().put("line", number).put("op", operation).put("status", status);
+    }
+}
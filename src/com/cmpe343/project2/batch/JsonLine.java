@@ -0,0 +1,121 @@
+package com.cmpe343.project2.batch;
+
+import com.cmpe343.project2.model.Contact;
+
+import java.util.List;
+
+/**
+ * Builds one JSON object per output line (JSON Lines), so results can be
+ * consumed with standard tools such as {@code jq} without a JSON library on
+ * the application side. Only strings, numbers, booleans, null and contacts
+ * are needed.
+ */
+final class JsonLine {
+
+    private final StringBuilder json = new StringBuilder(128).append('{');
+
+    JsonLine put(String name, String value) {
+        name(name);
+        string(value);
+        return this;
+    }
+
+    JsonLine put(String name, long value) {
+        name(name);
+        json.append(value);
+        return this;
+    }
+
+    JsonLine put(String name, boolean value) {
+        name(name);
+        json.append(value);
+        return this;
+    }
+
+    JsonLine put(String name, Contact contact) {
+        name(name);
+        contact(contact);
+        return this;
+    }
+
+    JsonLine put(String name, List<Contact> contacts) {
+        name(name);
+        json.append('[');
+        for (int i = 0; i < contacts.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            contact(contacts.get(i));
+        }
+        json.append(']');
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return json + "}";
+    }
+
+    private void contact(Contact c) {
+        json.append("{\"id\":").append(c.getContactId());
+        field("first_name", c.getFirstName());
+        field("middle_name", c.getMiddleName());
+        field("last_name", c.getLastName());
+        field("nickname", c.getNickname());
+        field("phone_primary", c.getPhonePrimary());
+        field("phone_secondary", c.getPhoneSecondary());
+        field("email", c.getEmail());
+        field("linkedin_url", c.getLinkedinUrl());
+        field("birth_date", c.getBirthDate() == null ? null : c.getBirthDate().toString());
+        field("created_at", c.getCreatedAt() == null ? null : c.getCreatedAt().toString());
+        field("updated_at", c.getUpdatedAt() == null ? null : c.getUpdatedAt().toString());
+        json.append(",\"version\":").append(c.getVersion()).append('}');
+    }
+
+    private void field(String name, String value) {
+        json.append(",\"").append(name).append("\":");
+        string(value);
+    }
+
+    private void name(String name) {
+        if (json.length() > 1) {
+            json.append(',');
+        }
+        json.append('"').append(name).append("\":");
+    }
+
+    private void string(String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+}
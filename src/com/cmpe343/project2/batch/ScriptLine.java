@@ -0,0 +1,109 @@
+package com.cmpe343.project2.batch;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One command of a batch script, split into its operation, optional contact
+ * ID and {@code field=value} arguments. Tokens are separated by whitespace;
+ * double quotes keep spaces inside a value and a backslash escapes the next
+ * character within quotes:
+ *
+ * <pre>
+ * add first_name=Ayse last_name=Demir phone_primary=05321234567 nickname="Ayse D"
+ * update 42 email=ayse@example.com
+ * delete 42
+ * search last_name=Demir
+ * export sort=last_name order=desc
+ * </pre>
+ */
+final class ScriptLine {
+
+    final int number;
+    final String operation;
+    final Integer contactId;
+    final Map<String, String> fields;
+
+    private ScriptLine(int number, String operation, Integer contactId, Map<String, String> fields) {
+        this.number = number;
+        this.operation = operation;
+        this.contactId = contactId;
+        this.fields = fields;
+    }
+
+    /**
+     * Parses one non-blank script line.
+     *
+     * @param number 1-based line number, echoed in the output
+     * @throws IllegalArgumentException when the line is malformed
+     */
+    static ScriptLine parse(int number, String line) {
+        List<String> tokens = tokenize(line);
+        String operation = tokens.get(0).toLowerCase(Locale.ROOT);
+        int next = 1;
+        Integer contactId = null;
+        if (operation.equals("update") || operation.equals("delete")) {
+            if (tokens.size() < 2 || !tokens.get(1).matches("\\d{1,9}")) {
+                throw new IllegalArgumentException(operation + " needs a numeric contact ID");
+            }
+            contactId = Integer.parseInt(tokens.get(1));
+            next = 2;
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (String token : tokens.subList(next, tokens.size())) {
+            int eq = token.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected field=value but got '" + token + "'");
+            }
+            String field = token.substring(0, eq).toLowerCase(Locale.ROOT);
+            if (fields.put(field, token.substring(eq + 1)) != null) {
+                throw new IllegalArgumentException("Field '" + field + "' is given twice");
+            }
+        }
+        return new ScriptLine(number, operation, contactId, fields);
+    }
+
+    private static List<String> tokenize(String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean inToken = false;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '\\' && i + 1 < line.length()) {
+                    token.append(line.charAt(++i));
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    token.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                inToken = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                token.append(c);
+                inToken = true;
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quote");
+        }
+        if (inToken) {
+            tokens.add(token.toString());
+        }
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("Empty command");
+        }
+        return tokens;
+    }
+}
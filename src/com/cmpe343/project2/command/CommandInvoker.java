@@ -1,11 +1,20 @@
 package com.cmpe343.project2.command;
 
+import com.cmpe343.project2.dao.DataAccessException;
+import com.cmpe343.project2.metrics.MetricsRegistry;
+import com.cmpe343.project2.metrics.jfr.CommandExecutedEvent;
+import com.cmpe343.project2.metrics.jfr.CommandUndoneEvent;
 import com.cmpe343.project2.util.ConsoleColors;
 import java.util.Stack;
 
 /**
  * Invoker class in the Command Pattern.
  * Manages the execution history and performs the actual Undo logic.
+ * Database failures raised by a command are reported here, in one place.
+ * Every execute and undo is timed and counted by outcome in the shared
+ * {@link MetricsRegistry}, labelled with the command class, and emitted as a
+ * {@link CommandExecutedEvent} or {@link CommandUndoneEvent} while a flight
+ * recording is running, so the DAO events it caused nest inside it.
  */
 public class CommandInvoker {
     private final Stack<Command> commandHistory = new Stack<>();
@@ -14,8 +23,40 @@ public class CommandInvoker {
      * Executes a command and pushes it to the history stack if successful.
      */
     public void executeCommand(Command cmd) {
-        if (cmd.execute()) {
-            commandHistory.push(cmd);
+        try {
+            if (executeWithoutHistory(cmd)) {
+                commandHistory.push(cmd);
+            }
+        } catch (DataAccessException e) {
+            ConsoleColors.printError(e.getMessage());
+        }
+    }
+
+    /**
+     * Executes a command without recording it for undo, for callers that
+     * report failures themselves, such as batch scripts. Timed and counted
+     * like {@link #executeCommand(Command)}; safe to call from several
+     * threads.
+     *
+     * @return true if the command was applied
+     * @throws DataAccessException when the database fails
+     */
+    public boolean executeWithoutHistory(Command cmd) {
+        CommandExecutedEvent event = new CommandExecutedEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = "failed";
+        try {
+            boolean applied = cmd.execute();
+            outcome = applied ? "applied" : "rejected";
+            return applied;
+        } finally {
+            record(cmd, "execute", outcome, start);
+            if (event.shouldCommit()) {
+                event.command = cmd.getClass().getSimpleName();
+                event.outcome = outcome;
+                event.commit();
+            }
         }
     }
 
@@ -29,7 +70,32 @@ public class CommandInvoker {
         }
 
         Command lastCmd = commandHistory.pop();
-        lastCmd.undo();
+        CommandUndoneEvent event = new CommandUndoneEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = "applied";
+        try {
+            lastCmd.undo();
+        } catch (DataAccessException e) {
+            outcome = "failed";
+            ConsoleColors.printError("Undo Failed: " + e.getMessage());
+        } finally {
+            record(lastCmd, "undo", outcome, start);
+            if (event.shouldCommit()) {
+                event.command = lastCmd.getClass().getSimpleName();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private static void record(Command cmd, String action, String outcome, long startNanos) {
+        MetricsRegistry metrics = MetricsRegistry.shared();
+        String command = cmd.getClass().getSimpleName();
+        metrics.histogram("cmpe343_command_duration_seconds", "Duration of command executions and undos",
+                "command", command, "action", action).recordSince(startNanos);
+        metrics.counter("cmpe343_commands_total", "Command executions and undos by outcome",
+                "command", command, "action", action, "outcome", outcome).increment();
     }
 
     /**
@@ -0,0 +1,34 @@
+package com.cmpe343.project2.command;
+
+import com.cmpe343.project2.model.Contact;
+
+/**
+ * Hook invoked by {@link UpdateContactCommand} when an optimistic update loses
+ * the race against another operator. The resolver receives three snapshots of
+ * the same contact and decides how the retry should look:
+ * <ol>
+ * <li>{@code base} - the state the operator started editing from.</li>
+ * <li>{@code mine} - the state the operator wants to write.</li>
+ * <li>{@code current} - the state now stored, including its new version.</li>
+ * </ol>
+ * Returning a contact retries the update with that state; returning
+ * {@code null} gives up and reports the conflict to the user.
+ */
+@FunctionalInterface
+public interface ConflictResolver {
+
+    /**
+     * Resolver that never retries; every conflict is reported as-is.
+     */
+    ConflictResolver REJECT = (base, mine, current) -> null;
+
+    /**
+     * Produces the state to retry with, or null to abandon the update.
+     *
+     * @param base    snapshot the edit was based on
+     * @param mine    snapshot the caller tried to write
+     * @param current snapshot currently stored in the database
+     * @return merged contact carrying {@code current}'s version, or null
+     */
+    Contact resolve(Contact base, Contact mine, Contact current);
+}
@@ -1,6 +1,6 @@
 package com.cmpe343.project2.command;
 
-import com.cmpe343.project2.dao.ContactDAO;
+import com.cmpe343.project2.dao.ContactRepository;
 import com.cmpe343.project2.model.Contact;
 import com.cmpe343.project2.util.ConsoleColors;
 
@@ -9,10 +9,10 @@ import com.cmpe343.project2.util.ConsoleColors;
  * Undo: Re-creates the deleted contact.
  */
 public class DeleteContactCommand implements Command {
-    private final ContactDAO contactDAO;
+    private final ContactRepository contactDAO;
     private final Contact contactToDelete;
 
-    public DeleteContactCommand(ContactDAO contactDAO, Contact contactToDelete) {
+    public DeleteContactCommand(ContactRepository contactDAO, Contact contactToDelete) {
         this.contactDAO = contactDAO;
         this.contactToDelete = contactToDelete;
     }
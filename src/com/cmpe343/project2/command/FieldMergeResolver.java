@@ -0,0 +1,67 @@
+package com.cmpe343.project2.command;
+
+import com.cmpe343.project2.model.Contact;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Default {@link ConflictResolver} performing a three-way merge per field.
+ * Starting from the currently stored row, every field the operator changed is
+ * re-applied on top. The merge is rejected only when both sides changed the
+ * same field to different values, which is the one case where picking a
+ * winner would silently discard somebody's edit.
+ */
+public class FieldMergeResolver implements ConflictResolver {
+
+    private static final List<Field<?>> FIELDS = List.of(
+            new Field<>(Contact::getFirstName, Contact::setFirstName),
+            new Field<>(Contact::getMiddleName, Contact::setMiddleName),
+            new Field<>(Contact::getLastName, Contact::setLastName),
+            new Field<>(Contact::getNickname, Contact::setNickname),
+            new Field<>(Contact::getPhonePrimary, Contact::setPhonePrimary),
+            new Field<>(Contact::getPhoneSecondary, Contact::setPhoneSecondary),
+            new Field<>(Contact::getEmail, Contact::setEmail),
+            new Field<>(Contact::getLinkedinUrl, Contact::setLinkedinUrl),
+            new Field<>(Contact::getBirthDate, Contact::setBirthDate));
+
+    @Override
+    public Contact resolve(Contact base, Contact mine, Contact current) {
+        Contact merged = new Contact(current);
+        for (Field<?> field : FIELDS) {
+            if (!field.merge(base, mine, current, merged)) {
+                return null;
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Accessor pair for one mergeable column.
+     */
+    private static final class Field<T> {
+        private final Function<Contact, T> getter;
+        private final BiConsumer<Contact, T> setter;
+
+        Field(Function<Contact, T> getter, BiConsumer<Contact, T> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        boolean merge(Contact base, Contact mine, Contact current, Contact target) {
+            T baseValue = getter.apply(base);
+            T mineValue = getter.apply(mine);
+            T currentValue = getter.apply(current);
+            if (Objects.equals(baseValue, mineValue)) {
+                return true; // Untouched by us: keep whatever is stored now
+            }
+            if (Objects.equals(baseValue, currentValue) || Objects.equals(mineValue, currentValue)) {
+                setter.accept(target, mineValue);
+                return true;
+            }
+            return false; // Both sides edited this field differently
+        }
+    }
+}
@@ -1,36 +1,115 @@
 package com.cmpe343.project2.command;
 
-import com.cmpe343.project2.dao.ContactDAO;
+import com.cmpe343.project2.dao.ContactRepository;
+import com.cmpe343.project2.dao.UpdateResult;
 import com.cmpe343.project2.model.Contact;
 import com.cmpe343.project2.util.ConsoleColors;
 
 /**
  * Concrete Command to update a contact.
- * Undo: Reverts the contact to its previous state.
+ * Undo: Reverts the fields this command changed to their previous values,
+ * keeping any other fields changed since by other operators.
+ * Updates are optimistic: when another operator changed the row first, the
+ * {@link ConflictResolver} decides whether to retry with a merged state.
  */
 public class UpdateContactCommand implements Command {
-    private final ContactDAO contactDAO;
+    private static final int MAX_ATTEMPTS = 3;
+    // Undo always merges, even when execute() is configured to reject conflicts
+    private static final ConflictResolver UNDO_MERGE = new FieldMergeResolver();
+
+    private final ContactRepository contactDAO;
     private final Contact oldContactState;
     private final Contact newContactState;
+    private final ConflictResolver conflictResolver;
+    // State actually written, carrying the version needed to undo it
+    private Contact appliedState;
+    // This command's edit as the repository stored it (phones normalized),
+    // without any fields merged in from other operators
+    private Contact requestedState;
+
+    public UpdateContactCommand(ContactRepository contactDAO, Contact oldContactState, Contact newContactState) {
+        this(contactDAO, oldContactState, newContactState, new FieldMergeResolver());
+    }
 
-    public UpdateContactCommand(ContactDAO contactDAO, Contact oldContactState, Contact newContactState) {
+    public UpdateContactCommand(ContactRepository contactDAO, Contact oldContactState, Contact newContactState,
+            ConflictResolver conflictResolver) {
         this.contactDAO = contactDAO;
         this.oldContactState = oldContactState;
         this.newContactState = newContactState;
+        this.conflictResolver = conflictResolver;
     }
 
     @Override
     public boolean execute() {
-        boolean success = contactDAO.updateContact(newContactState);
-        if (success) {
-            ConsoleColors.printSuccess("Contact updated.");
+        // The repository normalizes phones in place, so after the first call
+        // this copy holds the edit in its stored form
+        Contact requested = new Contact(newContactState);
+        Contact attempt = requested;
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            UpdateResult result = contactDAO.updateContact(attempt);
+            switch (result) {
+                case UPDATED:
+                    appliedState = attempt;
+                    requestedState = requested;
+                    ConsoleColors.printSuccess(i == 0 ? "Contact updated."
+                            : "Contact updated (merged with concurrent changes).");
+                    return true;
+                case NOT_FOUND:
+                    ConsoleColors.printError("Update failed: the contact no longer exists.");
+                    return false;
+                case CONFLICT:
+                    Contact current = contactDAO.findById(attempt.getContactId());
+                    if (current == null) {
+                        ConsoleColors.printError("Update failed: the contact no longer exists.");
+                        return false;
+                    }
+                    attempt = conflictResolver.resolve(oldContactState, requested, current);
+                    if (attempt == null) {
+                        ConsoleColors.printError(
+                                "Update rejected: another user changed the same fields. Reload and try again.");
+                        return false;
+                    }
+                    break;
+            }
         }
-        return success;
+        ConsoleColors.printError("Update abandoned: the contact kept changing concurrently.");
+        return false;
     }
 
     @Override
     public void undo() {
-        contactDAO.updateContact(oldContactState);
-        ConsoleColors.printWarning("Undo: Contact update reverted to previous state.");
+        if (appliedState == null) {
+            ConsoleColors.printError("Undo Failed: The update was never applied.");
+            return;
+        }
+        // Revert only the fields this command changed, on top of the stored row,
+        // so edits merged in from other operators survive the undo. The base is
+        // the edit as stored: the raw input would differ from every stored phone.
+        Contact current = appliedState;
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            Contact revert = UNDO_MERGE.resolve(requestedState, oldContactState, current);
+            if (revert == null) {
+                ConsoleColors.printError("Undo Failed: The contact was changed by someone else after your update.");
+                return;
+            }
+            switch (contactDAO.updateContact(revert)) {
+                case UPDATED:
+                    appliedState = null;
+                    requestedState = null;
+                    ConsoleColors.printWarning("Undo: Contact update reverted to previous state.");
+                    return;
+                case NOT_FOUND:
+                    ConsoleColors.printError("Undo Failed: the contact no longer exists.");
+                    return;
+                case CONFLICT:
+                    current = contactDAO.findById(appliedState.getContactId());
+                    if (current == null) {
+                        ConsoleColors.printError("Undo Failed: the contact no longer exists.");
+                        return;
+                    }
+                    break;
+            }
+        }
+        ConsoleColors.printError("Undo abandoned: the contact kept changing concurrently.");
     }
-}
\ No newline at end of file
+}
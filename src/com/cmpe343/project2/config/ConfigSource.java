@@ -0,0 +1,168 @@
+package com.cmpe343.project2.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Raw configuration values shared by every settings holder
+ * ({@link com.cmpe343.project2.db.DatabaseConfig}, {@link UiConfig},
+ * {@link MetricsConfig}). Each holder declares its own keys with their
+ * defaults; every key is then looked up in the following sources, later ones
+ * overriding earlier ones:
+ * <ol>
+ * <li>Built-in defaults (the values the application always shipped with).</li>
+ * <li>A properties file: the path in the {@code cmpe343.config} system
+ *     property, otherwise {@code config/db.properties} in the working
+ *     directory, otherwise {@code db.properties} on the classpath.</li>
+ * <li>Environment variables: the key upper-cased with dots replaced by
+ *     underscores and prefixed with {@code CMPE343_}, e.g.
+ *     {@code CMPE343_DB_POOL_SIZE}.</li>
+ * <li>System properties: the key prefixed with {@code cmpe343.}, e.g.
+ *     {@code -Dcmpe343.db.pool.size=20}.</li>
+ * </ol>
+ * The typed accessors collect every error instead of stopping at the first
+ * one; {@link #validate(String)} then reports them all at once.
+ */
+public final class ConfigSource {
+
+    private static final String SYSTEM_PREFIX = "cmpe343.";
+    private static final String ENV_PREFIX = "CMPE343_";
+
+    private final Map<String, String> values;
+    private final List<String> errors = new ArrayList<>();
+
+    private ConfigSource(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Resolves the given keys from all sources.
+     *
+     * @param defaults every key the holder reads, with its built-in default
+     * @throws IllegalStateException when the configuration file cannot be read
+     */
+    public static ConfigSource resolve(Map<String, String> defaults) {
+        Map<String, String> values = new LinkedHashMap<>(defaults);
+        Properties file = readPropertiesFile();
+        for (String key : defaults.keySet()) {
+            String fromFile = file.getProperty(key);
+            if (fromFile != null) {
+                values.put(key, fromFile.trim());
+            }
+            String env = System.getenv(ENV_PREFIX + key.toUpperCase().replace('.', '_'));
+            if (env != null) {
+                values.put(key, env.trim());
+            }
+            String sys = System.getProperty(SYSTEM_PREFIX + key);
+            if (sys != null) {
+                values.put(key, sys.trim());
+            }
+        }
+        return new ConfigSource(values);
+    }
+
+    private static Properties readPropertiesFile() {
+        Properties props = new Properties();
+        String explicit = System.getProperty(SYSTEM_PREFIX + "config");
+        Path path = Paths.get(explicit != null ? explicit : "config/db.properties");
+        try {
+            if (Files.isRegularFile(path)) {
+                try (InputStream in = Files.newInputStream(path)) {
+                    props.load(in);
+                }
+            } else if (explicit != null) {
+                throw new IllegalStateException("Configuration file not found: " + path.toAbsolutePath());
+            } else {
+                try (InputStream in = ConfigSource.class.getResourceAsStream("/db.properties")) {
+                    if (in != null) {
+                        props.load(in);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read configuration file " + path + ": " + e.getMessage(), e);
+        }
+        return props;
+    }
+
+    /**
+     * The value as given, which may be empty or null.
+     */
+    public String raw(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Records a problem that involves more than one key.
+     */
+    public void error(String message) {
+        errors.add(message);
+    }
+
+    public String string(String key) {
+        String value = values.get(key);
+        if (value == null || value.isBlank()) {
+            errors.add(key + " must not be empty");
+            return "";
+        }
+        return value;
+    }
+
+    public int intIn(String key, int min, int max) {
+        return (int) longIn(key, min, max);
+    }
+
+    public long longIn(String key, long min, long max) {
+        String value = values.get(key);
+        try {
+            long parsed = Long.parseLong(value);
+            if (parsed < min || parsed > max) {
+                errors.add(key + " must be between " + min + " and " + max + " but was " + parsed);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            errors.add(key + " must be a whole number but was '" + value + "'");
+            return min;
+        }
+    }
+
+    public String oneOf(String key, String... allowed) {
+        String value = values.getOrDefault(key, "").trim().toLowerCase();
+        if (!Arrays.asList(allowed).contains(value)) {
+            errors.add(key + " must be one of " + String.join(", ", allowed) + " but was '" + values.get(key) + "'");
+        }
+        return value;
+    }
+
+    public boolean bool(String key) {
+        String value = values.get(key);
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if (!"false".equalsIgnoreCase(value)) {
+            errors.add(key + " must be true or false but was '" + value + "'");
+        }
+        return false;
+    }
+
+    /**
+     * Fails when any value read so far was invalid.
+     *
+     * @param section what the keys configure, e.g. {@code database}
+     * @throws IllegalStateException listing every problem
+     */
+    public void validate(String section) {
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid " + section + " configuration:\n - " + String.join("\n - ", errors));
+        }
+    }
+}
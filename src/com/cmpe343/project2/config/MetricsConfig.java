@@ -0,0 +1,63 @@
+package com.cmpe343.project2.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable metrics settings ({@code metrics.*} keys), resolved once from the
+ * same sources as the database settings, see {@link ConfigSource}.
+ */
+public final class MetricsConfig {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("metrics.logIntervalSeconds", "0");
+        DEFAULTS.put("metrics.startupTargetMillis", "1500");
+    }
+
+    private static MetricsConfig instance;
+
+    private final int logIntervalSeconds;
+    private final long startupTargetMillis;
+
+    private MetricsConfig(ConfigSource source) {
+        this.logIntervalSeconds = source.intIn("metrics.logIntervalSeconds", 0, 86_400);
+        this.startupTargetMillis = source.longIn("metrics.startupTargetMillis", 0, 600_000);
+        source.validate("metrics");
+    }
+
+    /**
+     * Resolves and validates the settings, caching them for later calls.
+     *
+     * @throws IllegalStateException listing every invalid value
+     */
+    public static synchronized MetricsConfig load() {
+        if (instance == null) {
+            instance = new MetricsConfig(ConfigSource.resolve(DEFAULTS));
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the settings, loading them on first use.
+     */
+    public static MetricsConfig get() {
+        return load();
+    }
+
+    /**
+     * Seconds between metric summary lines on the console; 0 turns them off.
+     */
+    public int getLogIntervalSeconds() {
+        return logIntervalSeconds;
+    }
+
+    /**
+     * Startup budget from JVM launch to the first prompt; a slower start is
+     * reported on the console. 0 turns the check off.
+     */
+    public long getStartupTargetMillis() {
+        return startupTargetMillis;
+    }
+}
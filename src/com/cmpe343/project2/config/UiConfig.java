@@ -0,0 +1,64 @@
+package com.cmpe343.project2.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable console settings ({@code ui.*} keys), resolved once from the same
+ * sources as the database settings, see {@link ConfigSource}.
+ */
+public final class UiConfig {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("ui.plainOutput", "false");
+        DEFAULTS.put("ui.pageSize", "50");
+    }
+
+    private static UiConfig instance;
+
+    private final boolean plainOutput;
+    private final int pageSize;
+
+    private UiConfig(ConfigSource source) {
+        this.plainOutput = source.bool("ui.plainOutput");
+        this.pageSize = source.intIn("ui.pageSize", 1, 10_000);
+        source.validate("console");
+    }
+
+    /**
+     * Resolves and validates the settings, caching them for later calls.
+     *
+     * @throws IllegalStateException listing every invalid value
+     */
+    public static synchronized UiConfig load() {
+        if (instance == null) {
+            instance = new UiConfig(ConfigSource.resolve(DEFAULTS));
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the settings, loading them on first use.
+     */
+    public static UiConfig get() {
+        return load();
+    }
+
+    /**
+     * Whether contact tables are printed without colors and box drawing, for
+     * output piped to a file or another program. Also on when the
+     * {@code NO_COLOR} environment variable is set.
+     */
+    public boolean isPlainOutput() {
+        return plainOutput || System.getenv("NO_COLOR") != null;
+    }
+
+    /**
+     * Contacts shown per page; longer lists open in the pager.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+}
@@ -0,0 +1,103 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.model.SearchCriteria;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking facade over a {@link ContactRepository} for server-style callers. Every
+ * method schedules the blocking call on the {@link DaoThreadPool} and returns
+ * immediately. Each call leases its own pooled connection, so independent
+ * futures really run in parallel and can be combined freely. Failures complete
+ * the future exceptionally with the original {@link DataAccessException}.
+ */
+public class AsyncContactDAO {
+
+    private final ContactRepository contactDAO;
+
+    public AsyncContactDAO() {
+        this(new ContactDAO());
+    }
+
+    public AsyncContactDAO(ContactRepository contactDAO) {
+        this.contactDAO = contactDAO;
+    }
+
+    public CompletableFuture<Boolean> addContact(Contact c) {
+        return DaoThreadPool.submit(() -> contactDAO.addContact(c));
+    }
+
+    public CompletableFuture<UpdateResult> updateContact(Contact c) {
+        return DaoThreadPool.submit(() -> contactDAO.updateContact(c));
+    }
+
+    public CompletableFuture<Boolean> deleteContact(int contactId) {
+        return DaoThreadPool.submit(() -> contactDAO.deleteContact(contactId));
+    }
+
+    public CompletableFuture<Boolean> restoreContact(Contact c) {
+        return DaoThreadPool.submit(() -> contactDAO.restoreContact(c));
+    }
+
+    public CompletableFuture<Contact> findById(int contactId) {
+        return DaoThreadPool.submit(() -> contactDAO.findById(contactId));
+    }
+
+    public CompletableFuture<Integer> countAll() {
+        return DaoThreadPool.submit(contactDAO::countAll);
+    }
+
+    public CompletableFuture<List<Contact>> findAll(String sortByColumn, boolean ascending) {
+        return DaoThreadPool.submit(() -> contactDAO.findAll(sortByColumn, ascending));
+    }
+
+    public CompletableFuture<List<Contact>> searchByField(String field, String value) {
+        return DaoThreadPool.submit(() -> contactDAO.searchByField(field, value));
+    }
+
+    public CompletableFuture<List<Contact>> searchByCriteria(SearchCriteria criteria) {
+        return DaoThreadPool.submit(() -> contactDAO.searchByCriteria(criteria));
+    }
+
+    public CompletableFuture<List<Contact>> findUpcomingBirthdays(int days) {
+        return DaoThreadPool.submit(() -> contactDAO.findUpcomingBirthdays(days));
+    }
+
+    /**
+     * Computes the manager statistics with all aggregates in flight at once.
+     */
+    public CompletableFuture<String> getStats() {
+        return contactDAO.getStatsAsync();
+    }
+
+    /**
+     * Loads a sorted page source and the total row count concurrently, on two
+     * separate connections, and completes once both are available.
+     */
+    public CompletableFuture<CountedList<Contact>> findAllWithCount(String sortByColumn, boolean ascending) {
+        return findAll(sortByColumn, ascending).thenCombine(countAll(), CountedList::new);
+    }
+
+    /**
+     * Result pairing a list of rows with the total number of matching rows.
+     */
+    public static final class CountedList<T> {
+        private final List<T> items;
+        private final int total;
+
+        public CountedList(List<T> items, int total) {
+            this.items = items;
+            this.total = total;
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.model.User;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking facade over {@link UserDAO}. Calls run on the
+ * {@link DaoThreadPool}; failures complete the returned future exceptionally
+ * with the original {@link DataAccessException}.
+ */
+public class AsyncUserDAO {
+
+    private final UserDAO userDAO;
+
+    public AsyncUserDAO() {
+        this(new UserDAO());
+    }
+
+    public AsyncUserDAO(UserDAO userDAO) {
+        this.userDAO = userDAO;
+    }
+
+    public CompletableFuture<User> authenticate(String username, String rawPassword) {
+        return DaoThreadPool.submit(() -> userDAO.authenticate(username, rawPassword));
+    }
+
+    public CompletableFuture<Boolean> addUser(User user, String rawPassword) {
+        return DaoThreadPool.submit(() -> userDAO.addUser(user, rawPassword));
+    }
+
+    public CompletableFuture<List<User>> getAllUsers() {
+        return DaoThreadPool.submit(userDAO::getAllUsers);
+    }
+
+    public CompletableFuture<Boolean> deleteUser(int userId) {
+        return DaoThreadPool.submit(() -> userDAO.deleteUser(userId));
+    }
+
+    public CompletableFuture<Boolean> restoreUser(User user) {
+        return DaoThreadPool.submit(() -> userDAO.restoreUser(user));
+    }
+
+    public CompletableFuture<Boolean> updateUser(User user) {
+        return DaoThreadPool.submit(() -> userDAO.updateUser(user));
+    }
+
+    public CompletableFuture<User> getUserById(int id) {
+        return DaoThreadPool.submit(() -> userDAO.getUserById(id));
+    }
+
+    public CompletableFuture<Boolean> updatePassword(int userId, String newRawPassword) {
+        return DaoThreadPool.submit(() -> userDAO.updatePassword(userId, newRawPassword));
+    }
+}
@@ -0,0 +1,88 @@
+package com.cmpe343.project2.dao;
+
+import java.time.LocalDate;
+
+/**
+ * A run of consecutive calendar days, expressed as month-day keys
+ * ({@code month * 100 + day}, e.g. 1231 for 31 December) so that birthdays
+ * can be matched regardless of the birth year. A window that crosses the year
+ * end is split into two key ranges, {@code from..1231} and {@code 101..to},
+ * each of which an index on the key serves with a plain range scan.
+ */
+final class BirthdayWindow {
+
+    static final int NO_BIRTHDAY = -1;
+
+    private static final int FIRST_KEY = 101;
+    private static final int LAST_KEY = 1231;
+
+    private final int from;
+    private final int[][] ranges;
+
+    private BirthdayWindow(int from, int[][] ranges) {
+        this.from = from;
+        this.ranges = ranges;
+    }
+
+    /**
+     * The window from {@code today} through {@code days} days later.
+     *
+     * @throws IllegalArgumentException when {@code days} is negative
+     */
+    static BirthdayWindow starting(LocalDate today, int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("days must not be negative: " + days);
+        }
+        LocalDate end = today.plusDays(days);
+        int from = key(today);
+        int to = key(end);
+        if (days >= 365 || (end.getYear() != today.getYear() && to >= from)) {
+            // Every day of the year is covered; still start at today
+            return from == FIRST_KEY
+                    ? new BirthdayWindow(from, new int[][] { { FIRST_KEY, LAST_KEY } })
+                    : new BirthdayWindow(from, new int[][] { { from, LAST_KEY }, { FIRST_KEY, from - 1 } });
+        }
+        if (end.getYear() != today.getYear()) {
+            return new BirthdayWindow(from, new int[][] { { from, LAST_KEY }, { FIRST_KEY, to } });
+        }
+        return new BirthdayWindow(from, new int[][] { { from, to } });
+    }
+
+    /**
+     * Month-day key of a date, or {@link #NO_BIRTHDAY} when it is null.
+     */
+    static int key(LocalDate date) {
+        return date == null ? NO_BIRTHDAY : date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    /**
+     * Key of the first day; keys below it come up after the year end.
+     */
+    int from() {
+        return from;
+    }
+
+    /**
+     * One or two inclusive {@code {low, high}} key ranges, in the order their
+     * days come up.
+     */
+    int[][] ranges() {
+        return ranges;
+    }
+
+    boolean contains(int key) {
+        for (int[] range : ranges) {
+            if (key >= range[0] && key <= range[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sort key putting the birthdays in the order they come up.
+     */
+    int order(int key) {
+        return key >= from ? key : key + LAST_KEY;
+    }
+}
@@ -0,0 +1,41 @@
+package com.cmpe343.project2.dao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for highly repetitive columns such as first and last
+ * names: each distinct string is stored once and rows keep its {@code int}
+ * code. Codes are never reused, so a code stays valid for the lifetime of the
+ * dictionary. Not thread-safe; callers guard it with their own lock.
+ */
+final class CodeDictionary {
+
+    static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = strings.size();
+            strings.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    String decode(int code) {
+        return code == NULL_CODE ? null : strings.get(code);
+    }
+
+    int size() {
+        return strings.size();
+    }
+}
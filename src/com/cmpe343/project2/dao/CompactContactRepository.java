@@ -0,0 +1,402 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.model.SearchCriteria;
+import com.cmpe343.project2.util.PhoneNormalizer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+
+/**
+ * In-process contact repository for caches too large for one object per row.
+ * Rows are packed into an off-heap {@link ContactColumnStore} (about 80 bytes
+ * plus free text per contact instead of several hundred bytes of heap), with
+ * an {@link IntIntMap} from contact ID to storage slot. Queries scan the packed
+ * rows through a {@link ContactView} flyweight and only decode matching rows
+ * into {@link Contact}s. The only secondary structure is one bit set of slots
+ * per birth month (12 bits per row), which month searches and upcoming
+ * birthdays read instead of scanning. There are no sorted indexes, so
+ * {@link #findAll} sorts on each call; {@link InMemoryContactRepository} is the faster choice when
+ * the data fits on the heap. Behaviour otherwise matches it, including the
+ * single-writer, many-readers locking. Nothing is persisted.
+ */
+public class CompactContactRepository implements ContactRepository {
+
+    private static final DateTimeFormatter TIMESTAMP_TEXT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ContactColumnStore store = new ContactColumnStore();
+    private final IntIntMap slotsById = new IntIntMap(1024);
+    private final BitSet[] birthMonths = new BitSet[12];
+    private final Map<String, Comparator<Integer>> orderings = new HashMap<>();
+    private final Map<String, IntFunction<String>> text = new HashMap<>();
+    private final ContactPhones phones = new ContactPhones();
+    private int nextId = 1;
+
+    public CompactContactRepository() {
+        for (int i = 0; i < birthMonths.length; i++) {
+            birthMonths[i] = new BitSet();
+        }
+        orderings.put("contact_id", Comparator.comparingInt(store::id));
+        text.put("contact_id", slot -> String.valueOf(store.id(slot)));
+        textColumn("first_name", store::firstName);
+        textColumn("middle_name", store::middleName);
+        textColumn("last_name", store::lastName);
+        textColumn("nickname", store::nickname);
+        textColumn("email", store::email);
+        textColumn("phone_primary", store::phonePrimary);
+        textColumn("phone_secondary", store::phoneSecondary);
+        textColumn("linkedin_url", store::linkedinUrl);
+        orderings.put("birth_date", Comparator.<Integer>comparingInt(store::birthDay).thenComparingInt(store::id));
+        text.put("birth_date", slot -> {
+            int day = store.birthDay(slot);
+            return day == ContactColumnStore.NULL_DAY ? null : LocalDate.ofEpochDay(day).toString();
+        });
+        timeColumn("created_at", store::createdAt);
+        timeColumn("updated_at", store::updatedAt);
+    }
+
+    @Override
+    public boolean addContact(Contact c) {
+        phones.normalize(c);
+        long now = now();
+        lock.writeLock().lock();
+        try {
+            int id = nextId;
+            put(id, c, now, now, 0);
+            c.setContactId(id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public UpdateResult updateContact(Contact c) {
+        phones.normalize(c);
+        lock.writeLock().lock();
+        try {
+            int slot = slotsById.get(c.getContactId());
+            if (slot == IntIntMap.MISSING) {
+                return UpdateResult.NOT_FOUND;
+            }
+            int version = store.version(slot);
+            if (version != c.getVersion()) {
+                return UpdateResult.CONFLICT;
+            }
+            unindexBirthday(slot);
+            store.overwrite(slot, c.getContactId(), c, store.createdAt(slot), now(), version + 1);
+            indexBirthday(slot);
+            c.setVersion(version + 1);
+            return UpdateResult.UPDATED;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteContact(int contactId) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotsById.remove(contactId);
+            if (slot == IntIntMap.MISSING) {
+                return false;
+            }
+            unindexBirthday(slot);
+            store.release(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean restoreContact(Contact c) {
+        lock.writeLock().lock();
+        try {
+            if (slotsById.get(c.getContactId()) != IntIntMap.MISSING) {
+                return false; // the primary key is taken again
+            }
+            put(c.getContactId(), c, epochSecond(c.getCreatedAt()), epochSecond(c.getUpdatedAt()), c.getVersion());
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Contact findById(int contactId) {
+        lock.readLock().lock();
+        try {
+            int slot = slotsById.get(contactId);
+            return slot == IntIntMap.MISSING ? null : store.toContact(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int countAll() {
+        lock.readLock().lock();
+        try {
+            return store.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Contact> findAll(String sortByColumn, boolean ascending) {
+        String column = sortByColumn == null ? "" : sortByColumn.toLowerCase(Locale.ROOT);
+        Comparator<Integer> order = orderings.getOrDefault(column, orderings.get("last_name"));
+        lock.readLock().lock();
+        try {
+            List<Integer> slots = new ArrayList<>(store.size());
+            store.forEachSlot(slots::add);
+            slots.sort(ascending ? order : order.reversed());
+            List<Contact> list = new ArrayList<>(slots.size());
+            for (int slot : slots) {
+                list.add(store.toContact(slot));
+            }
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sorts slot numbers as {@link #findAll} does but decodes only the
+     * window's rows.
+     */
+    @Override
+    public List<Contact> findPage(String sortByColumn, boolean ascending, int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("offset must not be negative and limit must be positive");
+        }
+        String column = sortByColumn == null ? "" : sortByColumn.toLowerCase(Locale.ROOT);
+        Comparator<Integer> order = orderings.getOrDefault(column, orderings.get("last_name"));
+        lock.readLock().lock();
+        try {
+            List<Integer> slots = new ArrayList<>(store.size());
+            store.forEachSlot(slots::add);
+            slots.sort(ascending ? order : order.reversed());
+            int from = Math.min(offset, slots.size());
+            int to = (int) Math.min(slots.size(), (long) from + limit);
+            List<Contact> page = new ArrayList<>(to - from);
+            for (int slot : slots.subList(from, to)) {
+                page.add(store.toContact(slot));
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Contact> searchByField(String field, String value) {
+        IntFunction<String> column = field == null ? null : text.get(field.toLowerCase(Locale.ROOT));
+        if (column == null)
+            return new ArrayList<>();
+
+        String needle = value.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            List<Contact> list = new ArrayList<>();
+            store.forEachSlot(slot -> {
+                if (contains(column.apply(slot), needle)) {
+                    list.add(store.toContact(slot));
+                }
+            });
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Contact> searchByCriteria(SearchCriteria criteria) {
+        String firstName = needle(criteria.getFirstName());
+        String lastName = needle(criteria.getLastName());
+        String phone = criteria.getPhone() == null || criteria.getPhone().isBlank() ? null
+                : PhoneNormalizer.digitsOf(criteria.getPhone());
+        String email = needle(criteria.getEmail());
+        Integer birthMonth = criteria.getBirthMonth();
+
+        List<Contact> list = new ArrayList<>();
+        Consumer<ContactView> filter = view -> {
+            if ((firstName == null || contains(view.getFirstName(), firstName))
+                    && (lastName == null || contains(view.getLastName(), lastName))
+                    && (phone == null || ContactPhones.endsWith(view.getPhonePrimary(), phone)
+                            || ContactPhones.endsWith(view.getPhoneSecondary(), phone))
+                    && (email == null || contains(view.getEmail(), email))) {
+                list.add(view.toContact());
+            }
+        };
+        if (birthMonth == null) {
+            scan(filter);
+            return list;
+        }
+        if (birthMonth < 1 || birthMonth > 12) {
+            return list;
+        }
+        lock.readLock().lock();
+        try {
+            ContactView view = new ContactView(store);
+            BitSet slots = birthMonths[birthMonth - 1];
+            for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                filter.accept(view.at(slot));
+            }
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Contact> findByPhoneSuffix(String trailingDigits) {
+        String suffix = PhoneNormalizer.digitsOf(trailingDigits);
+        List<Contact> list = new ArrayList<>();
+        scan(view -> {
+            if (ContactPhones.endsWith(view.getPhonePrimary(), suffix)
+                    || ContactPhones.endsWith(view.getPhoneSecondary(), suffix)) {
+                list.add(view.toContact());
+            }
+        });
+        return list;
+    }
+
+    @Override
+    public List<Contact> findUpcomingBirthdays(int days) {
+        BirthdayWindow window = BirthdayWindow.starting(LocalDate.now(), days);
+        lock.readLock().lock();
+        try {
+            List<Integer> slots = new ArrayList<>();
+            for (int[] range : window.ranges()) {
+                for (int month = range[0] / 100; month <= range[1] / 100; month++) {
+                    BitSet bucket = birthMonths[month - 1];
+                    for (int slot = bucket.nextSetBit(0); slot >= 0; slot = bucket.nextSetBit(slot + 1)) {
+                        int key = birthKey(slot);
+                        if (key >= range[0] && key <= range[1]) {
+                            slots.add(slot);
+                        }
+                    }
+                }
+            }
+            slots.sort(Comparator.<Integer>comparingInt(slot -> window.order(birthKey(slot)))
+                    .thenComparingInt(store::id));
+            List<Contact> list = new ArrayList<>(slots.size());
+            for (int slot : slots) {
+                list.add(store.toContact(slot));
+            }
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String getStats() {
+        ContactStats stats = new ContactStats();
+        scan(view -> stats.add(view.getFirstName(), view.getLastName(), view.getLinkedinUrl(), view.getBirthDate()));
+        return stats.render();
+    }
+
+    /**
+     * Streams every stored contact through one reused flyweight, under the
+     * read lock. The view must not escape the callback.
+     */
+    public void scan(Consumer<? super ContactView> visitor) {
+        lock.readLock().lock();
+        try {
+            ContactView view = new ContactView(store);
+            store.forEachSlot(slot -> visitor.accept(view.at(slot)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Off-heap bytes currently reserved by the packed rows and text arena.
+     */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return store.offHeapBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(int id, Contact c, long createdAt, long updatedAt, int version) {
+        int slot = store.insert(id, c, createdAt, updatedAt, version);
+        slotsById.put(id, slot);
+        indexBirthday(slot);
+        nextId = Math.max(nextId, id + 1);
+    }
+
+    private void indexBirthday(int slot) {
+        int key = birthKey(slot);
+        if (key != BirthdayWindow.NO_BIRTHDAY) {
+            birthMonths[key / 100 - 1].set(slot);
+        }
+    }
+
+    private void unindexBirthday(int slot) {
+        int key = birthKey(slot);
+        if (key != BirthdayWindow.NO_BIRTHDAY) {
+            birthMonths[key / 100 - 1].clear(slot);
+        }
+    }
+
+    private int birthKey(int slot) {
+        int day = store.birthDay(slot);
+        return day == ContactColumnStore.NULL_DAY ? BirthdayWindow.NO_BIRTHDAY
+                : BirthdayWindow.key(LocalDate.ofEpochDay(day));
+    }
+
+    private void textColumn(String column, IntFunction<String> getter) {
+        Comparator<Integer> order = Comparator.comparing(getter::apply,
+                Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+        orderings.put(column, order.thenComparingInt(store::id));
+        text.put(column, getter);
+    }
+
+    private void timeColumn(String column, IntToLongFunction getter) {
+        orderings.put(column, Comparator.<Integer>comparingLong(getter::applyAsLong).thenComparingInt(store::id));
+        text.put(column, slot -> {
+            long time = getter.applyAsLong(slot);
+            return time == ContactColumnStore.NULL_TIME ? null
+                    : LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC).format(TIMESTAMP_TEXT);
+        });
+    }
+
+    private static boolean contains(String haystack, String lowerNeedle) {
+        return haystack != null && haystack.toLowerCase(Locale.ROOT).contains(lowerNeedle);
+    }
+
+    private static String needle(String criterion) {
+        return criterion == null || criterion.isBlank() ? null : criterion.toLowerCase(Locale.ROOT);
+    }
+
+    private static long now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time == null ? ContactColumnStore.NULL_TIME : time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,319 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.model.Contact;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Packed, off-heap storage for contact rows. A {@link Contact} costs roughly
+ * 600-900 bytes of heap once object headers and string contents are counted;
+ * here a row takes a fixed {@value #ROW_BYTES}-byte record plus the UTF-8 bytes
+ * of its free-text columns, none of it on the garbage-collected heap.
+ * <ol>
+ * <li>First, middle, last name and nickname are dictionary-encoded into
+ *     {@code int} codes; the distinct strings are kept once in a
+ *     {@link CodeDictionary}.</li>
+ * <li>Phone numbers made of up to 17 digits, optionally prefixed with
+ *     {@code +}, are packed into a single {@code long}. Anything else is kept
+ *     as text.</li>
+ * <li>Birth dates are epoch days ({@code int}); created and updated
+ *     timestamps are epoch seconds ({@code long}).</li>
+ * <li>Email and LinkedIn URL are UTF-8 bytes in an append-only arena,
+ *     referenced from the record by offset and length.</li>
+ * </ol>
+ * Records and arena bytes live in {@link ByteBuffer#allocateDirect direct}
+ * segments that are allocated as the store grows. Slots of deleted rows are
+ * reused; arena bytes of replaced text are not reclaimed, so a store that sees
+ * heavy churn should be rebuilt from its source now and then.
+ * Not thread-safe: mutations need external exclusion, while concurrent reads
+ * are safe because only absolute buffer accessors are used.
+ */
+final class ContactColumnStore {
+
+    static final int ROW_BYTES = 80;
+    static final int NULL_DAY = Integer.MIN_VALUE;
+    static final long NULL_TIME = Long.MIN_VALUE;
+
+    private static final int ROWS_PER_SEGMENT = 1 << 14;
+    private static final int ARENA_SEGMENT_BYTES = 1 << 20;
+    private static final long NULL_REF = -1L;
+
+    // Record layout
+    private static final int ID = 0;
+    private static final int VERSION = 4;
+    private static final int FIRST_NAME = 8;
+    private static final int MIDDLE_NAME = 12;
+    private static final int LAST_NAME = 16;
+    private static final int NICKNAME = 20;
+    private static final int PHONE_PRIMARY = 24;
+    private static final int PHONE_SECONDARY = 32;
+    private static final int EMAIL = 40;
+    private static final int LINKEDIN_URL = 48;
+    private static final int BIRTH_DAY = 56;
+    private static final int LIVE = 60;
+    private static final int CREATED_AT = 64;
+    private static final int UPDATED_AT = 72;
+
+    // Packed phone: 5-bit digit count, 1-bit '+' flag, 58-bit number; count 0 means an arena reference
+    private static final int PHONE_LENGTH_SHIFT = 59;
+    private static final long PHONE_PLUS = 1L << 58;
+    private static final long PHONE_VALUE_MASK = PHONE_PLUS - 1;
+    private static final int MAX_PACKED_DIGITS = 17;
+
+    private final CodeDictionary names = new CodeDictionary();
+    private final List<ByteBuffer> rowSegments = new ArrayList<>();
+    private final List<ByteBuffer> arenaSegments = new ArrayList<>();
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    private int liveCount;
+    private int arenaOffset = ARENA_SEGMENT_BYTES;
+
+    /**
+     * Stores a contact in a free slot.
+     *
+     * @return the slot now holding the row
+     */
+    int insert(int id, Contact c, long createdAt, long updatedAt, int version) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = slotCount++;
+            if (slot / ROWS_PER_SEGMENT == rowSegments.size()) {
+                rowSegments.add(ByteBuffer.allocateDirect(ROWS_PER_SEGMENT * ROW_BYTES));
+            }
+        }
+        write(slot, id, c, createdAt, updatedAt, version);
+        liveCount++;
+        return slot;
+    }
+
+    /**
+     * Replaces the row in an occupied slot.
+     */
+    void overwrite(int slot, int id, Contact c, long createdAt, long updatedAt, int version) {
+        write(slot, id, c, createdAt, updatedAt, version);
+    }
+
+    /**
+     * Frees a slot for reuse.
+     */
+    void release(int slot) {
+        segment(slot).putInt(base(slot) + LIVE, 0);
+        if (freeCount == freeSlots.length) {
+            int[] grown = new int[freeSlots.length * 2];
+            System.arraycopy(freeSlots, 0, grown, 0, freeCount);
+            freeSlots = grown;
+        }
+        freeSlots[freeCount++] = slot;
+        liveCount--;
+    }
+
+    int size() {
+        return liveCount;
+    }
+
+    /**
+     * Visits the slots of all live rows in storage order.
+     */
+    void forEachSlot(IntConsumer action) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (segment(slot).getInt(base(slot) + LIVE) != 0) {
+                action.accept(slot);
+            }
+        }
+    }
+
+    /**
+     * Off-heap bytes reserved for records and text, for capacity planning.
+     */
+    long offHeapBytes() {
+        return (long) rowSegments.size() * ROWS_PER_SEGMENT * ROW_BYTES
+                + arenaSegments.stream().mapToLong(ByteBuffer::capacity).sum();
+    }
+
+    int distinctNames() {
+        return names.size();
+    }
+
+    int id(int slot) {
+        return segment(slot).getInt(base(slot) + ID);
+    }
+
+    int version(int slot) {
+        return segment(slot).getInt(base(slot) + VERSION);
+    }
+
+    String firstName(int slot) {
+        return names.decode(segment(slot).getInt(base(slot) + FIRST_NAME));
+    }
+
+    String middleName(int slot) {
+        return names.decode(segment(slot).getInt(base(slot) + MIDDLE_NAME));
+    }
+
+    String lastName(int slot) {
+        return names.decode(segment(slot).getInt(base(slot) + LAST_NAME));
+    }
+
+    String nickname(int slot) {
+        return names.decode(segment(slot).getInt(base(slot) + NICKNAME));
+    }
+
+    String phonePrimary(int slot) {
+        return unpackPhone(segment(slot).getLong(base(slot) + PHONE_PRIMARY));
+    }
+
+    String phoneSecondary(int slot) {
+        return unpackPhone(segment(slot).getLong(base(slot) + PHONE_SECONDARY));
+    }
+
+    String email(int slot) {
+        return text(segment(slot).getLong(base(slot) + EMAIL));
+    }
+
+    String linkedinUrl(int slot) {
+        return text(segment(slot).getLong(base(slot) + LINKEDIN_URL));
+    }
+
+    int birthDay(int slot) {
+        return segment(slot).getInt(base(slot) + BIRTH_DAY);
+    }
+
+    long createdAt(int slot) {
+        return segment(slot).getLong(base(slot) + CREATED_AT);
+    }
+
+    long updatedAt(int slot) {
+        return segment(slot).getLong(base(slot) + UPDATED_AT);
+    }
+
+    /**
+     * Decodes a row into a detached, mutable contact.
+     */
+    Contact toContact(int slot) {
+        int day = birthDay(slot);
+        long created = createdAt(slot);
+        long updated = updatedAt(slot);
+        Contact contact = new Contact(id(slot), firstName(slot), middleName(slot), lastName(slot), nickname(slot),
+                phonePrimary(slot), phoneSecondary(slot), email(slot), linkedinUrl(slot),
+                day == NULL_DAY ? null : LocalDate.ofEpochDay(day),
+                created == NULL_TIME ? null : LocalDateTime.ofEpochSecond(created, 0, ZoneOffset.UTC),
+                updated == NULL_TIME ? null : LocalDateTime.ofEpochSecond(updated, 0, ZoneOffset.UTC));
+        contact.setVersion(version(slot));
+        return contact;
+    }
+
+    private void write(int slot, int id, Contact c, long createdAt, long updatedAt, int version) {
+        ByteBuffer segment = segment(slot);
+        int base = base(slot);
+        segment.putInt(base + ID, id);
+        segment.putInt(base + VERSION, version);
+        segment.putInt(base + FIRST_NAME, names.encode(c.getFirstName()));
+        segment.putInt(base + MIDDLE_NAME, names.encode(emptyToNull(c.getMiddleName())));
+        segment.putInt(base + LAST_NAME, names.encode(c.getLastName()));
+        segment.putInt(base + NICKNAME, names.encode(emptyToNull(c.getNickname())));
+        segment.putLong(base + PHONE_PRIMARY, packPhone(c.getPhonePrimary()));
+        segment.putLong(base + PHONE_SECONDARY, packPhone(emptyToNull(c.getPhoneSecondary())));
+        segment.putLong(base + EMAIL, append(c.getEmail()));
+        segment.putLong(base + LINKEDIN_URL, append(emptyToNull(c.getLinkedinUrl())));
+        segment.putInt(base + BIRTH_DAY, c.getBirthDate() == null ? NULL_DAY : (int) c.getBirthDate().toEpochDay());
+        segment.putInt(base + LIVE, 1);
+        segment.putLong(base + CREATED_AT, createdAt);
+        segment.putLong(base + UPDATED_AT, updatedAt);
+    }
+
+    private long packPhone(String phone) {
+        if (phone == null) {
+            return NULL_REF;
+        }
+        boolean plus = phone.startsWith("+");
+        int start = plus ? 1 : 0;
+        int digits = phone.length() - start;
+        if (digits < 1 || digits > MAX_PACKED_DIGITS) {
+            return append(phone);
+        }
+        long value = 0;
+        for (int i = start; i < phone.length(); i++) {
+            char ch = phone.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return append(phone);
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return ((long) digits << PHONE_LENGTH_SHIFT) | (plus ? PHONE_PLUS : 0) | value;
+    }
+
+    private String unpackPhone(long packed) {
+        if (packed == NULL_REF) {
+            return null;
+        }
+        int digits = (int) (packed >>> PHONE_LENGTH_SHIFT);
+        if (digits == 0) {
+            return text(packed);
+        }
+        String number = Long.toString(packed & PHONE_VALUE_MASK);
+        StringBuilder sb = new StringBuilder(digits + 1);
+        if ((packed & PHONE_PLUS) != 0) {
+            sb.append('+');
+        }
+        // Leading zeros are not part of the numeric value
+        for (int i = number.length(); i < digits; i++) {
+            sb.append('0');
+        }
+        return sb.append(number).toString();
+    }
+
+    /**
+     * Appends text to the arena.
+     *
+     * @return reference of 18 bits segment, 24 bits offset and 16 bits length
+     */
+    private long append(String value) {
+        if (value == null) {
+            return NULL_REF;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Text column longer than 65535 bytes");
+        }
+        if (arenaOffset + bytes.length > ARENA_SEGMENT_BYTES) {
+            arenaSegments.add(ByteBuffer.allocateDirect(ARENA_SEGMENT_BYTES));
+            arenaOffset = 0;
+        }
+        int segmentIndex = arenaSegments.size() - 1;
+        arenaSegments.get(segmentIndex).put(arenaOffset, bytes);
+        long ref = ((long) segmentIndex << 40) | ((long) arenaOffset << 16) | bytes.length;
+        arenaOffset += bytes.length;
+        return ref;
+    }
+
+    private String text(long ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        byte[] bytes = new byte[(int) (ref & 0xFFFF)];
+        arenaSegments.get((int) (ref >>> 40)).get((int) ((ref >>> 16) & 0xFFFFFF), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer segment(int slot) {
+        return rowSegments.get(slot / ROWS_PER_SEGMENT);
+    }
+
+    private static int base(int slot) {
+        return (slot % ROWS_PER_SEGMENT) * ROW_BYTES;
+    }
+
+    private static String emptyToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value;
+    }
+}
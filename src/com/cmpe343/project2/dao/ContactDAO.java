@@ -1,195 +1,479 @@
 package com.cmpe343.project2.dao;
 
+import com.cmpe343.project2.dao.dialect.SqlDialect;
+import com.cmpe343.project2.db.DatabaseConfig;
 import com.cmpe343.project2.db.DatabaseConnection;
 import com.cmpe343.project2.model.Contact;
 import com.cmpe343.project2.model.SearchCriteria;
-import com.cmpe343.project2.util.ConsoleColors;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Data Access Object for Contact entities.
  * Handles creating, reading, updating, searching, and deleting contacts.
+ * All statements run through a {@link JdbcRunner}, so database failures are
+ * thrown as transient or permanent {@link DataAccessException}s (transient
+ * ones after retrying); "no such row" is reported through the return value
+ * instead. Engine-specific expressions come from the configured
+ * {@link SqlDialect}, so the same queries run on MySQL and, with the H2 jar
+ * added to the classpath, on embedded H2.
  */
-public class ContactDAO {
+public class ContactDAO implements ContactRepository {
+
+    private final JdbcRunner jdbc;
+    private final SqlDialect dialect;
+    private final ReportRunner reports;
+    private final List<ReportSection> statsSections;
+    private final StringDictionary names = StringDictionary.shared();
+    private final ContactPhones phones = new ContactPhones();
+
+    private static final String INSERT_SQL = "INSERT INTO contacts (first_name, middle_name, last_name, nickname,"
+            + " phone_primary, phone_secondary, email, linkedin_url, birth_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public ContactDAO() {
+        this(new JdbcRunner());
+    }
+
+    public ContactDAO(JdbcRunner jdbc) {
+        this.jdbc = jdbc;
+        this.dialect = DatabaseConnection.dialect();
+        this.reports = new ReportRunner(jdbc, DatabaseConnection.isMultiQueryEnabled()
+                ? ReportRunner.Mode.MULTI_STATEMENT
+                : ReportRunner.Mode.PARALLEL);
+        this.statsSections = statsSections(dialect);
+    }
+
+    private static List<ReportSection> statsSections(SqlDialect dialect) {
+        return List.of(
+            new ReportSection("SELECT COUNT(*) FROM contacts", (rs, out) -> {
+                if (rs.next())
+                    out.append("Total Contacts: ").append(rs.getInt(1)).append("\n");
+            }),
+            new ReportSection("SELECT COUNT(*) FROM contacts WHERE linkedin_url IS NOT NULL AND linkedin_url <> ''",
+                    (rs, out) -> {
+                        if (rs.next())
+                            out.append("With LinkedIn URLs: ").append(rs.getInt(1)).append("\n");
+                    }),
+            new ReportSection("SELECT COUNT(*) FROM contacts WHERE linkedin_url IS NULL OR linkedin_url = ''",
+                    (rs, out) -> {
+                        if (rs.next())
+                            out.append("Without LinkedIn URLs: ").append(rs.getInt(1)).append("\n");
+                    }),
+            new ReportSection(dialect.limit(
+                    "SELECT first_name, COUNT(*) as cnt FROM contacts GROUP BY first_name HAVING COUNT(*) > 1 ORDER BY cnt DESC", 3),
+                    (rs, out) -> {
+                        out.append("Most common first names: ");
+                        while (rs.next()) {
+                            out.append(rs.getString("first_name")).append(" (" + rs.getInt("cnt") + "), ");
+                        }
+                        out.append("\n");
+                    }),
+            new ReportSection(dialect.limit(
+                    "SELECT last_name, COUNT(*) as cnt FROM contacts GROUP BY last_name HAVING COUNT(*) > 1 ORDER BY cnt DESC", 3),
+                    (rs, out) -> {
+                        out.append("Most common last names: ");
+                        while (rs.next()) {
+                            out.append(rs.getString("last_name")).append(" (" + rs.getInt("cnt") + "), ");
+                        }
+                        out.append("\n");
+                    }),
+            // Oldest
+            new ReportSection("SELECT MIN(birth_date) FROM contacts", (rs, out) -> {
+                if (rs.next())
+                    out.append("Oldest Contact DOB: ").append(rs.getDate(1)).append("\n");
+            }),
+            new ReportSection("SELECT MAX(birth_date) FROM contacts", (rs, out) -> {
+                if (rs.next())
+                    out.append("Youngest Contact DOB: ").append(rs.getDate(1)).append("\n");
+            }),
+            new ReportSection(
+                    "SELECT AVG(" + dialect.ageInYears("birth_date") + ") FROM contacts WHERE birth_date IS NOT NULL",
+                    (rs, out) -> {
+                        if (rs.next())
+                            out.append("Average Age: ").append(String.format("%.1f", rs.getDouble(1))).append(" years\n");
+                    }));
+    }
 
     /**
-     * Adds a new contact.
+     * Adds a new contact. Its phone numbers are normalized to E.164 first and
+     * indexed in {@code contact_phones} in the same transaction.
      */
+    @Override
     public boolean addContact(Contact c) {
-        String sql = "INSERT INTO contacts (first_name, middle_name, last_name, nickname, phone_primary, phone_secondary, email, linkedin_url, birth_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        try (Connection conn = DatabaseConnection.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, c.getFirstName());
-            stmt.setString(2, emptyToNull(c.getMiddleName()));
-            stmt.setString(3, c.getLastName());
-            stmt.setString(4, emptyToNull(c.getNickname()));
-            stmt.setString(5, c.getPhonePrimary());
-            stmt.setString(6, emptyToNull(c.getPhoneSecondary()));
-            stmt.setString(7, c.getEmail());
-            stmt.setString(8, emptyToNull(c.getLinkedinUrl()));
-            if (c.getBirthDate() == null) {
-                stmt.setNull(9, Types.DATE);
-            } else {
-                stmt.setDate(9, java.sql.Date.valueOf(c.getBirthDate()));
+        phones.normalize(c);
+        int id = jdbc.transaction("ContactDAO.addContact", "Error adding contact", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                bindInsert(stmt, c);
+                if (stmt.executeUpdate() == 0) {
+                    return 0;
+                }
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    if (!keys.next()) {
+                        throw new SQLException("Driver returned no generated key for the new contact");
+                    }
+                    ContactPhones.insert(conn, keys.getInt(1), c);
+                    return keys.getInt(1);
+                }
             }
-
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error adding contact: " + e.getMessage());
+        });
+        // Only once committed, so a failed or retried insert leaves the caller's contact untouched
+        if (id == 0) {
             return false;
         }
+        c.setContactId(id);
+        return true;
     }
 
     /**
-     * Updates an existing contact.
+     * Adds many contacts in JDBC batches of {@code db.batchSize} rows. Each
+     * batch is one round trip (one multi-row statement with
+     * {@code rewriteBatchedStatements}) and one transaction, instead of a
+     * round trip and commit per contact; a failing batch is rolled back as a
+     * whole. Phones are normalized and indexed as in
+     * {@link #addContact(Contact)}.
+     *
+     * @return number of contacts inserted
      */
-    public boolean updateContact(Contact c) {
-        String sql = "UPDATE contacts SET first_name=?, middle_name=?, last_name=?, nickname=?, phone_primary=?, phone_secondary=?, email=?, linkedin_url=?, birth_date=?, updated_at=CURRENT_TIMESTAMP WHERE contact_id=?";
-        try (Connection conn = DatabaseConnection.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, c.getFirstName());
-            stmt.setString(2, emptyToNull(c.getMiddleName()));
-            stmt.setString(3, c.getLastName());
-            stmt.setString(4, emptyToNull(c.getNickname()));
-            stmt.setString(5, c.getPhonePrimary());
-            stmt.setString(6, emptyToNull(c.getPhoneSecondary()));
-            stmt.setString(7, c.getEmail());
-            stmt.setString(8, emptyToNull(c.getLinkedinUrl()));
-            if (c.getBirthDate() == null) {
-                stmt.setNull(9, Types.DATE);
-            } else {
-                stmt.setDate(9, java.sql.Date.valueOf(c.getBirthDate()));
+    @Override
+    public int addContacts(List<Contact> contacts) {
+        int batchSize = DatabaseConfig.get().getBatchSize();
+        int inserted = 0;
+        for (int from = 0; from < contacts.size(); from += batchSize) {
+            List<Contact> batch = contacts.subList(from, Math.min(contacts.size(), from + batchSize));
+            batch.forEach(phones::normalize);
+            inserted += jdbc.transaction("ContactDAO.addContacts", "Error adding contacts",
+                    conn -> insertBatch(conn, batch));
+        }
+        return inserted;
+    }
+
+    private int insertBatch(Connection conn, List<Contact> batch) throws SQLException {
+        int[] ids = new int[batch.size()];
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (Contact c : batch) {
+                bindInsert(stmt, c);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                int n = 0;
+                while (keys.next() && n < ids.length) {
+                    ids[n++] = keys.getInt(1);
+                }
+                if (n != ids.length) {
+                    throw new SQLException("Driver returned " + n + " generated keys for " + ids.length + " rows");
+                }
             }
-            stmt.setInt(10, c.getContactId());
+        }
+        ContactPhones.insert(conn, ids, batch);
+        return batch.size();
+    }
 
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error updating contact: " + e.getMessage());
-            return false;
+    private void bindInsert(PreparedStatement stmt, Contact c) throws SQLException {
+        stmt.setString(1, c.getFirstName());
+        stmt.setString(2, emptyToNull(c.getMiddleName()));
+        stmt.setString(3, c.getLastName());
+        stmt.setString(4, emptyToNull(c.getNickname()));
+        stmt.setString(5, c.getPhonePrimary());
+        stmt.setString(6, emptyToNull(c.getPhoneSecondary()));
+        stmt.setString(7, c.getEmail());
+        stmt.setString(8, emptyToNull(c.getLinkedinUrl()));
+        if (c.getBirthDate() == null) {
+            stmt.setNull(9, Types.DATE);
+        } else {
+            stmt.setObject(9, c.getBirthDate());
+        }
+    }
+
+    /**
+     * Updates an existing contact using optimistic concurrency control. The
+     * statement only matches when the stored {@code version} still equals the
+     * version the caller read, so concurrent editors never overwrite each other
+     * silently and no row locks are held between read and write. Once the update
+     * has committed, the version of {@code c} is advanced to the value now
+     * stored. Phone numbers
+     * are normalized and re-indexed as in {@link #addContact(Contact)}.
+     *
+     * @return {@link UpdateResult#CONFLICT} when the row was changed in the
+     *         meantime, {@link UpdateResult#NOT_FOUND} when it was deleted.
+     */
+    @Override
+    public UpdateResult updateContact(Contact c) {
+        String sql = "UPDATE contacts SET first_name=?, middle_name=?, last_name=?, nickname=?, phone_primary=?, phone_secondary=?, email=?, linkedin_url=?, birth_date=?, updated_at=CURRENT_TIMESTAMP, version=version+1 WHERE contact_id=? AND version=?";
+        phones.normalize(c);
+        UpdateResult result = jdbc.transaction("ContactDAO.updateContact", "Error updating contact", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                stmt.setString(1, c.getFirstName());
+                stmt.setString(2, emptyToNull(c.getMiddleName()));
+                stmt.setString(3, c.getLastName());
+                stmt.setString(4, emptyToNull(c.getNickname()));
+                stmt.setString(5, c.getPhonePrimary());
+                stmt.setString(6, emptyToNull(c.getPhoneSecondary()));
+                stmt.setString(7, c.getEmail());
+                stmt.setString(8, emptyToNull(c.getLinkedinUrl()));
+                if (c.getBirthDate() == null) {
+                    stmt.setNull(9, Types.DATE);
+                } else {
+                    stmt.setObject(9, c.getBirthDate());
+                }
+                stmt.setInt(10, c.getContactId());
+                stmt.setInt(11, c.getVersion());
+
+                if (stmt.executeUpdate() > 0) {
+                    ContactPhones.replace(conn, c.getContactId(), c);
+                    return UpdateResult.UPDATED;
+                }
+                // Nothing matched: tell a lost race apart from a deleted row
+                return exists(conn, c.getContactId()) ? UpdateResult.CONFLICT : UpdateResult.NOT_FOUND;
+            }
+        });
+        // Only after the commit: a retried or failed transaction must bind the version the caller read
+        if (result == UpdateResult.UPDATED) {
+            c.setVersion(c.getVersion() + 1);
         }
+        return result;
     }
 
     /**
      * Deletes a contact by ID.
      */
+    @Override
     public boolean deleteContact(int contactId) {
         String sql = "DELETE FROM contacts WHERE contact_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, contactId);
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error deleting contact: " + e.getMessage());
-            return false;
-        }
+        return jdbc.write("ContactDAO.deleteContact", "Error deleting contact", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, contactId);
+                return stmt.executeUpdate() > 0;
+            }
+        });
     }
 
     /**
      * Re-inserts a previously deleted contact keeping its original ID and timestamps.
      */
+    @Override
     public boolean restoreContact(Contact c) {
         String sql = "INSERT INTO contacts (contact_id, first_name, middle_name, last_name, nickname, phone_primary,"
-                + " phone_secondary, email, linkedin_url, birth_date, created_at, updated_at)"
-                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-        try (Connection conn = DatabaseConnection.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, c.getContactId());
-            stmt.setString(2, c.getFirstName());
-            stmt.setString(3, emptyToNull(c.getMiddleName()));
-            stmt.setString(4, c.getLastName());
-            stmt.setString(5, emptyToNull(c.getNickname()));
-            stmt.setString(6, c.getPhonePrimary());
-            stmt.setString(7, emptyToNull(c.getPhoneSecondary()));
-            stmt.setString(8, c.getEmail());
-            stmt.setString(9, emptyToNull(c.getLinkedinUrl()));
-
-            if (c.getBirthDate() == null) {
-                stmt.setNull(10, Types.DATE);
-            } else {
-                stmt.setDate(10, java.sql.Date.valueOf(c.getBirthDate()));
+                + " phone_secondary, email, linkedin_url, birth_date, created_at, updated_at, version)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        return jdbc.transaction("ContactDAO.restoreContact", "Error restoring contact", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                stmt.setInt(1, c.getContactId());
+                stmt.setString(2, c.getFirstName());
+                stmt.setString(3, emptyToNull(c.getMiddleName()));
+                stmt.setString(4, c.getLastName());
+                stmt.setString(5, emptyToNull(c.getNickname()));
+                stmt.setString(6, c.getPhonePrimary());
+                stmt.setString(7, emptyToNull(c.getPhoneSecondary()));
+                stmt.setString(8, c.getEmail());
+                stmt.setString(9, emptyToNull(c.getLinkedinUrl()));
+
+                if (c.getBirthDate() == null) {
+                    stmt.setNull(10, Types.DATE);
+                } else {
+                    stmt.setObject(10, c.getBirthDate());
+                }
+
+                if (c.getCreatedAt() == null) {
+                    stmt.setNull(11, Types.TIMESTAMP);
+                } else {
+                    stmt.setObject(11, c.getCreatedAt());
+                }
+
+                if (c.getUpdatedAt() == null) {
+                    stmt.setNull(12, Types.TIMESTAMP);
+                } else {
+                    stmt.setObject(12, c.getUpdatedAt());
+                }
+                stmt.setInt(13, c.getVersion());
+
+                if (stmt.executeUpdate() == 0) {
+                    return false;
+                }
+                ContactPhones.insert(conn, c.getContactId(), c);
+                return true;
             }
+        });
+    }
 
-            if (c.getCreatedAt() == null) {
-                stmt.setNull(11, Types.TIMESTAMP);
-            } else {
-                stmt.setTimestamp(11, Timestamp.valueOf(c.getCreatedAt()));
+    /**
+     * Loads a single contact by its primary key.
+     *
+     * @return the contact, or null when no row has that ID.
+     */
+    @Override
+    public Contact findById(int contactId) {
+        String sql = "SELECT " + ContactRowMapper.ALL_COLUMNS + " FROM contacts WHERE contact_id = ?";
+        return jdbc.read("ContactDAO.findById", "Error finding contact", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, contactId);
+                ResultSet rs = stmt.executeQuery();
+                return rs.next() ? ContactRowMapper.forResultSet(rs, names).map(rs) : null;
             }
+        });
+    }
 
-            if (c.getUpdatedAt() == null) {
-                stmt.setNull(12, Types.TIMESTAMP);
-            } else {
-                stmt.setTimestamp(12, Timestamp.valueOf(c.getUpdatedAt()));
+    /**
+     * Counts all stored contacts without loading them.
+     */
+    @Override
+    public int countAll() {
+        return jdbc.read("ContactDAO.countAll", "Error counting contacts", conn -> {
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM contacts")) {
+                return rs.next() ? rs.getInt(1) : 0;
             }
+        });
+    }
 
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error restoring contact: " + e.getMessage());
-            return false;
-        }
+    /**
+     * Probes for a single row, which stops at the first index entry instead
+     * of counting the whole table.
+     */
+    @Override
+    public boolean isEmpty() {
+        String sql = dialect.limit("SELECT 1 FROM contacts", 1);
+        return jdbc.read("ContactDAO.isEmpty", "Error checking for contacts", conn -> {
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery(sql)) {
+                return !rs.next();
+            }
+        });
     }
 
     /**
      * Fetches all contacts, optionally sorted.
-     * 
+     *
      * @param sortByColumn The database column name to sort by (e.g., "last_name").
      * @param ascending    True for ASC, false for DESC.
      */
+    @Override
     public List<Contact> findAll(String sortByColumn, boolean ascending) {
-        List<Contact> list = new ArrayList<>();
         // Validate column name to prevent SQL injection (basic whitelist)
         if (!isValidColumn(sortByColumn))
             sortByColumn = "last_name";
 
         String order = ascending ? "ASC" : "DESC";
-        String sql = "SELECT * FROM contacts ORDER BY " + sortByColumn + " " + order;
+        String sql = "SELECT " + ContactRowMapper.ALL_COLUMNS + " FROM contacts ORDER BY " + sortByColumn + " " + order;
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        return jdbc.read("ContactDAO.findAll", "Error listing contacts", conn -> {
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery(sql)) {
+                return ContactRowMapper.mapAll(rs, names);
+            }
+        });
+    }
 
-            while (rs.next()) {
-                list.add(mapRowToContact(rs));
+    /**
+     * Fetches one window of the sorted list. Only the window's rows leave the
+     * server; the ID tiebreaker makes the order total, so pages are stable
+     * while the data is unchanged. Deep offsets still cost the server a scan
+     * of the skipped rows.
+     */
+    @Override
+    public List<Contact> findPage(String sortByColumn, boolean ascending, int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("offset must not be negative and limit must be positive");
+        }
+        if (!isValidColumn(sortByColumn))
+            sortByColumn = "last_name";
+
+        String order = ascending ? "ASC" : "DESC";
+        String sql = dialect.page("SELECT " + ContactRowMapper.ALL_COLUMNS + " FROM contacts ORDER BY " + sortByColumn
+                + " " + order + ", contact_id " + order);
+
+        return jdbc.read("ContactDAO.findPage", "Error listing contacts", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, offset);
+                stmt.setInt(2, limit);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return ContactRowMapper.mapAll(rs, names);
+                }
             }
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error listing contacts: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Fetches the rows following {@code after} in the sorted list by seeking
+     * past its sort value and ID, so the server skips nothing however deep the
+     * position is. NULLs sort first ascending and last descending, as both
+     * MySQL and H2 order them.
+     */
+    @Override
+    public List<Contact> findPageAfter(String sortByColumn, boolean ascending, Contact after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        if (after == null) {
+            return findPage(sortByColumn, ascending, 0, limit);
+        }
+        if (!isValidColumn(sortByColumn))
+            sortByColumn = "last_name";
+
+        String column = sortByColumn.toLowerCase(Locale.ROOT);
+        Object key = sortKey(after, column);
+        String order = ascending ? "ASC" : "DESC";
+        String beyond = ascending ? " > ?" : " < ?";
+        String seek;
+        if (key == null) {
+            seek = ascending ? "(" + column + " IS NULL AND contact_id > ?) OR " + column + " IS NOT NULL"
+                    : column + " IS NULL AND contact_id < ?";
+        } else {
+            seek = column + beyond + " OR (" + column + " = ? AND contact_id" + beyond + ")"
+                    + (ascending ? "" : " OR " + column + " IS NULL");
         }
-        return list;
+        String sql = dialect.limit("SELECT " + ContactRowMapper.ALL_COLUMNS + " FROM contacts WHERE " + seek
+                + " ORDER BY " + column + " " + order + ", contact_id " + order, limit);
+
+        return jdbc.read("ContactDAO.findPageAfter", "Error listing contacts", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int i = 1;
+                if (key != null) {
+                    stmt.setObject(i++, key);
+                    stmt.setObject(i++, key);
+                }
+                stmt.setInt(i, after.getContactId());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return ContactRowMapper.mapAll(rs, names);
+                }
+            }
+        });
     }
 
     /**
      * Single-field search. Performs a partial match (LIKE).
      */
+    @Override
     public List<Contact> searchByField(String field, String value) {
-        List<Contact> list = new ArrayList<>();
         if (!isValidColumn(field))
-            return list;
+            return new ArrayList<>();
 
-        String sql = "SELECT * FROM contacts WHERE " + field + " LIKE ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = "SELECT " + ContactRowMapper.ALL_COLUMNS + " FROM contacts WHERE " + field + " LIKE ?";
+        return jdbc.read("ContactDAO.searchByField", "Search error", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            stmt.setString(1, "%" + value + "%");
-            ResultSet rs = stmt.executeQuery();
-            while (rs.next()) {
-                list.add(mapRowToContact(rs));
+                stmt.setString(1, "%" + value + "%");
+                ResultSet rs = stmt.executeQuery();
+                return ContactRowMapper.mapAll(rs, names);
             }
-        } catch (SQLException e) {
-            ConsoleColors.printError("Search error: " + e.getMessage());
-        }
-        return list;
+        });
     }
 
     /**
      * Multi-field search (Complex Requirement).
      * Example: Name contains "Ahmet" AND Phone contains "555".
      */
+    @Override
     public List<Contact> searchByCriteria(SearchCriteria criteria) {
-        List<Contact> list = new ArrayList<>();
-        StringBuilder sql = new StringBuilder("SELECT * FROM contacts WHERE 1=1");
+        StringBuilder sql = new StringBuilder("SELECT " + ContactRowMapper.ALL_COLUMNS + " FROM contacts WHERE 1=1");
 
         if (criteria.getFirstName() != null && !criteria.getFirstName().isBlank()) {
             sql.append(" AND first_name LIKE ?");
@@ -198,104 +482,108 @@ public class ContactDAO {
             sql.append(" AND last_name LIKE ?");
         }
         if (criteria.getPhone() != null && !criteria.getPhone().isBlank()) {
-            sql.append(" AND (phone_primary LIKE ? OR phone_secondary LIKE ?)");
+            // Trailing digits of either number, as an index range on contact_phones
+            sql.append(" AND ").append(ContactPhones.SUFFIX_FILTER);
         }
         if (criteria.getEmail() != null && !criteria.getEmail().isBlank()) {
             sql.append(" AND email LIKE ?");
         }
         if (criteria.getBirthMonth() != null) {
-            sql.append(" AND MONTH(birth_date) = ?");
+            // Stored generated column, so the predicate can use idx_contacts_birth_month
+            sql.append(" AND birth_month = ?");
         }
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
-
-            int idx = 1;
-            if (criteria.getFirstName() != null && !criteria.getFirstName().isBlank()) {
-                stmt.setString(idx++, "%" + criteria.getFirstName() + "%");
-            }
-            if (criteria.getLastName() != null && !criteria.getLastName().isBlank()) {
-                stmt.setString(idx++, "%" + criteria.getLastName() + "%");
-            }
-            if (criteria.getPhone() != null && !criteria.getPhone().isBlank()) {
-                stmt.setString(idx++, "%" + criteria.getPhone() + "%");
-                stmt.setString(idx++, "%" + criteria.getPhone() + "%");
-            }
-            if (criteria.getEmail() != null && !criteria.getEmail().isBlank()) {
-                stmt.setString(idx++, "%" + criteria.getEmail() + "%");
-            }
-            if (criteria.getBirthMonth() != null) {
-                stmt.setInt(idx++, criteria.getBirthMonth());
+        return jdbc.read("ContactDAO.searchByCriteria", "Advanced search error", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+                int idx = 1;
+                if (criteria.getFirstName() != null && !criteria.getFirstName().isBlank()) {
+                    stmt.setString(idx++, "%" + criteria.getFirstName() + "%");
+                }
+                if (criteria.getLastName() != null && !criteria.getLastName().isBlank()) {
+                    stmt.setString(idx++, "%" + criteria.getLastName() + "%");
+                }
+                if (criteria.getPhone() != null && !criteria.getPhone().isBlank()) {
+                    stmt.setString(idx++, ContactPhones.suffixPattern(criteria.getPhone()));
+                }
+                if (criteria.getEmail() != null && !criteria.getEmail().isBlank()) {
+                    stmt.setString(idx++, "%" + criteria.getEmail() + "%");
+                }
+                if (criteria.getBirthMonth() != null) {
+                    stmt.setInt(idx++, criteria.getBirthMonth());
+                }
+
+                ResultSet rs = stmt.executeQuery();
+                return ContactRowMapper.mapAll(rs, names);
             }
+        });
+    }
 
-            ResultSet rs = stmt.executeQuery();
-            while (rs.next()) {
-                list.add(mapRowToContact(rs));
+    /**
+     * Phone lookup by trailing digits, e.g. from caller ID, served by the
+     * reversed-digits index of {@code contact_phones}.
+     */
+    @Override
+    public List<Contact> findByPhoneSuffix(String trailingDigits) {
+        String sql = "SELECT " + ContactRowMapper.ALL_COLUMNS + " FROM contacts WHERE " + ContactPhones.SUFFIX_FILTER;
+        return jdbc.read("ContactDAO.findByPhoneSuffix", "Phone search error", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, ContactPhones.suffixPattern(trailingDigits));
+                ResultSet rs = stmt.executeQuery();
+                return ContactRowMapper.mapAll(rs, names);
             }
-        } catch (SQLException e) {
-            ConsoleColors.printError("Advanced search error: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Upcoming birthdays, read through the stored {@code birth_mmdd} column.
+     * A window past 31 December is two ranges of the same index joined by
+     * {@code OR}, never a computation on {@code birth_date} per row.
+     */
+    @Override
+    public List<Contact> findUpcomingBirthdays(int days) {
+        BirthdayWindow window = BirthdayWindow.starting(LocalDate.now(), days);
+        int[][] ranges = window.ranges();
+        StringBuilder sql = new StringBuilder("SELECT " + ContactRowMapper.ALL_COLUMNS + " FROM contacts WHERE ");
+        for (int i = 0; i < ranges.length; i++) {
+            sql.append(i == 0 ? "" : " OR ").append("birth_mmdd BETWEEN ? AND ?");
         }
-        return list;
+        sql.append(" ORDER BY CASE WHEN birth_mmdd >= ? THEN 0 ELSE 1 END, birth_mmdd, contact_id");
+
+        return jdbc.read("ContactDAO.findUpcomingBirthdays", "Upcoming birthdays error", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                int idx = 1;
+                for (int[] range : ranges) {
+                    stmt.setInt(idx++, range[0]);
+                    stmt.setInt(idx++, range[1]);
+                }
+                stmt.setInt(idx, window.from());
+
+                ResultSet rs = stmt.executeQuery();
+                return ContactRowMapper.mapAll(rs, names);
+            }
+        });
     }
 
     /**
-     * Retrieves basic statistical info for Managers.
-     * 
+     * Retrieves basic statistical info for Managers. The aggregates are
+     * independent of each other, so they are handed to the {@link ReportRunner}
+     * which sends them pipelined instead of one round trip after another.
+     *
      * @return A string summary.
      */
+    @Override
     public String getStats() {
-        StringBuilder stats = new StringBuilder();
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement()) {
-
-            // Count total
-            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM contacts");
-            if (rs.next())
-                stats.append("Total Contacts: ").append(rs.getInt(1)).append("\n");
-
-            rs = stmt.executeQuery(
-                    "SELECT COUNT(*) FROM contacts WHERE linkedin_url IS NOT NULL AND linkedin_url <> ''");
-            if (rs.next())
-                stats.append("With LinkedIn URLs: ").append(rs.getInt(1)).append("\n");
-
-            rs = stmt.executeQuery(
-                    "SELECT COUNT(*) FROM contacts WHERE linkedin_url IS NULL OR linkedin_url = ''");
-            if (rs.next())
-                stats.append("Without LinkedIn URLs: ").append(rs.getInt(1)).append("\n");
-
-            rs = stmt.executeQuery(
-                    "SELECT first_name, COUNT(*) as cnt FROM contacts GROUP BY first_name HAVING cnt > 1 ORDER BY cnt DESC LIMIT 3");
-            stats.append("Most common first names: ");
-            while (rs.next()) {
-                stats.append(rs.getString("first_name")).append(" (" + rs.getInt("cnt") + "), ");
-            }
-            stats.append("\n");
-
-            rs = stmt.executeQuery(
-                    "SELECT last_name, COUNT(*) as cnt FROM contacts GROUP BY last_name HAVING cnt > 1 ORDER BY cnt DESC LIMIT 3");
-            stats.append("Most common last names: ");
-            while (rs.next()) {
-                stats.append(rs.getString("last_name")).append(" (" + rs.getInt("cnt") + "), ");
-            }
-            stats.append("\n");
+        return reports.run("ContactDAO.getStats", "Could not calculate stats", statsSections);
+    }
 
-            // Oldest
-            rs = stmt.executeQuery("SELECT MIN(birth_date) FROM contacts");
-            if (rs.next())
-                stats.append("Oldest Contact DOB: ").append(rs.getDate(1)).append("\n");
-            rs = stmt.executeQuery("SELECT MAX(birth_date) FROM contacts");
-            if (rs.next())
-                stats.append("Youngest Contact DOB: ").append(rs.getDate(1)).append("\n");
-
-            rs = stmt.executeQuery(
-                    "SELECT AVG(TIMESTAMPDIFF(YEAR, birth_date, CURDATE())) FROM contacts WHERE birth_date IS NOT NULL");
-            if (rs.next())
-                stats.append("Average Age: ").append(String.format("%.1f", rs.getDouble(1))).append(" years\n");
-
-        } catch (SQLException e) {
-            return "Could not calculate stats.";
-        }
-        return stats.toString();
+    /**
+     * Asynchronous form of {@link #getStats()} that completes when the last
+     * aggregate arrives, without blocking a DAO worker while waiting.
+     */
+    @Override
+    public CompletableFuture<String> getStatsAsync() {
+        return reports.runAsync("ContactDAO.getStats", "Could not calculate stats", statsSections);
     }
 
     private boolean isValidColumn(String col) {
@@ -303,26 +591,61 @@ public class ContactDAO {
         return col.matches("(?i)(contact_id|first_name|middle_name|last_name|nickname|email|phone_primary|phone_secondary|birth_date|linkedin_url|created_at|updated_at)");
     }
 
-    private Contact mapRowToContact(ResultSet rs) throws SQLException {
-        Date birth = rs.getDate("birth_date");
-        Timestamp created = rs.getTimestamp("created_at");
-        Timestamp updated = rs.getTimestamp("updated_at");
-        return new Contact(
-                rs.getInt("contact_id"),
-                rs.getString("first_name"),
-                rs.getString("middle_name"),
-                rs.getString("last_name"),
-                rs.getString("nickname"),
-                rs.getString("phone_primary"),
-                rs.getString("phone_secondary"),
-                rs.getString("email"),
-                rs.getString("linkedin_url"),
-                birth == null ? null : birth.toLocalDate(),
-                created == null ? null : created.toLocalDateTime(),
-                updated == null ? null : updated.toLocalDateTime());
+    /**
+     * Value of a whitelisted sort column; blank optional text is stored as
+     * NULL, so it is returned as null.
+     */
+    private static Object sortKey(Contact c, String column) {
+        Object key;
+        switch (column) {
+            case "contact_id":
+                return c.getContactId();
+            case "first_name":
+                key = c.getFirstName();
+                break;
+            case "middle_name":
+                key = c.getMiddleName();
+                break;
+            case "last_name":
+                key = c.getLastName();
+                break;
+            case "nickname":
+                key = c.getNickname();
+                break;
+            case "email":
+                key = c.getEmail();
+                break;
+            case "phone_primary":
+                key = c.getPhonePrimary();
+                break;
+            case "phone_secondary":
+                key = c.getPhoneSecondary();
+                break;
+            case "birth_date":
+                return c.getBirthDate();
+            case "linkedin_url":
+                key = c.getLinkedinUrl();
+                break;
+            case "created_at":
+                return c.getCreatedAt();
+            case "updated_at":
+                return c.getUpdatedAt();
+            default:
+                throw new IllegalArgumentException("Not a sort column: " + column);
+        }
+        return key == null || ((String) key).isBlank() ? null : key;
+    }
+
+    private boolean exists(Connection conn, int contactId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT 1 FROM contacts WHERE contact_id = ?")) {
+            stmt.setInt(1, contactId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
     }
 
     private String emptyToNull(String value) {
         return (value == null || value.isBlank()) ? null : value;
     }
-}
\ No newline at end of file
+}
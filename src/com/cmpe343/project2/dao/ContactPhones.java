@@ -0,0 +1,112 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.util.PhoneNormalizer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Phone handling shared by the contact repositories: numbers are normalized
+ * to E.164 before they are stored, and searched by their trailing digits.
+ * For the database, both numbers of a contact are mirrored into the
+ * {@code contact_phones} lookup table as reversed digits, so that "ends with
+ * 4567" becomes the index prefix range {@code reversed_digits LIKE '7654%'}
+ * instead of two {@code LIKE '%4567%'} scans joined by {@code OR}.
+ */
+final class ContactPhones {
+
+    static final char PRIMARY = 'P';
+    static final char SECONDARY = 'S';
+
+    /** Filter on {@code contacts} selecting rows with a phone ending in the bound reversed-digit prefix. */
+    static final String SUFFIX_FILTER =
+            "contact_id IN (SELECT contact_id FROM contact_phones WHERE reversed_digits LIKE ?)";
+
+    private final PhoneNormalizer normalizer;
+
+    ContactPhones() {
+        this(new PhoneNormalizer(DatabaseConfig.get().getPhoneCountryCode()));
+    }
+
+    ContactPhones(PhoneNormalizer normalizer) {
+        this.normalizer = normalizer;
+    }
+
+    /**
+     * Rewrites both phone numbers of a contact in E.164 form.
+     */
+    void normalize(Contact c) {
+        c.setPhonePrimary(normalizer.normalize(c.getPhonePrimary()));
+        c.setPhoneSecondary(normalizer.normalize(c.getPhoneSecondary()));
+    }
+
+    /**
+     * Bind value for {@link #SUFFIX_FILTER}.
+     */
+    static String suffixPattern(String trailingDigits) {
+        return PhoneNormalizer.reversedDigits(trailingDigits) + "%";
+    }
+
+    /**
+     * In-process counterpart of {@link #SUFFIX_FILTER}.
+     */
+    static boolean endsWith(String phone, String trailingDigits) {
+        return phone != null && PhoneNormalizer.digitsOf(phone).endsWith(trailingDigits);
+    }
+
+    /**
+     * Replaces the lookup rows of a contact with its current numbers. Run it
+     * in the transaction that writes the contact.
+     */
+    static void replace(Connection conn, int contactId, Contact c) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM contact_phones WHERE contact_id = ?")) {
+            stmt.setInt(1, contactId);
+            stmt.executeUpdate();
+        }
+        insert(conn, contactId, c);
+    }
+
+    /**
+     * Adds the lookup rows of a contact that has none yet.
+     */
+    static void insert(Connection conn, int contactId, Contact c) throws SQLException {
+        insert(conn, new int[] { contactId }, List.of(c));
+    }
+
+    /**
+     * Adds the lookup rows of several new contacts in one batch.
+     *
+     * @param contactIds IDs of {@code contacts}, position by position
+     */
+    static void insert(Connection conn, int[] contactIds, List<Contact> contacts) throws SQLException {
+        String sql = "INSERT INTO contact_phones (contact_id, kind, digits, reversed_digits) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int rows = 0;
+            for (int i = 0; i < contactIds.length; i++) {
+                Contact c = contacts.get(i);
+                rows += add(stmt, contactIds[i], PRIMARY, c.getPhonePrimary())
+                        + add(stmt, contactIds[i], SECONDARY, c.getPhoneSecondary());
+            }
+            if (rows > 0) {
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    private static int add(PreparedStatement stmt, int contactId, char kind, String phone) throws SQLException {
+        String digits = PhoneNormalizer.digitsOf(phone);
+        if (digits.isEmpty()) {
+            return 0;
+        }
+        stmt.setInt(1, contactId);
+        stmt.setString(2, String.valueOf(kind));
+        stmt.setString(3, digits);
+        stmt.setString(4, new StringBuilder(digits).reverse().toString());
+        stmt.addBatch();
+        return 1;
+    }
+}
@@ -0,0 +1,187 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.model.SearchCriteria;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Storage-independent access to contacts. {@link ContactDAO} keeps them in
+ * the configured database; {@link InMemoryContactRepository} and
+ * {@link CompactContactRepository} keep them in the process, e.g. as a hot
+ * tier or on edge nodes without a database. All of them report "no such row"
+ * through return values and storage failures as {@link DataAccessException}s.
+ */
+public interface ContactRepository {
+
+    /**
+     * Creates the implementation selected by {@code db.contactStore}.
+     */
+    static ContactRepository fromConfig(DatabaseConfig config) {
+        switch (config.getContactStore()) {
+            case "memory":
+                return new InMemoryContactRepository();
+            case "compact":
+                return new CompactContactRepository();
+            default:
+                return new ContactDAO();
+        }
+    }
+
+    /**
+     * Adds a new contact, normalizing its phone numbers to E.164. On success
+     * the ID assigned by the store is set on {@code c}.
+     */
+    boolean addContact(Contact c);
+
+    /**
+     * Adds many contacts at once, e.g. for imports and seeding. The database
+     * implementation sends them in batches.
+     *
+     * @return number of contacts added
+     */
+    default int addContacts(List<Contact> contacts) {
+        int added = 0;
+        for (Contact c : contacts) {
+            if (addContact(c)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Updates an existing contact if its version still matches the stored
+     * one; on success the version of {@code c} is advanced. Phone numbers
+     * are normalized on {@code c} itself, whatever the result, as in
+     * {@link #addContact(Contact)}.
+     *
+     * @return {@link UpdateResult#CONFLICT} when the contact was changed in the
+     *         meantime, {@link UpdateResult#NOT_FOUND} when it was deleted.
+     */
+    UpdateResult updateContact(Contact c);
+
+    /**
+     * Deletes a contact by ID.
+     */
+    boolean deleteContact(int contactId);
+
+    /**
+     * Re-inserts a previously deleted contact keeping its original ID,
+     * timestamps and version.
+     */
+    boolean restoreContact(Contact c);
+
+    /**
+     * Loads a single contact by its ID.
+     *
+     * @return the contact, or null when there is none with that ID.
+     */
+    Contact findById(int contactId);
+
+    /**
+     * Counts all stored contacts without loading them.
+     */
+    int countAll();
+
+    /**
+     * Whether no contact is stored. Implementations backed by a database
+     * override this to stop at the first row instead of counting.
+     */
+    default boolean isEmpty() {
+        return countAll() == 0;
+    }
+
+    /**
+     * Fetches all contacts sorted by a column; unknown columns fall back to
+     * {@code last_name}.
+     */
+    List<Contact> findAll(String sortByColumn, boolean ascending);
+
+    /**
+     * One window of {@link #findAll(String, boolean)}: at most {@code limit}
+     * contacts after skipping {@code offset}. Ties on the sort column are
+     * broken by ID so consecutive pages neither repeat nor skip contacts.
+     * This default loads the whole list; implementations override it to
+     * fetch only the window.
+     *
+     * @throws IllegalArgumentException when {@code offset} is negative or
+     *                                  {@code limit} is not positive
+     */
+    default List<Contact> findPage(String sortByColumn, boolean ascending, int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("offset must not be negative and limit must be positive");
+        }
+        List<Contact> all = findAll(sortByColumn, ascending);
+        int from = Math.min(offset, all.size());
+        return new ArrayList<>(all.subList(from, (int) Math.min(all.size(), (long) from + limit)));
+    }
+
+    /**
+     * The next window of {@link #findPage} after a contact already read:
+     * at most {@code limit} contacts that sort after {@code after}, ties
+     * broken by ID, or the first window when {@code after} is null. Unlike an
+     * offset, the position costs nothing to find, so walking a long list
+     * block by block stays linear. This default loads the whole list and
+     * continues after the contact with the same ID, returning nothing when
+     * it no longer exists; implementations override it to seek instead.
+     *
+     * @throws IllegalArgumentException when {@code limit} is not positive
+     */
+    default List<Contact> findPageAfter(String sortByColumn, boolean ascending, Contact after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        if (after == null) {
+            return findPage(sortByColumn, ascending, 0, limit);
+        }
+        List<Contact> all = findAll(sortByColumn, ascending);
+        for (int i = 0; i < all.size(); i++) {
+            if (all.get(i).getContactId() == after.getContactId()) {
+                return new ArrayList<>(all.subList(i + 1, (int) Math.min(all.size(), (long) i + 1 + limit)));
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Single-field partial match; unknown columns yield an empty list.
+     */
+    List<Contact> searchByField(String field, String value);
+
+    /**
+     * Multi-field search where every given criterion must match. Text
+     * criteria match anywhere in the value, except the phone criterion, which
+     * matches the trailing digits of either number.
+     */
+    List<Contact> searchByCriteria(SearchCriteria criteria);
+
+    /**
+     * Contacts with a primary or secondary phone number ending in the given
+     * digits; characters other than digits are ignored.
+     */
+    List<Contact> findByPhoneSuffix(String trailingDigits);
+
+    /**
+     * Contacts whose birthday falls within the next {@code days} days, today
+     * included, in the order the birthdays come up. Zero means today only.
+     *
+     * @throws IllegalArgumentException when {@code days} is negative
+     */
+    List<Contact> findUpcomingBirthdays(int days);
+
+    /**
+     * Builds the statistics summary shown to managers.
+     */
+    String getStats();
+
+    /**
+     * Asynchronous form of {@link #getStats()}.
+     */
+    default CompletableFuture<String> getStatsAsync() {
+        return DaoThreadPool.submit(this::getStats);
+    }
+}
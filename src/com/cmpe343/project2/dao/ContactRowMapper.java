@@ -0,0 +1,148 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.model.Contact;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps {@code contacts} rows by column position. The positions are resolved
+ * once per {@link ResultSet} from its metadata, so each row costs one indexed
+ * getter per selected column instead of a name lookup per column. Columns
+ * missing from the select list keep their defaults, so the same mapper serves
+ * full rows and narrow projections. Dates and timestamps are read directly as
+ * {@link LocalDate}/{@link LocalDateTime}, skipping the intermediate
+ * {@code java.sql} objects, and names go through the shared
+ * {@link StringDictionary}.
+ */
+final class ContactRowMapper {
+
+    /** Explicit select list of every mapped column, used instead of {@code SELECT *}. */
+    static final String ALL_COLUMNS = "contact_id, first_name, middle_name, last_name, nickname, phone_primary,"
+            + " phone_secondary, email, linkedin_url, birth_date, created_at, updated_at, version";
+
+    private static final int ABSENT = 0;
+
+    private final StringDictionary names;
+    private int contactId = ABSENT;
+    private int firstName = ABSENT;
+    private int middleName = ABSENT;
+    private int lastName = ABSENT;
+    private int nickname = ABSENT;
+    private int phonePrimary = ABSENT;
+    private int phoneSecondary = ABSENT;
+    private int email = ABSENT;
+    private int linkedinUrl = ABSENT;
+    private int birthDate = ABSENT;
+    private int createdAt = ABSENT;
+    private int updatedAt = ABSENT;
+    private int version = ABSENT;
+
+    private ContactRowMapper(ResultSetMetaData meta, StringDictionary names) throws SQLException {
+        this.names = names;
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            switch (meta.getColumnLabel(i).toLowerCase(Locale.ROOT)) {
+                case "contact_id":
+                    contactId = i;
+                    break;
+                case "first_name":
+                    firstName = i;
+                    break;
+                case "middle_name":
+                    middleName = i;
+                    break;
+                case "last_name":
+                    lastName = i;
+                    break;
+                case "nickname":
+                    nickname = i;
+                    break;
+                case "phone_primary":
+                    phonePrimary = i;
+                    break;
+                case "phone_secondary":
+                    phoneSecondary = i;
+                    break;
+                case "email":
+                    email = i;
+                    break;
+                case "linkedin_url":
+                    linkedinUrl = i;
+                    break;
+                case "birth_date":
+                    birthDate = i;
+                    break;
+                case "created_at":
+                    createdAt = i;
+                    break;
+                case "updated_at":
+                    updatedAt = i;
+                    break;
+                case "version":
+                    version = i;
+                    break;
+                default:
+                    // Not a contact column (e.g. a computed value); the caller reads it itself
+            }
+        }
+    }
+
+    /**
+     * Resolves the column positions of {@code rs}.
+     */
+    static ContactRowMapper forResultSet(ResultSet rs, StringDictionary names) throws SQLException {
+        return new ContactRowMapper(rs.getMetaData(), names);
+    }
+
+    /**
+     * Maps the current row.
+     */
+    Contact map(ResultSet rs) throws SQLException {
+        Contact c = new Contact();
+        if (contactId != ABSENT)
+            c.setContactId(rs.getInt(contactId));
+        if (firstName != ABSENT)
+            c.setFirstName(names.canonical(rs.getString(firstName)));
+        if (middleName != ABSENT)
+            c.setMiddleName(names.canonical(rs.getString(middleName)));
+        if (lastName != ABSENT)
+            c.setLastName(names.canonical(rs.getString(lastName)));
+        if (nickname != ABSENT)
+            c.setNickname(names.canonical(rs.getString(nickname)));
+        if (phonePrimary != ABSENT)
+            c.setPhonePrimary(rs.getString(phonePrimary));
+        if (phoneSecondary != ABSENT)
+            c.setPhoneSecondary(rs.getString(phoneSecondary));
+        if (email != ABSENT)
+            c.setEmail(rs.getString(email));
+        if (linkedinUrl != ABSENT)
+            c.setLinkedinUrl(rs.getString(linkedinUrl));
+        if (birthDate != ABSENT)
+            c.setBirthDate(rs.getObject(birthDate, LocalDate.class));
+        if (createdAt != ABSENT)
+            c.setCreatedAt(rs.getObject(createdAt, LocalDateTime.class));
+        if (updatedAt != ABSENT)
+            c.setUpdatedAt(rs.getObject(updatedAt, LocalDateTime.class));
+        if (version != ABSENT)
+            c.setVersion(rs.getInt(version));
+        return c;
+    }
+
+    /**
+     * Maps every remaining row of {@code rs}.
+     */
+    static List<Contact> mapAll(ResultSet rs, StringDictionary names) throws SQLException {
+        ContactRowMapper mapper = forResultSet(rs, names);
+        List<Contact> list = new ArrayList<>();
+        while (rs.next()) {
+            list.add(mapper.map(rs));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,66 @@
+package com.cmpe343.project2.dao;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single-pass accumulator producing the same statistics text as
+ * {@link ContactDAO#getStats()}, for repositories that compute it in memory.
+ */
+final class ContactStats {
+
+    private final LocalDate today = LocalDate.now();
+    private final Map<String, Integer> firstNames = new HashMap<>();
+    private final Map<String, Integer> lastNames = new HashMap<>();
+    private int total;
+    private int withLinkedIn;
+    private int withBirthDate;
+    private long ageSum;
+    private LocalDate oldest;
+    private LocalDate youngest;
+
+    void add(String firstName, String lastName, String linkedinUrl, LocalDate birthDate) {
+        total++;
+        if (linkedinUrl != null && !linkedinUrl.isEmpty()) {
+            withLinkedIn++;
+        }
+        firstNames.merge(firstName, 1, Integer::sum);
+        lastNames.merge(lastName, 1, Integer::sum);
+        if (birthDate != null) {
+            withBirthDate++;
+            ageSum += ChronoUnit.YEARS.between(birthDate, today);
+            if (oldest == null || birthDate.isBefore(oldest)) {
+                oldest = birthDate;
+            }
+            if (youngest == null || birthDate.isAfter(youngest)) {
+                youngest = birthDate;
+            }
+        }
+    }
+
+    String render() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Total Contacts: ").append(total).append("\n");
+        sb.append("With LinkedIn URLs: ").append(withLinkedIn).append("\n");
+        sb.append("Without LinkedIn URLs: ").append(total - withLinkedIn).append("\n");
+        appendTopNames(sb, "Most common first names: ", firstNames);
+        appendTopNames(sb, "Most common last names: ", lastNames);
+        sb.append("Oldest Contact DOB: ").append(oldest).append("\n");
+        sb.append("Youngest Contact DOB: ").append(youngest).append("\n");
+        double averageAge = withBirthDate == 0 ? 0 : (double) ageSum / withBirthDate;
+        sb.append("Average Age: ").append(String.format("%.1f", averageAge)).append(" years\n");
+        return sb.toString();
+    }
+
+    private static void appendTopNames(StringBuilder sb, String label, Map<String, Integer> counts) {
+        sb.append(label);
+        counts.entrySet().stream()
+                .filter(e -> e.getValue() > 1)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(3)
+                .forEach(e -> sb.append(e.getKey()).append(" (" + e.getValue() + "), "));
+        sb.append("\n");
+    }
+}
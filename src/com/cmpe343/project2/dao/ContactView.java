@@ -0,0 +1,99 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.model.Contact;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Read-only flyweight over one row of a {@link ContactColumnStore}. A single
+ * view is moved from row to row during a scan, and each getter decodes only
+ * the column it is asked for, so filtering millions of packed rows allocates
+ * nothing for the rows that do not match. A view is only valid inside the
+ * callback that received it; use {@link #toContact()} to keep a row.
+ */
+public final class ContactView {
+
+    private final ContactColumnStore store;
+    private int slot;
+
+    ContactView(ContactColumnStore store) {
+        this.store = store;
+    }
+
+    ContactView at(int slot) {
+        this.slot = slot;
+        return this;
+    }
+
+    public int getContactId() {
+        return store.id(slot);
+    }
+
+    public int getVersion() {
+        return store.version(slot);
+    }
+
+    public String getFirstName() {
+        return store.firstName(slot);
+    }
+
+    public String getMiddleName() {
+        return store.middleName(slot);
+    }
+
+    public String getLastName() {
+        return store.lastName(slot);
+    }
+
+    public String getNickname() {
+        return store.nickname(slot);
+    }
+
+    public String getPhonePrimary() {
+        return store.phonePrimary(slot);
+    }
+
+    public String getPhoneSecondary() {
+        return store.phoneSecondary(slot);
+    }
+
+    public String getEmail() {
+        return store.email(slot);
+    }
+
+    public String getLinkedinUrl() {
+        return store.linkedinUrl(slot);
+    }
+
+    public LocalDate getBirthDate() {
+        int day = store.birthDay(slot);
+        return day == ContactColumnStore.NULL_DAY ? null : LocalDate.ofEpochDay(day);
+    }
+
+    /**
+     * Birth month (1-12), or 0 when unknown.
+     */
+    public int getBirthMonth() {
+        int day = store.birthDay(slot);
+        return day == ContactColumnStore.NULL_DAY ? 0 : LocalDate.ofEpochDay(day).getMonthValue();
+    }
+
+    public LocalDateTime getCreatedAt() {
+        long time = store.createdAt(slot);
+        return time == ContactColumnStore.NULL_TIME ? null : LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC);
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        long time = store.updatedAt(slot);
+        return time == ContactColumnStore.NULL_TIME ? null : LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Copies the current row into a detached, mutable contact.
+     */
+    public Contact toContact() {
+        return store.toContact(slot);
+    }
+}
@@ -0,0 +1,45 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.metrics.LatencyHistogram;
+import com.cmpe343.project2.metrics.MetricsRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency histogram and error counter of one DAO method, registered once
+ * and cached so that timing a call costs a map lookup and a few atomic
+ * increments.
+ */
+final class DaoMetrics {
+
+    private static final Map<String, DaoMetrics> BY_METHOD = new ConcurrentHashMap<>();
+
+    private final LatencyHistogram latency;
+    private final MetricsRegistry.Counter errors;
+
+    private DaoMetrics(String method) {
+        MetricsRegistry registry = MetricsRegistry.shared();
+        this.latency = registry.histogram("cmpe343_dao_call_duration_seconds",
+                "Duration of DAO calls including connection waits and retries", "method", method);
+        this.errors = registry.counter("cmpe343_dao_call_errors_total",
+                "DAO calls that ended with a DataAccessException", "method", method);
+    }
+
+    /**
+     * @param method label such as {@code ContactDAO.findById}
+     */
+    static DaoMetrics of(String method) {
+        return BY_METHOD.computeIfAbsent(method, DaoMetrics::new);
+    }
+
+    /**
+     * Records a call that started at {@code startNanos} ({@link System#nanoTime()}).
+     */
+    void record(long startNanos, boolean failed) {
+        latency.recordSince(startNanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.service.SessionContext;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated, bounded executor for asynchronous DAO work. It is sized to the
+ * connection pool so that no more queries run at once than there are
+ * connections to serve them, and its queue is bounded so an overloaded caller
+ * gets an immediate {@link RejectedExecutionException} instead of unbounded
+ * memory growth. Worker threads are daemons and time out when idle.
+ */
+public final class DaoThreadPool {
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 64;
+    private static final String THREAD_NAME_PREFIX = "dao-worker-";
+    private static ThreadPoolExecutor executor = null;
+
+    private DaoThreadPool() {
+    }
+
+    /**
+     * Returns the shared executor, creating it on first use.
+     */
+    public static synchronized ExecutorService shared() {
+        if (executor == null || executor.isShutdown()) {
+            int threads = DatabaseConfig.get().getPoolSize();
+            AtomicInteger counter = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD), runnable -> {
+                        Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    /**
+     * Runs {@code work} on the shared executor. Unlike
+     * {@link CompletableFuture#supplyAsync}, failures complete the future with
+     * the original exception (for example {@link DataAccessException}) rather
+     * than a {@code CompletionException} wrapper, and a saturated queue yields
+     * a failed future instead of throwing at the call site. The work runs with
+     * the caller's read-your-writes clock, so reads it makes after the
+     * caller's writes, and writes it makes, count for the caller's session.
+     *
+     * @param work blocking DAO call
+     * @return future completed with the call's result or exception
+     */
+    public static <T> CompletableFuture<T> submit(Supplier<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        SessionContext session = SessionContext.getInstance();
+        SessionContext.WriteClock writes = session.currentWrites();
+        try {
+            shared().execute(() -> {
+                SessionContext.WriteClock previous = session.bindWrites(writes);
+                try {
+                    future.complete(work.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    session.bindWrites(previous);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Whether the calling thread is one of this pool's workers. Code that would
+     * fan out and then block on the results checks this first, because a
+     * worker waiting for tasks queued behind it can starve the pool.
+     */
+    public static boolean isWorkerThread() {
+        return Thread.currentThread().getName().startsWith(THREAD_NAME_PREFIX);
+    }
+
+    /**
+     * Stops accepting new work; queued tasks still run to completion.
+     */
+    public static synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.cmpe343.project2.dao;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientException;
+import java.util.Set;
+
+/**
+ * Unchecked exception raised by the DAO layer when a statement cannot be
+ * executed. DAOs never print or swallow database errors themselves; they wrap
+ * the underlying {@link SQLException} together with a short description of the
+ * failed operation, and the caller decides how to report it. Every failure is
+ * classified by {@link #translate(String, SQLException)}:
+ * <ol>
+ * <li>{@link TransientDataAccessException} - the same call may succeed if
+ *     repeated (connection reset, pool timeout, deadlock, lock wait
+ *     timeout).</li>
+ * <li>{@link PermanentDataAccessException} - repeating the call is pointless
+ *     (syntax errors, constraint violations, missing tables).</li>
+ * </ol>
+ * Synchronous callers catch it around the DAO call, asynchronous callers
+ * receive it as the exceptional completion of the returned future.
+ */
+public abstract class DataAccessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    // MySQL vendor codes: too many connections, lock wait timeout, deadlock,
+    // and the client-side "can't connect" / "server gone" / "lost connection" family
+    private static final Set<Integer> TRANSIENT_MYSQL_CODES = Set.of(1040, 1205, 1213, 2002, 2003, 2006, 2013);
+    private static final Set<Integer> ROLLED_BACK_MYSQL_CODES = Set.of(1205, 1213);
+
+    /**
+     * @param operation human readable description of what failed
+     * @param cause     driver exception that caused the failure
+     */
+    protected DataAccessException(String operation, SQLException cause) {
+        super(operation + ": " + cause.getMessage(), cause);
+    }
+
+    /**
+     * Wraps a driver exception into the matching transient or permanent type.
+     *
+     * @param operation human readable description of what failed
+     * @param cause     driver exception to classify
+     * @return classified exception, ready to be thrown
+     */
+    public static DataAccessException translate(String operation, SQLException cause) {
+        if (isTransient(cause)) {
+            return new TransientDataAccessException(operation, cause, wasRolledBack(cause));
+        }
+        return new PermanentDataAccessException(operation, cause);
+    }
+
+    /**
+     * Whether repeating the same call has a realistic chance to succeed.
+     */
+    public abstract boolean isTransient();
+
+    /**
+     * Exposes the driver exception that caused this failure.
+     *
+     * @return underlying {@link SQLException}
+     */
+    public SQLException getSqlCause() {
+        return (SQLException) getCause();
+    }
+
+    private static boolean isTransient(SQLException e) {
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException) {
+            return true;
+        }
+        String state = e.getSQLState();
+        // Class 08 = connection exception, 40001 = serialization failure
+        if (state != null && (state.startsWith("08") || state.equals("40001"))) {
+            return true;
+        }
+        return TRANSIENT_MYSQL_CODES.contains(e.getErrorCode());
+    }
+
+    private static boolean wasRolledBack(SQLException e) {
+        return e instanceof SQLTransactionRollbackException || "40001".equals(e.getSQLState())
+                || ROLLED_BACK_MYSQL_CODES.contains(e.getErrorCode());
+    }
+}
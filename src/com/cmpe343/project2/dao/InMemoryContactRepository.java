@@ -0,0 +1,481 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.model.SearchCriteria;
+import com.cmpe343.project2.util.PhoneNormalizer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Contact storage held entirely in the JVM, for use as a hot tier or on edge
+ * nodes without a database. It behaves like {@link ContactDAO}: IDs are
+ * assigned like an auto-increment column, updates are version-checked, and
+ * sorting and {@code LIKE}-style matching ignore case. The data lives in four
+ * structures:
+ * <ol>
+ * <li>An {@link IntObjectMap} from contact ID to an immutable {@link Row}
+ *     that stores dates as epoch days and timestamps as epoch seconds.</li>
+ * <li>One sorted index per sortable column, so {@link #findAll} walks the
+ *     index instead of sorting on every call.</li>
+ * <li>Twelve birth-month buckets ordered by day of month, so month searches
+ *     and upcoming birthdays visit only the rows born in the months asked
+ *     for, already in calendar order.</li>
+ * <li>A {@link ReentrantReadWriteLock}: any number of concurrent readers and
+ *     a single writer at a time. Rows are replaced, never mutated, so readers
+ *     always see a consistent row.</li>
+ * </ol>
+ * Nothing is persisted; the contents are lost when the process exits.
+ */
+public class InMemoryContactRepository implements ContactRepository {
+
+    private static final int NULL_DAY = Integer.MIN_VALUE;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final DateTimeFormatter TIMESTAMP_TEXT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /** Sort orders of the sortable columns, matching the SQL whitelist. Nulls sort first, as in MySQL. */
+    private static final Map<String, Comparator<Row>> ORDERINGS = new LinkedHashMap<>();
+
+    /** Text form of each column as seen by {@code LIKE}. */
+    private static final Map<String, Function<Row, String>> TEXT = new HashMap<>();
+
+    static {
+        ORDERINGS.put("contact_id", Comparator.comparingInt(r -> r.id));
+        text("first_name", r -> r.firstName);
+        text("middle_name", r -> r.middleName);
+        text("last_name", r -> r.lastName);
+        text("nickname", r -> r.nickname);
+        text("email", r -> r.email);
+        text("phone_primary", r -> r.phonePrimary);
+        text("phone_secondary", r -> r.phoneSecondary);
+        text("linkedin_url", r -> r.linkedinUrl);
+        day("birth_date", r -> r.birthDay);
+        time("created_at", r -> r.createdAt);
+        time("updated_at", r -> r.updatedAt);
+        TEXT.put("contact_id", r -> String.valueOf(r.id));
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IntObjectMap<Row> rows = new IntObjectMap<>(1024);
+    private final Map<String, NavigableSet<Row>> indexes = new HashMap<>();
+    private final List<NavigableSet<Row>> birthMonths = new ArrayList<>(12);
+    private final ContactPhones phones = new ContactPhones();
+    private int nextId = 1;
+
+    public InMemoryContactRepository() {
+        ORDERINGS.forEach((column, order) -> indexes.put(column, new TreeSet<>(order)));
+        for (int month = 1; month <= 12; month++) {
+            birthMonths.add(new TreeSet<>(Comparator.<Row>comparingInt(r -> r.birthKey).thenComparingInt(r -> r.id)));
+        }
+    }
+
+    @Override
+    public boolean addContact(Contact c) {
+        phones.normalize(c);
+        long now = now();
+        lock.writeLock().lock();
+        try {
+            int id = nextId;
+            insert(Row.of(id, c, now, now, 0));
+            c.setContactId(id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public UpdateResult updateContact(Contact c) {
+        phones.normalize(c);
+        lock.writeLock().lock();
+        try {
+            Row current = rows.get(c.getContactId());
+            if (current == null) {
+                return UpdateResult.NOT_FOUND;
+            }
+            if (current.version != c.getVersion()) {
+                return UpdateResult.CONFLICT;
+            }
+            unindex(current);
+            insert(Row.of(current.id, c, current.createdAt, now(), current.version + 1));
+            c.setVersion(current.version + 1);
+            return UpdateResult.UPDATED;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteContact(int contactId) {
+        lock.writeLock().lock();
+        try {
+            Row removed = rows.remove(contactId);
+            if (removed == null) {
+                return false;
+            }
+            unindex(removed);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean restoreContact(Contact c) {
+        lock.writeLock().lock();
+        try {
+            if (rows.containsKey(c.getContactId())) {
+                return false; // the primary key is taken again
+            }
+            insert(Row.of(c.getContactId(), c, epochSecond(c.getCreatedAt()), epochSecond(c.getUpdatedAt()),
+                    c.getVersion()));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Contact findById(int contactId) {
+        lock.readLock().lock();
+        try {
+            Row row = rows.get(contactId);
+            return row == null ? null : row.toContact();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int countAll() {
+        lock.readLock().lock();
+        try {
+            return rows.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Contact> findAll(String sortByColumn, boolean ascending) {
+        String column = sortByColumn == null ? "" : sortByColumn.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            NavigableSet<Row> index = indexes.getOrDefault(column, indexes.get("last_name"));
+            List<Contact> list = new ArrayList<>(rows.size());
+            for (Row row : ascending ? index : index.descendingSet()) {
+                list.add(row.toContact());
+            }
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Walks the sort index past {@code offset} rows and copies only the
+     * window.
+     */
+    @Override
+    public List<Contact> findPage(String sortByColumn, boolean ascending, int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("offset must not be negative and limit must be positive");
+        }
+        String column = sortByColumn == null ? "" : sortByColumn.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            NavigableSet<Row> index = indexes.getOrDefault(column, indexes.get("last_name"));
+            List<Contact> page = new ArrayList<>(Math.min(limit, Math.max(0, rows.size() - offset)));
+            int skipped = 0;
+            for (Row row : ascending ? index : index.descendingSet()) {
+                if (skipped++ < offset) {
+                    continue;
+                }
+                page.add(row.toContact());
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Continues the sort index strictly after {@code after}'s entry, found by
+     * its values and ID, so no rows are walked to reach the position.
+     */
+    @Override
+    public List<Contact> findPageAfter(String sortByColumn, boolean ascending, Contact after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        if (after == null) {
+            return findPage(sortByColumn, ascending, 0, limit);
+        }
+        String column = sortByColumn == null ? "" : sortByColumn.toLowerCase(Locale.ROOT);
+        Row key = Row.of(after.getContactId(), after, epochSecond(after.getCreatedAt()),
+                epochSecond(after.getUpdatedAt()), after.getVersion());
+        lock.readLock().lock();
+        try {
+            NavigableSet<Row> index = indexes.getOrDefault(column, indexes.get("last_name"));
+            List<Contact> page = new ArrayList<>(Math.min(limit, rows.size()));
+            for (Row row : ascending ? index.tailSet(key, false) : index.headSet(key, false).descendingSet()) {
+                page.add(row.toContact());
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Contact> searchByField(String field, String value) {
+        Function<Row, String> column = field == null ? null : TEXT.get(field.toLowerCase(Locale.ROOT));
+        if (column == null)
+            return new ArrayList<>();
+
+        String needle = value.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            List<Contact> list = new ArrayList<>();
+            rows.forEachValue(row -> {
+                if (contains(column.apply(row), needle)) {
+                    list.add(row.toContact());
+                }
+            });
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Contact> searchByCriteria(SearchCriteria criteria) {
+        String firstName = needle(criteria.getFirstName());
+        String lastName = needle(criteria.getLastName());
+        String phone = criteria.getPhone() == null || criteria.getPhone().isBlank() ? null
+                : PhoneNormalizer.digitsOf(criteria.getPhone());
+        String email = needle(criteria.getEmail());
+        Integer birthMonth = criteria.getBirthMonth();
+
+        lock.readLock().lock();
+        try {
+            List<Contact> list = new ArrayList<>();
+            Consumer<Row> filter = row -> {
+                if ((firstName == null || contains(row.firstName, firstName))
+                        && (lastName == null || contains(row.lastName, lastName))
+                        && (phone == null || ContactPhones.endsWith(row.phonePrimary, phone)
+                                || ContactPhones.endsWith(row.phoneSecondary, phone))
+                        && (email == null || contains(row.email, email))) {
+                    list.add(row.toContact());
+                }
+            };
+            if (birthMonth == null) {
+                rows.forEachValue(filter);
+            } else if (birthMonth >= 1 && birthMonth <= 12) {
+                birthMonths.get(birthMonth - 1).forEach(filter);
+            }
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Contact> findByPhoneSuffix(String trailingDigits) {
+        String suffix = PhoneNormalizer.digitsOf(trailingDigits);
+        lock.readLock().lock();
+        try {
+            List<Contact> list = new ArrayList<>();
+            rows.forEachValue(row -> {
+                if (ContactPhones.endsWith(row.phonePrimary, suffix)
+                        || ContactPhones.endsWith(row.phoneSecondary, suffix)) {
+                    list.add(row.toContact());
+                }
+            });
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Contact> findUpcomingBirthdays(int days) {
+        BirthdayWindow window = BirthdayWindow.starting(LocalDate.now(), days);
+        lock.readLock().lock();
+        try {
+            List<Contact> list = new ArrayList<>();
+            for (int[] range : window.ranges()) {
+                for (int month = range[0] / 100; month <= range[1] / 100; month++) {
+                    for (Row row : birthMonths.get(month - 1)) {
+                        if (row.birthKey > range[1]) {
+                            break;
+                        }
+                        if (row.birthKey >= range[0]) {
+                            list.add(row.toContact());
+                        }
+                    }
+                }
+            }
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Produces the same summary as {@link ContactDAO#getStats()} in a single
+     * pass over the rows.
+     */
+    @Override
+    public String getStats() {
+        lock.readLock().lock();
+        try {
+            ContactStats stats = new ContactStats();
+            rows.forEachValue(row -> stats.add(row.firstName, row.lastName, row.linkedinUrl,
+                    row.birthDay == NULL_DAY ? null : LocalDate.ofEpochDay(row.birthDay)));
+            return stats.render();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Row row) {
+        rows.put(row.id, row);
+        for (NavigableSet<Row> index : indexes.values()) {
+            index.add(row);
+        }
+        if (row.birthKey != BirthdayWindow.NO_BIRTHDAY) {
+            birthMonths.get(row.birthKey / 100 - 1).add(row);
+        }
+        nextId = Math.max(nextId, row.id + 1);
+    }
+
+    private void unindex(Row row) {
+        for (NavigableSet<Row> index : indexes.values()) {
+            index.remove(row);
+        }
+        if (row.birthKey != BirthdayWindow.NO_BIRTHDAY) {
+            birthMonths.get(row.birthKey / 100 - 1).remove(row);
+        }
+    }
+
+    private static boolean contains(String haystack, String lowerNeedle) {
+        return haystack != null && haystack.toLowerCase(Locale.ROOT).contains(lowerNeedle);
+    }
+
+    private static String needle(String criterion) {
+        return criterion == null || criterion.isBlank() ? null : criterion.toLowerCase(Locale.ROOT);
+    }
+
+    private static long now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time == null ? NULL_TIME : time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static void text(String column, Function<Row, String> getter) {
+        Comparator<Row> order = Comparator.comparing(getter,
+                Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+        ORDERINGS.put(column, order.thenComparingInt(r -> r.id));
+        TEXT.put(column, getter);
+    }
+
+    private static void day(String column, ToIntFunction<Row> getter) {
+        // NULL_DAY is the smallest int, so missing dates sort first on their own
+        ORDERINGS.put(column, Comparator.comparingInt(getter).thenComparingInt(r -> r.id));
+        TEXT.put(column, r -> {
+            int day = getter.applyAsInt(r);
+            return day == NULL_DAY ? null : LocalDate.ofEpochDay(day).toString();
+        });
+    }
+
+    private static void time(String column, ToLongFunction<Row> getter) {
+        ORDERINGS.put(column, Comparator.comparingLong(getter).thenComparingInt(r -> r.id));
+        TEXT.put(column, r -> {
+            long time = getter.applyAsLong(r);
+            return time == NULL_TIME ? null
+                    : LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC).format(TIMESTAMP_TEXT);
+        });
+    }
+
+    /**
+     * Immutable stored form of a contact. Blank optional fields are stored as
+     * null, like {@link ContactDAO} does.
+     */
+    private static final class Row {
+        final int id;
+        final String firstName;
+        final String middleName;
+        final String lastName;
+        final String nickname;
+        final String phonePrimary;
+        final String phoneSecondary;
+        final String email;
+        final String linkedinUrl;
+        final int birthDay;
+        final int birthKey;
+        final long createdAt;
+        final long updatedAt;
+        final int version;
+
+        private Row(int id, Contact c, long createdAt, long updatedAt, int version) {
+            this.id = id;
+            this.firstName = c.getFirstName();
+            this.middleName = emptyToNull(c.getMiddleName());
+            this.lastName = c.getLastName();
+            this.nickname = emptyToNull(c.getNickname());
+            this.phonePrimary = c.getPhonePrimary();
+            this.phoneSecondary = emptyToNull(c.getPhoneSecondary());
+            this.email = c.getEmail();
+            this.linkedinUrl = emptyToNull(c.getLinkedinUrl());
+            this.birthDay = c.getBirthDate() == null ? NULL_DAY : (int) c.getBirthDate().toEpochDay();
+            this.birthKey = BirthdayWindow.key(c.getBirthDate());
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.version = version;
+        }
+
+        static Row of(int id, Contact c, long createdAt, long updatedAt, int version) {
+            return new Row(id, c, createdAt, updatedAt, version);
+        }
+
+        Contact toContact() {
+            Contact contact = new Contact(id, firstName, middleName, lastName, nickname, phonePrimary,
+                    phoneSecondary, email, linkedinUrl,
+                    birthDay == NULL_DAY ? null : LocalDate.ofEpochDay(birthDay),
+                    createdAt == NULL_TIME ? null : LocalDateTime.ofEpochSecond(createdAt, 0, ZoneOffset.UTC),
+                    updatedAt == NULL_TIME ? null : LocalDateTime.ofEpochSecond(updatedAt, 0, ZoneOffset.UTC));
+            contact.setVersion(version);
+            return contact;
+        }
+
+        private static String emptyToNull(String value) {
+            return (value == null || value.isBlank()) ? null : value;
+        }
+    }
+}
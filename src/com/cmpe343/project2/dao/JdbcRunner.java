@@ -0,0 +1,221 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.db.DatabaseConnection;
+import com.cmpe343.project2.metrics.jfr.DaoQueryEvent;
+import com.cmpe343.project2.service.SessionContext;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Executes DAO work against a pooled connection and turns failures into the
+ * typed {@link DataAccessException} hierarchy. Each call follows the same
+ * steps:
+ * <ol>
+ * <li>Lease a connection from {@link DatabaseConnection}: reads may be served
+ *     by a replica, writes always go to the primary.</li>
+ * <li>Run the supplied {@link SqlWork} and return the connection.</li>
+ * <li>On failure, classify the {@link SQLException}; transient failures are
+ *     retried with backoff according to the {@link RetryPolicy}.</li>
+ * </ol>
+ * Reads are retried on any transient failure. Writes are only retried when the
+ * statement provably did not take effect - the connection could not be leased
+ * or the server rolled the statement back - so a lost acknowledgement never
+ * turns into a duplicated insert. Every successful write is recorded on the
+ * {@link SessionContext} so the session's following reads see it.
+ * <p>
+ * Calls that name their DAO method are timed, retries and waiting for a
+ * connection included, into the {@code cmpe343_dao_call_duration_seconds}
+ * histogram of the shared {@link com.cmpe343.project2.metrics.MetricsRegistry};
+ * failures also count towards {@code cmpe343_dao_call_errors_total}.
+ * Each attempt's statements are traced for the {@link SlowQueryLog}, and
+ * while a flight recording is running each attempt is also emitted as a
+ * {@link DaoQueryEvent}.
+ */
+public class JdbcRunner {
+
+    private final RetryPolicy retryPolicy;
+    private final SlowQueryLog slowQueries = SlowQueryLog.shared();
+
+    /**
+     * Creates a runner using the retry settings from {@link DatabaseConfig}.
+     */
+    public JdbcRunner() {
+        this(RetryPolicy.fromConfig(DatabaseConfig.get()));
+    }
+
+    public JdbcRunner(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Unit of JDBC work executed on a leased connection.
+     */
+    @FunctionalInterface
+    public interface SqlWork<T> {
+        T apply(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Runs side-effect free work, retrying every transient failure.
+     *
+     * @param operation description used in error messages
+     * @param work      statements to run
+     */
+    public <T> T read(String operation, SqlWork<T> work) {
+        return read(null, operation, work);
+    }
+
+    /**
+     * Timed form of {@link #read(String, SqlWork)}.
+     *
+     * @param method    metric label, e.g. {@code ContactDAO.findById}; null
+     *                  leaves the call untimed
+     * @param operation description used in error messages
+     * @param work      statements to run
+     */
+    public <T> T read(String method, String operation, SqlWork<T> work) {
+        return timed(method, operation, work, false);
+    }
+
+    /**
+     * Runs work that modifies data, retrying only failures that are known not
+     * to have applied the change.
+     *
+     * @param operation description used in error messages
+     * @param work      statements to run
+     */
+    public <T> T write(String operation, SqlWork<T> work) {
+        return write(null, operation, work);
+    }
+
+    /**
+     * Timed form of {@link #write(String, SqlWork)}.
+     *
+     * @param method    metric label; null leaves the call untimed
+     * @param operation description used in error messages
+     * @param work      statements to run
+     */
+    public <T> T write(String method, String operation, SqlWork<T> work) {
+        return timed(method, operation, work, true);
+    }
+
+    /**
+     * Runs several modifying statements as one transaction: they are committed
+     * together when the work returns, and rolled back together when it throws
+     * (the pool discards the open transaction when the connection comes back).
+     * Retried like {@link #write}.
+     *
+     * @param operation description used in error messages
+     * @param work      statements to run
+     */
+    public <T> T transaction(String operation, SqlWork<T> work) {
+        return transaction(null, operation, work);
+    }
+
+    /**
+     * Timed form of {@link #transaction(String, SqlWork)}.
+     *
+     * @param method    metric label; null leaves the call untimed
+     * @param operation description used in error messages
+     * @param work      statements to run
+     */
+    public <T> T transaction(String method, String operation, SqlWork<T> work) {
+        return write(method, operation, conn -> {
+            conn.setAutoCommit(false);
+            T result = work.apply(conn);
+            conn.commit();
+            return result;
+        });
+    }
+
+    private <T> T timed(String method, String operation, SqlWork<T> work, boolean modifiesData) {
+        if (method == null) {
+            return run(operation, operation, work, modifiesData);
+        }
+        DaoMetrics metrics = DaoMetrics.of(method);
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = run(method, operation, work, modifiesData);
+            failed = false;
+            return result;
+        } finally {
+            metrics.record(start, failed);
+        }
+    }
+
+    private <T> T run(String method, String operation, SqlWork<T> work, boolean modifiesData) {
+        for (int attempt = 1;; attempt++) {
+            boolean leased = false;
+            DataAccessException failure;
+            long leaseStart = System.nanoTime();
+            DaoQueryEvent event = new DaoQueryEvent();
+            event.begin();
+            try (Connection conn = modifiesData
+                    ? DatabaseConnection.getConnection()
+                    : DatabaseConnection.getReadConnection()) {
+                leased = true;
+                T result = slowQueries.isEnabled() || event.isEnabled()
+                        ? traced(method, work, conn, System.nanoTime() - leaseStart, event)
+                        : work.apply(conn);
+                if (modifiesData) {
+                    SessionContext.getInstance().recordWrite();
+                }
+                return result;
+            } catch (SQLException e) {
+                failure = DataAccessException.translate(operation, e);
+            }
+
+            if (attempt >= retryPolicy.getMaxAttempts() || !isRetryable(failure, leased, modifiesData)) {
+                throw failure;
+            }
+            pause(retryPolicy.backoffMillis(attempt), failure);
+        }
+    }
+
+    /**
+     * Runs the work on a traced connection and offers the call to the slow
+     * query log and the flight recorder, failed or not.
+     */
+    private <T> T traced(String method, SqlWork<T> work, Connection conn, long waitNanos, DaoQueryEvent event)
+            throws SQLException {
+        StatementTrace trace = new StatementTrace();
+        long start = System.nanoTime();
+        T result = null;
+        boolean failed = true;
+        try {
+            result = work.apply(trace.wrap(conn));
+            failed = false;
+            return result;
+        } finally {
+            slowQueries.offer(method, failed, waitNanos, System.nanoTime() - start, trace, result);
+            if (event.shouldCommit()) {
+                event.method = method;
+                event.sql = trace.shape();
+                event.rows = failed ? -1 : trace.rows(result);
+                event.connectionWait = waitNanos;
+                event.executeTime = trace.executeNanos();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private boolean isRetryable(DataAccessException failure, boolean leased, boolean modifiesData) {
+        if (!failure.isTransient()) {
+            return false;
+        }
+        return !modifiesData || !leased || ((TransientDataAccessException) failure).wasRolledBack();
+    }
+
+    private void pause(long millis, DataAccessException failure) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+}
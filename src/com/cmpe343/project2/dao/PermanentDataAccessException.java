@@ -0,0 +1,21 @@
+package com.cmpe343.project2.dao;
+
+import java.sql.SQLException;
+
+/**
+ * Database failure that will not go away by repeating the call, such as a
+ * constraint violation or an invalid statement. Never retried.
+ */
+public class PermanentDataAccessException extends DataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PermanentDataAccessException(String operation, SQLException cause) {
+        super(operation, cause);
+    }
+
+    @Override
+    public boolean isTransient() {
+        return false;
+    }
+}
@@ -0,0 +1,163 @@
+package com.cmpe343.project2.dao;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Executes the independent {@link ReportSection}s of a report so that its
+ * latency approaches that of the slowest query instead of the sum of all of
+ * them. Results are always assembled in section order. Three strategies exist:
+ * <ol>
+ * <li>{@link Mode#MULTI_STATEMENT} - all queries go to the server as one
+ *     request and the result sets are consumed in order; requires
+ *     {@code allowMultiQueries=true} on the JDBC URL.</li>
+ * <li>{@link Mode#PARALLEL} - each query runs on its own pooled connection via
+ *     the {@link DaoThreadPool}.</li>
+ * <li>{@link Mode#SEQUENTIAL} - one statement after the other on a single
+ *     connection, the fallback used when already running on a DAO worker so
+ *     that workers never block waiting for each other.</li>
+ * </ol>
+ */
+public class ReportRunner {
+
+    public enum Mode {
+        MULTI_STATEMENT,
+        PARALLEL,
+        SEQUENTIAL
+    }
+
+    private final JdbcRunner jdbc;
+    private final Mode mode;
+
+    public ReportRunner(JdbcRunner jdbc, Mode mode) {
+        this.jdbc = jdbc;
+        this.mode = mode;
+    }
+
+    /**
+     * Runs every section and concatenates their renderings in order.
+     *
+     * @param method    metric label the whole report is timed under
+     * @param operation description used in error messages
+     * @param sections  independent report parts
+     * @return rendered report
+     */
+    public String run(String method, String operation, List<ReportSection> sections) {
+        Mode effective = (mode == Mode.PARALLEL && DaoThreadPool.isWorkerThread()) ? Mode.SEQUENTIAL : mode;
+        switch (effective) {
+            case MULTI_STATEMENT:
+                return jdbc.read(method, operation, conn -> runMultiStatement(conn, sections));
+            case PARALLEL:
+                return runParallel(method, operation, sections);
+            default:
+                return jdbc.read(method, operation, conn -> runSequential(conn, sections));
+        }
+    }
+
+    private String runMultiStatement(Connection conn, List<ReportSection> sections) throws SQLException {
+        StringBuilder batch = new StringBuilder();
+        for (ReportSection section : sections) {
+            batch.append(section.getSql()).append(";\n");
+        }
+
+        StringBuilder report = new StringBuilder();
+        try (Statement stmt = conn.createStatement()) {
+            boolean hasResultSet = stmt.execute(batch.toString());
+            for (ReportSection section : sections) {
+                // Skip update counts; every section is a SELECT, so this only guards odd drivers
+                while (!hasResultSet && stmt.getUpdateCount() != -1) {
+                    hasResultSet = stmt.getMoreResults();
+                }
+                if (!hasResultSet) {
+                    throw new SQLException("Multi-statement report returned fewer result sets than sections.");
+                }
+                try (ResultSet rs = stmt.getResultSet()) {
+                    report.append(section.render(rs));
+                }
+                hasResultSet = stmt.getMoreResults();
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Non-blocking variant of {@link #run}: the returned future completes once
+     * every section is done, without parking any DAO worker in between. A
+     * failure completes it with the original {@link DataAccessException}.
+     */
+    public CompletableFuture<String> runAsync(String method, String operation, List<ReportSection> sections) {
+        if (mode != Mode.PARALLEL) {
+            return DaoThreadPool.submit(() -> run(method, operation, sections));
+        }
+        DaoMetrics metrics = DaoMetrics.of(method);
+        long start = System.nanoTime();
+        List<CompletableFuture<String>> parts = submitSections(operation, sections);
+        CompletableFuture<String> report = new CompletableFuture<>();
+        CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, error) -> {
+            metrics.record(start, error != null);
+            if (error == null) {
+                report.complete(concat(parts));
+            } else {
+                report.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error);
+            }
+        });
+        return report;
+    }
+
+    private String runParallel(String method, String operation, List<ReportSection> sections) {
+        DaoMetrics metrics = DaoMetrics.of(method);
+        long start = System.nanoTime();
+        boolean failed = true;
+        List<CompletableFuture<String>> parts = submitSections(operation, sections);
+        try {
+            String report = concat(parts);
+            failed = false;
+            return report;
+        } catch (CompletionException e) {
+            parts.forEach(part -> part.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            metrics.record(start, failed);
+        }
+    }
+
+    private List<CompletableFuture<String>> submitSections(String operation, List<ReportSection> sections) {
+        List<CompletableFuture<String>> parts = new ArrayList<>(sections.size());
+        for (ReportSection section : sections) {
+            // Untimed: the report as a whole is recorded under its method
+            parts.add(DaoThreadPool.submit(() -> jdbc.read(operation, conn -> runSequential(conn, List.of(section)))));
+        }
+        return parts;
+    }
+
+    private static String concat(List<CompletableFuture<String>> parts) {
+        StringBuilder report = new StringBuilder();
+        for (CompletableFuture<String> part : parts) {
+            report.append(part.join());
+        }
+        return report.toString();
+    }
+
+    private String runSequential(Connection conn, List<ReportSection> sections) throws SQLException {
+        StringBuilder report = new StringBuilder();
+        try (Statement stmt = conn.createStatement()) {
+            for (ReportSection section : sections) {
+                try (ResultSet rs = stmt.executeQuery(section.getSql())) {
+                    report.append(section.render(rs));
+                }
+            }
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package com.cmpe343.project2.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * One independent aggregate of a multi-part report: the query to run and how
+ * to render its result set. Sections never depend on each other, which is what
+ * allows {@link ReportRunner} to execute them in any order or all at once
+ * while still printing them in declaration order.
+ */
+public final class ReportSection {
+
+    /**
+     * Appends the rendering of a section's result set to the report.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        void render(ResultSet rs, StringBuilder out) throws SQLException;
+    }
+
+    private final String sql;
+    private final Renderer renderer;
+
+    public ReportSection(String sql, Renderer renderer) {
+        this.sql = sql;
+        this.renderer = renderer;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    String render(ResultSet rs) throws SQLException {
+        StringBuilder out = new StringBuilder();
+        renderer.render(rs, out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.db.DatabaseConfig;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable description of how often and how patiently {@link JdbcRunner}
+ * repeats a call that failed with a {@link TransientDataAccessException}.
+ * Delays grow exponentially from {@code initialBackoffMillis} up to
+ * {@code maxBackoffMillis}; each actual sleep is drawn uniformly below that
+ * bound ("full jitter") so that many clients recovering from the same outage
+ * do not hammer the server in lockstep.
+ */
+public final class RetryPolicy {
+
+    /** Three attempts, starting at 50 ms and never waiting more than 1 s. */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(3, 50, 1_000);
+
+    /** Single attempt; failures are thrown immediately. */
+    public static final RetryPolicy NONE = new RetryPolicy(1, 0, 0);
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (initialBackoffMillis < 0 || maxBackoffMillis < initialBackoffMillis) {
+            throw new IllegalArgumentException("Backoff bounds must satisfy 0 <= initial <= max");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * Builds the policy described by the {@code db.retry.*} settings.
+     */
+    public static RetryPolicy fromConfig(DatabaseConfig config) {
+        return new RetryPolicy(config.getRetryMaxAttempts(), config.getRetryInitialBackoffMillis(),
+                config.getRetryMaxBackoffMillis());
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Computes the pause before the given retry.
+     *
+     * @param attempt number of attempts already made (1 after the first failure)
+     * @return milliseconds to sleep
+     */
+    long backoffMillis(int attempt) {
+        if (initialBackoffMillis == 0) {
+            return 0;
+        }
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
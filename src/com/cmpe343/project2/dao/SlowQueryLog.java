@@ -0,0 +1,216 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.metrics.MetricsRegistry;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bounded in-memory log of DAO calls that took at least
+ * {@code db.slowQuery.thresholdMillis}, for finding slow searches without
+ * guesswork. {@link JdbcRunner} traces the statements of every call and
+ * keeps the slow ones, each with:
+ * <ul>
+ * <li>the SQL shape of every statement, i.e. the text with placeholders, so
+ *     the exact predicate combination a search built is visible, with its
+ *     number of bound parameters and batched rows;</li>
+ * <li>the rows returned or written;</li>
+ * <li>the time split into waiting for a connection, executing statements,
+ *     and fetching plus mapping results.</li>
+ * </ul>
+ * The log is a ring of {@code db.slowQuery.capacity} entries; the oldest
+ * entry is overwritten once it is full. A capacity of 0 turns tracing off.
+ */
+public final class SlowQueryLog {
+
+    /**
+     * One slow call, immutable once recorded.
+     */
+    public static final class Entry {
+        private final LocalDateTime time;
+        private final String method;
+        private final boolean failed;
+        private final long waitNanos;
+        private final long executeNanos;
+        private final long workNanos;
+        private final long rows;
+        private final List<String> statements;
+
+        Entry(LocalDateTime time, String method, boolean failed, long waitNanos, long executeNanos, long workNanos,
+                long rows, List<String> statements) {
+            this.time = time;
+            this.method = method;
+            this.failed = failed;
+            this.waitNanos = waitNanos;
+            this.executeNanos = executeNanos;
+            this.workNanos = workNanos;
+            this.rows = rows;
+            this.statements = statements;
+        }
+
+        public LocalDateTime getTime() {
+            return time;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public boolean isFailed() {
+            return failed;
+        }
+
+        public long getTotalNanos() {
+            return waitNanos + workNanos;
+        }
+
+        public long getWaitNanos() {
+            return waitNanos;
+        }
+
+        public long getExecuteNanos() {
+            return executeNanos;
+        }
+
+        /**
+         * Work time outside {@code execute*} calls: fetching rows and mapping
+         * them to objects.
+         */
+        public long getMapNanos() {
+            return Math.max(0, workNanos - executeNanos);
+        }
+
+        /**
+         * Rows written, or the size of the returned result for queries.
+         */
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * Statements in execution order, each as
+         * {@code SQL [binds, batch, executions, time]}.
+         */
+        public List<String> getStatements() {
+            return statements;
+        }
+    }
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static SlowQueryLog shared = null;
+
+    private final long thresholdNanos;
+    private final Entry[] ring;
+    private final MetricsRegistry.Counter recorded;
+    private int next;
+    private long total;
+
+    /**
+     * @param thresholdMillis calls at least this long are kept; 0 keeps all
+     * @param capacity        entries kept; 0 disables the log
+     */
+    public SlowQueryLog(long thresholdMillis, int capacity) {
+        if (thresholdMillis < 0 || capacity < 0) {
+            throw new IllegalArgumentException("threshold and capacity must not be negative");
+        }
+        this.thresholdNanos = thresholdMillis * 1_000_000L;
+        this.ring = new Entry[capacity];
+        this.recorded = MetricsRegistry.shared().counter("cmpe343_slow_queries_total",
+                "DAO calls slower than db.slowQuery.thresholdMillis");
+    }
+
+    /**
+     * The log used by {@link JdbcRunner}, configured from
+     * {@code db.slowQuery.*}.
+     */
+    public static synchronized SlowQueryLog shared() {
+        if (shared == null) {
+            DatabaseConfig config = DatabaseConfig.get();
+            shared = new SlowQueryLog(config.getSlowQueryThresholdMillis(), config.getSlowQueryCapacity());
+        }
+        return shared;
+    }
+
+    public boolean isEnabled() {
+        return ring.length > 0;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdNanos / 1_000_000L;
+    }
+
+    /**
+     * Keeps the call if it reached the threshold.
+     *
+     * @param result value returned by the work, used to count query rows
+     */
+    void offer(String method, boolean failed, long waitNanos, long workNanos, StatementTrace trace, Object result) {
+        if (!isEnabled() || waitNanos + workNanos < thresholdNanos) {
+            return;
+        }
+        List<String> statements = new ArrayList<>();
+        for (StatementTrace.Executed e : trace.statements()) {
+            statements.add(String.format("%s  [%d binds%s, %d executions, %.1f ms]", e.sql.strip(), e.binds(),
+                    e.batchedRows() > 0 ? ", batch " + e.batchedRows() : "", e.executions(),
+                    e.executeNanos() / 1e6));
+        }
+        Entry entry = new Entry(LocalDateTime.now(), method, failed, waitNanos, trace.executeNanos(), workNanos,
+                failed ? -1 : trace.rows(result), Collections.unmodifiableList(statements));
+        recorded.increment();
+        synchronized (this) {
+            ring[next] = entry;
+            next = (next + 1) % ring.length;
+            total++;
+        }
+    }
+
+    /**
+     * Kept entries, newest first.
+     */
+    public synchronized List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 1; i <= ring.length; i++) {
+            Entry e = ring[Math.floorMod(next - i, ring.length)];
+            if (e != null) {
+                entries.add(e);
+            }
+        }
+        return entries;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(ring, null);
+        next = 0;
+    }
+
+    /**
+     * Renders the kept entries, newest first, for the console.
+     */
+    public String dump() {
+        if (!isEnabled()) {
+            return "Slow query log is disabled (db.slowQuery.capacity=0).";
+        }
+        List<Entry> entries = entries();
+        StringBuilder out = new StringBuilder();
+        synchronized (this) {
+            out.append(String.format("Slow DAO calls (>= %d ms): %d kept of %d recorded%n", getThresholdMillis(),
+                    entries.size(), total));
+        }
+        for (Entry e : entries) {
+            out.append(String.format("%n%s  %s%s  total %.1f ms = wait %.1f + execute %.1f + fetch/map %.1f ms",
+                    TIME.format(e.getTime()), e.getMethod(), e.isFailed() ? " (FAILED)" : "",
+                    e.getTotalNanos() / 1e6, e.getWaitNanos() / 1e6, e.getExecuteNanos() / 1e6,
+                    e.getMapNanos() / 1e6));
+            out.append(e.isFailed() ? "" : "  rows " + e.getRows()).append(String.format("%n"));
+            for (String statement : e.getStatements()) {
+                out.append("    ").append(statement).append(String.format("%n"));
+            }
+        }
+        return out.toString();
+    }
+}
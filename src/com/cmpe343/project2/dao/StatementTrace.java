@@ -0,0 +1,196 @@
+package com.cmpe343.project2.dao;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Records what one unit of DAO work sent to the database. The leased
+ * connection is wrapped so that every statement it creates reports its SQL
+ * text, the number of bound parameters, batched rows, update counts and the
+ * time spent inside {@code execute*} calls; commits are traced as a
+ * {@code COMMIT} statement. Result sets are not wrapped:
+ * per-row interception would slow large reads far more than the log is
+ * worth, so fetch and mapping time is derived as the rest of the work time.
+ * Not thread-safe; a trace belongs to the thread running the work.
+ */
+final class StatementTrace {
+
+    /**
+     * One statement as the server saw it: its SQL shape (placeholders, not
+     * values) and how it was executed.
+     */
+    static final class Executed {
+        final String sql;
+        private final BitSet boundParameters = new BitSet();
+        private int batchedRows;
+        private int executions;
+        private long executeNanos;
+
+        Executed(String sql) {
+            this.sql = sql;
+        }
+
+        int binds() {
+            return boundParameters.cardinality();
+        }
+
+        int batchedRows() {
+            return batchedRows;
+        }
+
+        int executions() {
+            return executions;
+        }
+
+        long executeNanos() {
+            return executeNanos;
+        }
+    }
+
+    private final List<Executed> statements = new ArrayList<>();
+    private long updatedRows = -1;
+
+    Connection wrap(Connection conn) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("commit")) {
+                        Executed commit = track("COMMIT");
+                        long start = System.nanoTime();
+                        invoke(conn, method, args);
+                        commit.executeNanos += System.nanoTime() - start;
+                        commit.executions++;
+                        return null;
+                    }
+                    Object result = invoke(conn, method, args);
+                    switch (method.getName()) {
+                        case "prepareStatement":
+                            return wrap((PreparedStatement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall":
+                            return wrap((CallableStatement) result, CallableStatement.class, (String) args[0]);
+                        case "createStatement":
+                            return wrap((Statement) result, Statement.class, null);
+                        default:
+                            return result;
+                    }
+                });
+    }
+
+    private Object wrap(Statement stmt, Class<? extends Statement> type, String preparedSql) {
+        Executed[] current = { preparedSql == null ? null : track(preparedSql) };
+        return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer
+                            && current[0] != null) {
+                        current[0].boundParameters.set((Integer) args[0]);
+                    } else if (name.equals("addBatch")) {
+                        if (args != null && args.length == 1) {
+                            // Statement.addBatch(sql): each text is its own shape
+                            current[0] = track((String) args[0]);
+                        }
+                        current[0].batchedRows++;
+                    } else if (name.startsWith("execute")) {
+                        if (args != null && args.length >= 1 && args[0] instanceof String) {
+                            current[0] = track((String) args[0]);
+                        }
+                        long start = System.nanoTime();
+                        Object result = invoke(stmt, method, args);
+                        if (current[0] != null) {
+                            current[0].executeNanos += System.nanoTime() - start;
+                            current[0].executions++;
+                        }
+                        countUpdates(result);
+                        return result;
+                    }
+                    return invoke(stmt, method, args);
+                });
+    }
+
+    private Executed track(String sql) {
+        for (Executed e : statements) {
+            if (e.sql.equals(sql)) {
+                return e;
+            }
+        }
+        Executed e = new Executed(sql);
+        statements.add(e);
+        return e;
+    }
+
+    private void countUpdates(Object result) {
+        if (result instanceof Integer || result instanceof Long) {
+            updatedRows = Math.max(0, updatedRows) + ((Number) result).longValue();
+        } else if (result instanceof int[]) {
+            long rows = 0;
+            for (int count : (int[]) result) {
+                // SUCCESS_NO_INFO still means one row was written
+                rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+            }
+            updatedRows = Math.max(0, updatedRows) + rows;
+        }
+    }
+
+    List<Executed> statements() {
+        return statements;
+    }
+
+    long executeNanos() {
+        long total = 0;
+        for (Executed e : statements) {
+            total += e.executeNanos;
+        }
+        return total;
+    }
+
+    /**
+     * Rows reported by update statements, or -1 when the work only queried.
+     */
+    long updatedRows() {
+        return updatedRows;
+    }
+
+    /**
+     * Rows the work wrote, or for queries the size of its result: a
+     * collection counts its elements, any other value one row.
+     *
+     * @param result value returned by the work
+     */
+    long rows(Object result) {
+        if (updatedRows >= 0) {
+            return updatedRows;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        return result == null ? 0 : 1;
+    }
+
+    /**
+     * SQL shapes of the traced statements, separated by semicolons.
+     */
+    String shape() {
+        StringJoiner shape = new StringJoiner("; ");
+        for (Executed e : statements) {
+            shape.add(e.sql.strip());
+        }
+        return shape.toString();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.db.DatabaseConfig;
+import com.cmpe343.project2.metrics.MetricsRegistry;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free dictionary that hands out one canonical instance for
+ * repeated short strings. Columns such as first and last names repeat heavily,
+ * yet the driver decodes a fresh {@code String} for every row; passing them
+ * through {@link #canonical(String)} while mapping rows lets a large result
+ * share one copy per distinct value, and the fresh duplicates die young.
+ * <p>
+ * The table is two-way set associative with a fixed number of slots, so memory
+ * is bounded no matter how many distinct values pass through. Each set keeps
+ * its most recently used entry first, which keeps the frequent values of a
+ * skewed (Zipfian) distribution resident. Concurrent callers may occasionally
+ * overwrite each other's entries; that only costs a miss, because a cached
+ * value is always compared before being returned.
+ */
+public final class StringDictionary {
+
+    /** Longer values are rarely repeated and would only evict useful entries. */
+    private static final int MAX_LENGTH = 64;
+
+    private static StringDictionary shared = null;
+
+    private final AtomicReferenceArray<String> slots;
+    private final int setMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity maximum number of cached strings, rounded up to a power
+     *                 of two; 0 disables the dictionary
+     */
+    public StringDictionary(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        int size = capacity == 0 ? 0 : Math.max(2, Integer.highestOneBit(capacity * 2 - 1));
+        this.slots = new AtomicReferenceArray<>(size);
+        this.setMask = (size - 1) & ~1;
+    }
+
+    /**
+     * Returns the dictionary used by the DAOs, sized by
+     * {@code db.stringDictionarySize}. Its hit ratio and lookups are
+     * published to the shared {@link MetricsRegistry}.
+     */
+    public static synchronized StringDictionary shared() {
+        if (shared == null) {
+            StringDictionary dictionary = new StringDictionary(DatabaseConfig.get().getStringDictionarySize());
+            MetricsRegistry metrics = MetricsRegistry.shared();
+            metrics.gauge("cmpe343_string_dictionary_hit_ratio", "Share of name lookups served from the dictionary",
+                    dictionary::hitRatio);
+            metrics.gauge("cmpe343_string_dictionary_lookups", "Name lookups since startup",
+                    () -> dictionary.getHits() + dictionary.getMisses());
+            shared = dictionary;
+        }
+        return shared;
+    }
+
+    /**
+     * Returns a previously seen instance equal to {@code value}, or remembers
+     * and returns {@code value} itself.
+     */
+    public String canonical(String value) {
+        if (value == null || slots.length() == 0 || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        int h = value.hashCode();
+        int first = (h ^ (h >>> 16)) & setMask;
+        String mostRecent = slots.get(first);
+        if (value.equals(mostRecent)) {
+            hits.increment();
+            return mostRecent;
+        }
+        String older = slots.get(first + 1);
+        if (value.equals(older)) {
+            // Promote so the other entry of the set is the next to be evicted
+            slots.lazySet(first + 1, mostRecent);
+            slots.lazySet(first, older);
+            hits.increment();
+            return older;
+        }
+        slots.lazySet(first + 1, mostRecent);
+        slots.lazySet(first, value);
+        misses.increment();
+        return value;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Share of lookups answered with a cached instance, between 0 and 1.
+     */
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StringDictionary[capacity=%d, hits=%d, misses=%d, hitRatio=%.3f]",
+                capacity(), getHits(), getMisses(), hitRatio());
+    }
+}
@@ -0,0 +1,33 @@
+package com.cmpe343.project2.dao;
+
+import java.sql.SQLException;
+
+/**
+ * Database failure that may go away on its own: lost connections, an
+ * exhausted pool, deadlocks and lock wait timeouts. {@link JdbcRunner} retries
+ * these with backoff before giving up and throwing this exception.
+ */
+public class TransientDataAccessException extends DataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean rolledBack;
+
+    public TransientDataAccessException(String operation, SQLException cause, boolean rolledBack) {
+        super(operation, cause);
+        this.rolledBack = rolledBack;
+    }
+
+    @Override
+    public boolean isTransient() {
+        return true;
+    }
+
+    /**
+     * Whether the server is known to have rolled the statement back, which
+     * makes it safe to repeat even when it was a write.
+     */
+    public boolean wasRolledBack() {
+        return rolledBack;
+    }
+}
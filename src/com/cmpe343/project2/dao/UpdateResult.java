@@ -0,0 +1,21 @@
+package com.cmpe343.project2.dao;
+
+/**
+ * Outcome of a versioned contact update. Updates are compare-and-set on the
+ * {@code version} column, so a write can fail for reasons other than a database
+ * error and the caller needs to know which one happened:
+ * <ol>
+ * <li>{@link #UPDATED} - the row still had the expected version and was
+ *     written.</li>
+ * <li>{@link #CONFLICT} - somebody else updated the row first; the caller may
+ *     re-read it and retry.</li>
+ * <li>{@link #NOT_FOUND} - the row no longer exists.</li>
+ * </ol>
+ * Statement failures are not an outcome; they surface as
+ * {@link DataAccessException}.
+ */
+public enum UpdateResult {
+    UPDATED,
+    CONFLICT,
+    NOT_FOUND
+}
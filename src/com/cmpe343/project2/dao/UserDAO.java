@@ -3,7 +3,6 @@ package com.cmpe343.project2.dao;
 import com.cmpe343.project2.db.DatabaseConnection;
 import com.cmpe343.project2.model.Role;
 import com.cmpe343.project2.model.User;
-import com.cmpe343.project2.util.ConsoleColors;
 import com.cmpe343.project2.util.SecurityUtil;
 
 import java.sql.*;
@@ -13,34 +12,45 @@ import java.util.List;
 /**
  * Data Access Object for User entities.
  * Handles authentication, CRUD operations, and Password Management for Users.
+ * All statements run through a {@link JdbcRunner}, so database failures are
+ * thrown as transient or permanent {@link DataAccessException}s.
  */
 public class UserDAO {
 
+    private final JdbcRunner jdbc;
+
+    public UserDAO() {
+        this(new JdbcRunner());
+    }
+
+    public UserDAO(JdbcRunner jdbc) {
+        this.jdbc = jdbc;
+    }
+
     /**
      * Authenticates a user by username and password.
-     * 
+     *
      * @param username    The input username.
      * @param rawPassword The plain text password.
      * @return User object if successful, null otherwise.
      */
     public User authenticate(String username, String rawPassword) {
-        String sql = "SELECT * FROM users WHERE username = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
-
-            if (rs.next()) {
-                String storedHash = rs.getString("password_hash");
-                if (SecurityUtil.verifyPassword(rawPassword, storedHash)) {
-                    return mapRowToUser(rs);
+        String sql = "SELECT " + UserRowMapper.ALL_COLUMNS + " FROM users WHERE username = ?";
+        return jdbc.read("UserDAO.authenticate", "Authentication failed due to DB error", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                stmt.setString(1, username);
+                ResultSet rs = stmt.executeQuery();
+
+                if (rs.next()) {
+                    User user = UserRowMapper.forResultSet(rs).map(rs);
+                    if (SecurityUtil.verifyPassword(rawPassword, user.getPasswordHash())) {
+                        return user;
+                    }
                 }
             }
-        } catch (SQLException e) {
-            ConsoleColors.printError("Authentication failed due to DB error: " + e.getMessage());
-        }
-        return null;
+            return null;
+        });
     }
 
     /**
@@ -49,41 +59,53 @@ public class UserDAO {
      */
     public boolean addUser(User user, String rawPassword) {
         String sql = "INSERT INTO users (username, password_hash, first_name, last_name, role) VALUES (?, ?, ?, ?, ?)";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, user.getUsername());
-            // Encrypt password before storing
-            stmt.setString(2, SecurityUtil.hashPassword(rawPassword));
-            stmt.setString(3, user.getFirstName());
-            stmt.setString(4, user.getLastName());
-            stmt.setString(5, user.getRole().toString());
-
-            int rows = stmt.executeUpdate();
-            return rows > 0;
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error adding user (Username might be duplicate): " + e.getMessage());
-            return false;
-        }
+        return jdbc.write("UserDAO.addUser", "Error adding user (Username might be duplicate)", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                stmt.setString(1, user.getUsername());
+                // Encrypt password before storing
+                stmt.setString(2, SecurityUtil.hashPassword(rawPassword));
+                stmt.setString(3, user.getFirstName());
+                stmt.setString(4, user.getLastName());
+                stmt.setString(5, user.getRole().toString());
+
+                int rows = stmt.executeUpdate();
+                return rows > 0;
+            }
+        });
     }
 
     /**
      * Retrieves all users.
      */
     public List<User> getAllUsers() {
-        List<User> users = new ArrayList<>();
-        String sql = "SELECT * FROM users ORDER BY user_id ASC";
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                users.add(mapRowToUser(rs));
+        String sql = "SELECT " + UserRowMapper.ALL_COLUMNS + " FROM users ORDER BY user_id ASC";
+        return jdbc.read("UserDAO.getAllUsers", "Error listing users", conn -> {
+            List<User> users = new ArrayList<>();
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery(sql)) {
+
+                UserRowMapper mapper = UserRowMapper.forResultSet(rs);
+                while (rs.next()) {
+                    users.add(mapper.map(rs));
+                }
+            }
+            return users;
+        });
+    }
+
+    /**
+     * Whether at least one user exists, probing a single row instead of
+     * loading the table.
+     */
+    public boolean hasUsers() {
+        String sql = DatabaseConnection.dialect().limit("SELECT 1 FROM users", 1);
+        return jdbc.read("UserDAO.hasUsers", "Error checking for users", conn -> {
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery(sql)) {
+                return rs.next();
             }
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error listing users: " + e.getMessage());
-        }
-        return users;
+        });
     }
 
     /**
@@ -91,14 +113,12 @@ public class UserDAO {
      */
     public boolean deleteUser(int userId) {
         String sql = "DELETE FROM users WHERE user_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, userId);
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error deleting user: " + e.getMessage());
-            return false;
-        }
+        return jdbc.write("UserDAO.deleteUser", "Error deleting user", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, userId);
+                return stmt.executeUpdate() > 0;
+            }
+        });
     }
 
     /**
@@ -107,21 +127,19 @@ public class UserDAO {
     public boolean restoreUser(User user) {
         String sql = "INSERT INTO users (user_id, username, password_hash, first_name, last_name, role)"
                 + " VALUES (?, ?, ?, ?, ?, ?)";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, user.getUserId());
-            stmt.setString(2, user.getUsername());
-            stmt.setString(3, user.getPasswordHash());
-            stmt.setString(4, user.getFirstName());
-            stmt.setString(5, user.getLastName());
-            stmt.setString(6, user.getRole().toString());
-
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error restoring user: " + e.getMessage());
-            return false;
-        }
+        return jdbc.write("UserDAO.restoreUser", "Error restoring user", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                stmt.setInt(1, user.getUserId());
+                stmt.setString(2, user.getUsername());
+                stmt.setString(3, user.getPasswordHash());
+                stmt.setString(4, user.getFirstName());
+                stmt.setString(5, user.getLastName());
+                stmt.setString(6, user.getRole().toString());
+
+                return stmt.executeUpdate() > 0;
+            }
+        });
     }
 
     /**
@@ -130,19 +148,17 @@ public class UserDAO {
      */
     public boolean updateUser(User user) {
         String sql = "UPDATE users SET first_name = ?, last_name = ?, role = ? WHERE user_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, user.getFirstName());
-            stmt.setString(2, user.getLastName());
-            stmt.setString(3, user.getRole().toString());
-            stmt.setInt(4, user.getUserId());
-
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error updating user: " + e.getMessage());
-            return false;
-        }
+        return jdbc.write("UserDAO.updateUser", "Error updating user", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                stmt.setString(1, user.getFirstName());
+                stmt.setString(2, user.getLastName());
+                stmt.setString(3, user.getRole().toString());
+                stmt.setInt(4, user.getUserId());
+
+                return stmt.executeUpdate() > 0;
+            }
+        });
     }
 
     /**
@@ -150,55 +166,35 @@ public class UserDAO {
      * Helper method for update operations.
      */
     public User getUserById(int id) {
-        String sql = "SELECT * FROM users WHERE user_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, id);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return mapRowToUser(rs);
+        String sql = "SELECT " + UserRowMapper.ALL_COLUMNS + " FROM users WHERE user_id = ?";
+        return jdbc.read("UserDAO.getUserById", "Error finding user", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                stmt.setInt(1, id);
+                ResultSet rs = stmt.executeQuery();
+                return rs.next() ? UserRowMapper.forResultSet(rs).map(rs) : null;
             }
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error finding user: " + e.getMessage());
-        }
-        return null;
+        });
     }
 
     /**
      * Updates the password for a specific user.
-     * 
+     *
      * @param userId         The ID of the user changing their password.
      * @param newRawPassword The new plain text password.
      * @return true if successful.
      */
     public boolean updatePassword(int userId, String newRawPassword) {
         String sql = "UPDATE users SET password_hash = ? WHERE user_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            // Hash the new password before storing it
-            stmt.setString(1, SecurityUtil.hashPassword(newRawPassword));
-            stmt.setInt(2, userId);
-
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            ConsoleColors.printError("Error updating password: " + e.getMessage());
-            return false;
-        }
-    }
+        return jdbc.write("UserDAO.updatePassword", "Error updating password", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-    /**
-     * Helper to map a ResultSet row to a User object.
-     */
-    private User mapRowToUser(ResultSet rs) throws SQLException {
-        User user = new User();
-        user.setUserId(rs.getInt("user_id"));
-        user.setUsername(rs.getString("username"));
-        user.setPasswordHash(rs.getString("password_hash"));
-        user.setFirstName(rs.getString("first_name"));
-        user.setLastName(rs.getString("last_name"));
-        user.setRole(Role.fromString(rs.getString("role")));
-        return user;
+                // Hash the new password before storing it
+                stmt.setString(1, SecurityUtil.hashPassword(newRawPassword));
+                stmt.setInt(2, userId);
+
+                return stmt.executeUpdate() > 0;
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package com.cmpe343.project2.dao;
+
+import com.cmpe343.project2.model.Role;
+import com.cmpe343.project2.model.User;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Maps {@code users} rows by column position, resolved once per
+ * {@link ResultSet} like {@link ContactRowMapper}.
+ */
+final class UserRowMapper {
+
+    /** Explicit select list of every mapped column, used instead of {@code SELECT *}. */
+    static final String ALL_COLUMNS = "user_id, username, password_hash, first_name, last_name, role";
+
+    private static final int ABSENT = 0;
+
+    private int userId = ABSENT;
+    private int username = ABSENT;
+    private int passwordHash = ABSENT;
+    private int firstName = ABSENT;
+    private int lastName = ABSENT;
+    private int role = ABSENT;
+
+    private UserRowMapper(ResultSetMetaData meta) throws SQLException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            switch (meta.getColumnLabel(i).toLowerCase(Locale.ROOT)) {
+                case "user_id":
+                    userId = i;
+                    break;
+                case "username":
+                    username = i;
+                    break;
+                case "password_hash":
+                    passwordHash = i;
+                    break;
+                case "first_name":
+                    firstName = i;
+                    break;
+                case "last_name":
+                    lastName = i;
+                    break;
+                case "role":
+                    role = i;
+                    break;
+                default:
+                    // Not mapped
+            }
+        }
+    }
+
+    static UserRowMapper forResultSet(ResultSet rs) throws SQLException {
+        return new UserRowMapper(rs.getMetaData());
+    }
+
+    User map(ResultSet rs) throws SQLException {
+        User user = new User();
+        if (userId != ABSENT)
+            user.setUserId(rs.getInt(userId));
+        if (username != ABSENT)
+            user.setUsername(rs.getString(username));
+        if (passwordHash != ABSENT)
+            user.setPasswordHash(rs.getString(passwordHash));
+        if (firstName != ABSENT)
+            user.setFirstName(rs.getString(firstName));
+        if (lastName != ABSENT)
+            user.setLastName(rs.getString(lastName));
+        if (role != ABSENT)
+            user.setRole(Role.fromString(rs.getString(role)));
+        return user;
+    }
+}
@@ -0,0 +1,112 @@
+package com.cmpe343.project2.dao.dialect;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dialect for an embedded H2 database, e.g.
+ * {@code jdbc:h2:file:./data/cmpe343}. Running in-process removes the network
+ * round trip for single-node deployments. The H2 driver is not shipped in
+ * {@code lib/}, which only carries MySQL Connector/J: add the H2 jar to the
+ * classpath to use this dialect, otherwise startup stops with a missing
+ * driver error. The tables are created on first connect.
+ */
+public class H2Dialect implements SqlDialect {
+
+    @Override
+    public String name() {
+        return "H2";
+    }
+
+    @Override
+    public String driverClassName() {
+        return "org.h2.Driver";
+    }
+
+    @Override
+    public boolean isEmbedded() {
+        return true;
+    }
+
+    @Override
+    public String configureUrl(String url, Map<String, String> driverFlags) {
+        // The Connector/J flags have no H2 counterpart; statements are local calls
+        return url;
+    }
+
+    @Override
+    public boolean supportsMultiStatementResults(String configuredUrl) {
+        return false;
+    }
+
+    @Override
+    public String monthOf(String column) {
+        return "EXTRACT(MONTH FROM " + column + ")";
+    }
+
+    @Override
+    public String dayOfMonth(String column) {
+        return "EXTRACT(DAY FROM " + column + ")";
+    }
+
+    @Override
+    public String ageInYears(String column) {
+        // DATEDIFF counts year boundaries; subtract one when this year's birthday is still ahead
+        String years = "DATEDIFF('YEAR', " + column + ", CURRENT_DATE)";
+        return "(" + years + " - CASE WHEN DATEADD('YEAR', " + years + ", " + column
+                + ") > CURRENT_DATE THEN 1 ELSE 0 END)";
+    }
+
+    @Override
+    public String limit(String sql, int rows) {
+        return sql + " FETCH FIRST " + rows + " ROWS ONLY";
+    }
+
+    @Override
+    public String page(String sql) {
+        return sql + " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+    }
+
+    @Override
+    public boolean supportsExpressionIndexes() {
+        return false;
+    }
+
+    @Override
+    public String storedGeneratedColumn(String name, String type, String expression) {
+        // H2 always materialises generated columns
+        return name + " " + type + " GENERATED ALWAYS AS (" + expression + ")";
+    }
+
+    @Override
+    public String dropIndex(String table, String index) {
+        // Index names are unique per schema in H2, so the table is not named
+        return "DROP INDEX " + index;
+    }
+
+    @Override
+    public List<String> baselineSchema() {
+        return List.of(
+                "CREATE TABLE IF NOT EXISTS users ("
+                        + " user_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+                        + " username VARCHAR(50) NOT NULL UNIQUE,"
+                        + " password_hash VARCHAR(255) NOT NULL,"
+                        + " first_name VARCHAR(50) NOT NULL,"
+                        + " last_name VARCHAR(50) NOT NULL,"
+                        + " role VARCHAR(10) NOT NULL CHECK (role IN ('TESTER', 'JUNIOR', 'SENIOR', 'MANAGER')),"
+                        + " created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)",
+                "CREATE TABLE IF NOT EXISTS contacts ("
+                        + " contact_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+                        + " first_name VARCHAR(50) NOT NULL,"
+                        + " middle_name VARCHAR(50),"
+                        + " last_name VARCHAR(50) NOT NULL,"
+                        + " nickname VARCHAR(50),"
+                        + " phone_primary VARCHAR(20) NOT NULL,"
+                        + " phone_secondary VARCHAR(20),"
+                        + " email VARCHAR(100),"
+                        + " linkedin_url VARCHAR(255),"
+                        + " birth_date DATE,"
+                        + " created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,"
+                        + " updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+    }
+}
@@ -0,0 +1,112 @@
+package com.cmpe343.project2.dao.dialect;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dialect for the MySQL server the application was written for. Expression
+ * indexes need MySQL 8.0.13 or later.
+ */
+public class MySqlDialect implements SqlDialect {
+
+    @Override
+    public String name() {
+        return "MySQL";
+    }
+
+    @Override
+    public String driverClassName() {
+        return "com.mysql.cj.jdbc.Driver";
+    }
+
+    @Override
+    public boolean isEmbedded() {
+        return false;
+    }
+
+    @Override
+    public String configureUrl(String url, Map<String, String> driverFlags) {
+        StringBuilder full = new StringBuilder(url);
+        String lowerUrl = url.toLowerCase();
+        char separator = url.contains("?") ? '&' : '?';
+        for (Map.Entry<String, String> flag : driverFlags.entrySet()) {
+            // Explicit settings in the base URL win over the tuned defaults
+            if (!lowerUrl.contains(flag.getKey().toLowerCase() + "=")) {
+                full.append(separator).append(flag.getKey()).append('=').append(flag.getValue());
+                separator = '&';
+            }
+        }
+        return full.toString();
+    }
+
+    @Override
+    public boolean supportsMultiStatementResults(String configuredUrl) {
+        return configuredUrl.toLowerCase().contains("allowmultiqueries=true");
+    }
+
+    @Override
+    public String monthOf(String column) {
+        return "MONTH(" + column + ")";
+    }
+
+    @Override
+    public String dayOfMonth(String column) {
+        return "DAYOFMONTH(" + column + ")";
+    }
+
+    @Override
+    public String ageInYears(String column) {
+        return "TIMESTAMPDIFF(YEAR, " + column + ", CURDATE())";
+    }
+
+    @Override
+    public String limit(String sql, int rows) {
+        return sql + " LIMIT " + rows;
+    }
+
+    @Override
+    public String page(String sql) {
+        return sql + " LIMIT ?, ?";
+    }
+
+    @Override
+    public boolean supportsExpressionIndexes() {
+        return true;
+    }
+
+    @Override
+    public String storedGeneratedColumn(String name, String type, String expression) {
+        return name + " " + type + " GENERATED ALWAYS AS (" + expression + ") STORED";
+    }
+
+    @Override
+    public String dropIndex(String table, String index) {
+        return "DROP INDEX " + index + " ON " + table;
+    }
+
+    @Override
+    public List<String> baselineSchema() {
+        return List.of(
+                "CREATE TABLE IF NOT EXISTS users ("
+                        + " user_id INT AUTO_INCREMENT PRIMARY KEY,"
+                        + " username VARCHAR(50) NOT NULL UNIQUE,"
+                        + " password_hash VARCHAR(255) NOT NULL,"
+                        + " first_name VARCHAR(50) NOT NULL,"
+                        + " last_name VARCHAR(50) NOT NULL,"
+                        + " role ENUM('TESTER', 'JUNIOR', 'SENIOR', 'MANAGER') NOT NULL,"
+                        + " created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)",
+                "CREATE TABLE IF NOT EXISTS contacts ("
+                        + " contact_id INT AUTO_INCREMENT PRIMARY KEY,"
+                        + " first_name VARCHAR(50) NOT NULL,"
+                        + " middle_name VARCHAR(50),"
+                        + " last_name VARCHAR(50) NOT NULL,"
+                        + " nickname VARCHAR(50),"
+                        + " phone_primary VARCHAR(20) NOT NULL,"
+                        + " phone_secondary VARCHAR(20),"
+                        + " email VARCHAR(100),"
+                        + " linkedin_url VARCHAR(255),"
+                        + " birth_date DATE,"
+                        + " created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,"
+                        + " updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP)");
+    }
+}
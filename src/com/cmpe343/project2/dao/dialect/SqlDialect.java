@@ -0,0 +1,106 @@
+package com.cmpe343.project2.dao.dialect;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Isolates the SQL and driver details that differ between supported database
+ * engines, so that the DAOs can run unchanged against the MySQL server or an
+ * embedded, in-process database. A dialect is chosen from the JDBC URL by
+ * {@link SqlDialects#forUrl(String)} and covers:
+ * <ol>
+ * <li>Driver concerns: the driver class and how tuning flags are added to
+ *     the URL.</li>
+ * <li>Expression differences: date parts, age arithmetic and row limits.</li>
+ * <li>Capabilities such as multi-statement requests and expression indexes.</li>
+ * <li>The baseline DDL of the application tables.</li>
+ * </ol>
+ */
+public interface SqlDialect {
+
+    /**
+     * Short engine name used in logs.
+     */
+    String name();
+
+    /**
+     * Fully qualified JDBC driver class to load before connecting.
+     */
+    String driverClassName();
+
+    /**
+     * Whether the engine runs inside the application process. Embedded
+     * databases cannot serve as replicas of another node.
+     */
+    boolean isEmbedded();
+
+    /**
+     * Applies driver tuning flags to a base URL. Flags the engine does not
+     * understand are ignored.
+     *
+     * @param url         base JDBC URL
+     * @param driverFlags Connector/J style flag names and values
+     * @return URL to connect with
+     */
+    String configureUrl(String url, Map<String, String> driverFlags);
+
+    /**
+     * Whether one statement may carry several queries whose result sets are
+     * consumed in order, given the already configured URL.
+     */
+    boolean supportsMultiStatementResults(String configuredUrl);
+
+    /**
+     * Expression extracting the month (1-12) of a date column.
+     */
+    String monthOf(String column);
+
+    /**
+     * Expression extracting the day of the month (1-31) of a date column.
+     */
+    String dayOfMonth(String column);
+
+    /**
+     * Expression computing completed years between a date column and today.
+     */
+    String ageInYears(String column);
+
+    /**
+     * Appends a row limit to a query.
+     */
+    String limit(String sql, int rows);
+
+    /**
+     * Appends a window of rows to an ordered query, as two placeholders bound
+     * to the number of rows to skip and then the number of rows to return.
+     */
+    String page(String sql);
+
+    /**
+     * Whether indexes may be built on expressions such as
+     * {@link #monthOf(String)}.
+     */
+    boolean supportsExpressionIndexes();
+
+    /**
+     * Column definition for a column computed from other columns of the same
+     * row and stored with it, so that it can be indexed and compared without
+     * evaluating the expression per row at query time.
+     *
+     * @param name       column name
+     * @param type       SQL type of the computed value
+     * @param expression expression over other columns
+     */
+    String storedGeneratedColumn(String name, String type, String expression);
+
+    /**
+     * Statement dropping a secondary index of a table.
+     */
+    String dropIndex(String table, String index);
+
+    /**
+     * DDL creating the application tables as first released, when they do
+     * not exist yet. Later schema changes are separate migrations.
+     */
+    List<String> baselineSchema();
+}
@@ -0,0 +1,29 @@
+package com.cmpe343.project2.dao.dialect;
+
+/**
+ * Resolves the {@link SqlDialect} matching a JDBC URL.
+ */
+public final class SqlDialects {
+
+    private SqlDialects() {
+    }
+
+    /**
+     * Picks the dialect for the engine named in the URL's subprotocol.
+     *
+     * @param jdbcUrl URL such as {@code jdbc:mysql://...} or {@code jdbc:h2:...}
+     * @return matching dialect
+     * @throws IllegalArgumentException when the engine is not supported
+     */
+    public static SqlDialect forUrl(String jdbcUrl) {
+        String lower = jdbcUrl.toLowerCase();
+        if (lower.startsWith("jdbc:mysql:")) {
+            return new MySqlDialect();
+        }
+        if (lower.startsWith("jdbc:h2:")) {
+            return new H2Dialect();
+        }
+        throw new IllegalArgumentException("Unsupported database engine in URL '" + jdbcUrl
+                + "'; expected jdbc:mysql: or jdbc:h2:");
+    }
+}
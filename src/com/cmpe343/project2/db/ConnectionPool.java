@@ -0,0 +1,274 @@
+package com.cmpe343.project2.db;
+
+import com.cmpe343.project2.metrics.LatencyHistogram;
+import com.cmpe343.project2.metrics.MetricsRegistry;
+import com.cmpe343.project2.metrics.jfr.ConnectionLeaseEvent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of physical JDBC connections shared by all DAO threads. The
+ * pool keeps the DAO idiom of {@code try (Connection conn = ...)} intact:
+ * <ol>
+ * <li>{@link #borrow()} waits for one of {@code maxSize} permits, then reuses
+ *     an idle connection or opens a new one.</li>
+ * <li>{@link #tryBorrow()} does the same without waiting, and returns null
+ *     when every permit is taken.</li>
+ * <li>The caller receives a lease proxy; its {@code close()} hands the
+ *     physical connection back instead of closing it.</li>
+ * <li>{@link #warmUp(int)} optionally opens a few connections ahead of the
+ *     first lease, in parallel, so the first queries skip the handshake.</li>
+ * <li>{@link #shutdown()} closes idle connections and refuses new leases.</li>
+ * </ol>
+ * Each pool publishes its lease wait and hold times, timeouts, opened
+ * connections and current leased/idle counts to the shared
+ * {@link MetricsRegistry}, labelled with its name. While a flight recording
+ * is running every lease, timed out or not, is also emitted as a
+ * {@link ConnectionLeaseEvent}.
+ */
+class ConnectionPool {
+
+    private final String name;
+    private final String url;
+    private final String user;
+    private final String password;
+    private final long borrowTimeoutMillis;
+    private final Semaphore permits;
+    private final Deque<Connection> idle = new ConcurrentLinkedDeque<>();
+    private final LatencyHistogram waitTime;
+    private final LatencyHistogram holdTime;
+    private final MetricsRegistry.Counter timeouts;
+    private final MetricsRegistry.Counter opened;
+    private volatile boolean shutdown;
+
+    /**
+     * @param name label of the pool's metrics, e.g. {@code primary}
+     */
+    ConnectionPool(String name, String url, String user, String password, int maxSize, long borrowTimeoutMillis) {
+        this.name = name;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.permits = new Semaphore(maxSize, true);
+
+        MetricsRegistry metrics = MetricsRegistry.shared();
+        this.waitTime = metrics.histogram("cmpe343_pool_wait_duration_seconds",
+                "Time spent waiting for a pooled connection", "pool", name);
+        this.holdTime = metrics.histogram("cmpe343_pool_lease_duration_seconds",
+                "Time a pooled connection stayed leased", "pool", name);
+        this.timeouts = metrics.counter("cmpe343_pool_timeouts_total",
+                "Leases that timed out waiting for a connection", "pool", name);
+        this.opened = metrics.counter("cmpe343_pool_connections_opened_total",
+                "Physical connections opened", "pool", name);
+        metrics.gauge("cmpe343_pool_leased", "Connections currently leased",
+                () -> maxSize - permits.availablePermits(), "pool", name);
+        metrics.gauge("cmpe343_pool_idle", "Open connections waiting to be leased", idle::size, "pool", name);
+    }
+
+    /**
+     * Leases a connection, blocking while all connections are in use.
+     *
+     * @return connection whose {@code close()} returns it to the pool
+     * @throws SQLException when the pool is shut down, the wait times out or a
+     *                      new physical connection cannot be opened
+     */
+    Connection borrow() throws SQLException {
+        return borrow(borrowTimeoutMillis);
+    }
+
+    /**
+     * Leases a connection only if one is free right now, for callers that
+     * have somewhere else to go, such as reads choosing between replicas.
+     *
+     * @return connection lease, or null when every connection is in use
+     * @throws SQLException when the pool is shut down or a new physical
+     *                      connection cannot be opened
+     */
+    Connection tryBorrow() throws SQLException {
+        return borrow(0);
+    }
+
+    private Connection borrow(long timeoutMillis) throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down.");
+        }
+        ConnectionLeaseEvent event = new ConnectionLeaseEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long waitNanos;
+        try {
+            boolean acquired = timeoutMillis == 0
+                    ? permits.tryAcquire()
+                    : permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+            waitNanos = System.nanoTime() - start;
+            if (!acquired && timeoutMillis == 0) {
+                return null; // Not a timeout: the caller moves on to another pool
+            }
+            waitTime.record(waitNanos);
+            if (!acquired) {
+                timeouts.increment();
+                commit(event, waitNanos, 0, true);
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + borrowTimeoutMillis + " ms waiting for a database connection.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection.", e);
+        }
+
+        try {
+            Connection physical = idle.pollFirst();
+            while (physical != null && physical.isClosed()) {
+                physical = idle.pollFirst();
+            }
+            if (physical == null) {
+                physical = DriverManager.getConnection(url, user, password);
+                opened.increment();
+            }
+            return lease(physical, event, waitNanos);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens up to {@code count} idle connections at once, one thread each,
+     * so their network and authentication round trips overlap. Connections
+     * already idle count towards {@code count}, and a permit is held while
+     * each one opens, so the pool never exceeds its size. Failures are left
+     * for the first real lease to report.
+     *
+     * @return number of connections opened
+     */
+    int warmUp(int count) {
+        AtomicInteger warmed = new AtomicInteger();
+        List<Thread> openers = new ArrayList<>();
+        for (int i = idle.size(); i < count && !shutdown && permits.tryAcquire(); i++) {
+            Thread opener = new Thread(() -> {
+                try {
+                    idle.offerLast(DriverManager.getConnection(url, user, password));
+                    opened.increment();
+                    warmed.incrementAndGet();
+                } catch (SQLException ignored) {
+                    // The first lease opens its own connection and reports the failure
+                } finally {
+                    permits.release();
+                }
+            }, "pool-" + name + "-warmup-" + i);
+            opener.setDaemon(true);
+            opener.start();
+            openers.add(opener);
+        }
+        try {
+            for (Thread opener : openers) {
+                opener.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (shutdown) {
+            shutdown();
+        }
+        return warmed.get();
+    }
+
+    /**
+     * Closes every idle connection and rejects further leases. Connections
+     * still leased are closed as soon as they are returned.
+     */
+    void shutdown() {
+        shutdown = true;
+        Connection physical;
+        while ((physical = idle.pollFirst()) != null) {
+            closeQuietly(physical);
+        }
+    }
+
+    private Connection lease(Connection physical, ConnectionLeaseEvent event, long waitNanos) {
+        AtomicBoolean returned = new AtomicBoolean();
+        long leasedAt = System.nanoTime();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            if (returned.compareAndSet(false, true)) {
+                                long held = System.nanoTime() - leasedAt;
+                                holdTime.record(held);
+                                release(physical);
+                                commit(event, waitNanos, held, false);
+                            }
+                            return null;
+                        case "isClosed":
+                            if (returned.get()) {
+                                return true;
+                            }
+                            break;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            if (returned.get()) {
+                                throw new SQLException("Connection has already been returned to the pool.");
+                            }
+                    }
+                    try {
+                        return method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private void release(Connection physical) {
+        try {
+            if (shutdown || physical.isClosed()) {
+                closeQuietly(physical);
+                return;
+            }
+            // Never hand the next borrower someone else's open transaction
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            idle.offerFirst(physical);
+        } catch (SQLException e) {
+            closeQuietly(physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void commit(ConnectionLeaseEvent event, long waitNanos, long holdNanos, boolean timedOut) {
+        if (event.shouldCommit()) {
+            event.pool = name;
+            event.waitTime = waitNanos;
+            event.holdTime = holdNanos;
+            event.timedOut = timedOut;
+            event.commit();
+        }
+    }
+
+    private static void closeQuietly(Connection physical) {
+        try {
+            physical.close();
+        } catch (SQLException ignored) {
+            // Nothing useful to do with a connection that cannot be closed
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.cmpe343.project2.db;
+
+import com.cmpe343.project2.model.Contact;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic source of realistic synthetic contacts for seeding and load
+ * testing. Contact {@code i} of a given seed is always the same, no matter in
+ * which order or on which thread it is generated, so a data set of any size
+ * can be rebuilt exactly by generating its index range in parallel chunks.
+ * The data mimics what makes production queries slow:
+ * <ul>
+ * <li>Names follow a Zipfian distribution over a pool of common names plus a
+ *     long tail of synthetic ones: a few names are very frequent, most are
+ *     rare.</li>
+ * <li>Optional fields are missing at realistic rates (middle name, nickname,
+ *     secondary phone, LinkedIn URL, sometimes email and birth date).</li>
+ * <li>A small share of contacts share a phone number with others, like
+ *     households and switchboards.</li>
+ * <li>Birth dates cluster around working age, lean towards summer months and
+ *     include a spike on 1 January from placeholder entries.</li>
+ * </ul>
+ */
+public final class ContactGenerator {
+
+    private static final String[] COMMON_FIRST = { "Mehmet", "Mustafa", "Ahmet", "Ali", "Huseyin", "Hasan",
+            "Ibrahim", "Ismail", "Zeynep", "Elif", "Fatma", "Ayse", "Emine", "Hatice", "Merve", "Yusuf", "Omer",
+            "Murat", "Emre", "Burak", "John", "Michael", "David", "James", "Maria", "Anna", "Sofia", "Olivia",
+            "Liam", "Noah", "Lucas", "Mia", "Emma", "Aisha", "Diego", "Natalia", "Ivan", "Olga", "Yuki", "Chen",
+            "Raul", "Akhmed", "Omirbek", "Kuandyk", "Aigerim", "Dana", "Arman", "Nurlan", "Aliya", "Timur" };
+    private static final String[] COMMON_LAST = { "Yilmaz", "Kaya", "Demir", "Sahin", "Celik", "Yildiz",
+            "Yildirim", "Ozturk", "Aydin", "Ozdemir", "Arslan", "Dogan", "Kilic", "Aslan", "Cetin", "Kara", "Koc",
+            "Kurt", "Ozkan", "Simsek", "Smith", "Johnson", "Brown", "Garcia", "Miller", "Lopez", "Patel", "Khan",
+            "Nguyen", "Ivanov", "Petrova", "Suzuki", "Hansen", "Schmidt", "Rossi", "Ibrahimov", "Nazarov",
+            "Ubaidayev", "Kyrykbayev", "Nurlanov", "Akhmetov", "Suleimenov", "Abenov", "Tokayev", "Zhumabekov" };
+    private static final String[] ONSETS = { "b", "d", "k", "l", "m", "n", "r", "s", "t", "v", "y", "z", "sh",
+            "ch", "al", "er", "ay" };
+    private static final String[] NUCLEI = { "a", "e", "i", "o", "u", "ai", "ei" };
+    private static final String[] CODAS = { "", "n", "r", "l", "k", "m", "s", "t", "z", "y" };
+    private static final String[] DOMAINS = { "gmail.com", "hotmail.com", "outlook.com", "yahoo.com",
+            "example.com", "icloud.com", "proton.me" };
+
+    // Relative birth frequency per month, summer heavy
+    private static final double[] MONTH_WEIGHTS = { 0.92, 0.85, 0.95, 0.96, 1.02, 1.05, 1.12, 1.14, 1.08, 1.00,
+            0.95, 0.96 };
+
+    private static final double MIDDLE_NAME_RATE = 0.25;
+    private static final double NICKNAME_RATE = 0.40;
+    private static final double SECONDARY_PHONE_RATE = 0.20;
+    private static final double LINKEDIN_RATE = 0.45;
+    private static final double EMAIL_MISSING_RATE = 0.03;
+    private static final double BIRTH_DATE_MISSING_RATE = 0.08;
+    private static final double PLACEHOLDER_BIRTHDAY_RATE = 0.015;
+    private static final double SHARED_PHONE_RATE = 0.02;
+    private static final int SHARED_PHONES = 5_000;
+    // Fixed instead of the current year so that a seed means the same data every year
+    private static final int REFERENCE_YEAR = 2025;
+
+    private final long seed;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final double[] firstCumulative;
+    private final double[] lastCumulative;
+    private final double[] monthCumulative;
+
+    /**
+     * @param seed           generation seed; equal seeds give equal data
+     * @param distinctNames  size of each of the first and last name pools
+     * @param zipfExponent   skew of the name frequencies, around 1 for
+     *                       natural populations
+     */
+    public ContactGenerator(long seed, int distinctNames, double zipfExponent) {
+        this.seed = seed;
+        this.firstNames = namePool(COMMON_FIRST, distinctNames, seed);
+        this.lastNames = namePool(COMMON_LAST, distinctNames, ~seed);
+        this.firstCumulative = zipfCumulative(firstNames.length, zipfExponent);
+        this.lastCumulative = zipfCumulative(lastNames.length, zipfExponent);
+        this.monthCumulative = cumulative(MONTH_WEIGHTS);
+    }
+
+    /**
+     * Generator with 5000 distinct names per pool and exponent 1.07.
+     */
+    public ContactGenerator(long seed) {
+        this(seed, 5_000, 1.07);
+    }
+
+    /**
+     * Contacts {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public List<Contact> range(long from, long to) {
+        List<Contact> list = new ArrayList<>((int) (to - from));
+        for (long i = from; i < to; i++) {
+            list.add(contact(i));
+        }
+        return list;
+    }
+
+    /**
+     * The contact with the given index; without ID or timestamps, which the
+     * store assigns.
+     */
+    public Contact contact(long index) {
+        SplittableRandom random = new SplittableRandom(mix(seed, index));
+        String first = firstNames[zipf(random, firstCumulative)];
+        String last = lastNames[zipf(random, lastCumulative)];
+
+        Contact c = new Contact();
+        c.setFirstName(first);
+        c.setLastName(last);
+        if (random.nextDouble() < MIDDLE_NAME_RATE) {
+            c.setMiddleName(firstNames[zipf(random, firstCumulative)]);
+        }
+        if (random.nextDouble() < NICKNAME_RATE) {
+            c.setNickname(first.substring(0, Math.min(first.length(), 2 + random.nextInt(3))));
+        }
+        c.setPhonePrimary(random.nextDouble() < SHARED_PHONE_RATE
+                ? phone(new SplittableRandom(mix(seed, -1 - random.nextInt(SHARED_PHONES))))
+                : phone(random));
+        if (random.nextDouble() < SECONDARY_PHONE_RATE) {
+            c.setPhoneSecondary(phone(random));
+        }
+        if (random.nextDouble() >= EMAIL_MISSING_RATE) {
+            c.setEmail(lower(first) + "." + lower(last) + (random.nextBoolean() ? "" : random.nextInt(1000)) + "@"
+                    + DOMAINS[random.nextInt(DOMAINS.length)]);
+        }
+        if (random.nextDouble() < LINKEDIN_RATE) {
+            c.setLinkedinUrl("linkedin.com/in/" + lower(first) + "-" + lower(last) + "-" + random.nextInt(100_000));
+        }
+        if (random.nextDouble() >= BIRTH_DATE_MISSING_RATE) {
+            c.setBirthDate(birthDate(random));
+        }
+        return c;
+    }
+
+    private LocalDate birthDate(SplittableRandom random) {
+        // Age ~ N(36, 12) clamped to 18..90
+        double gaussian = 0;
+        for (int i = 0; i < 12; i++) {
+            gaussian += random.nextDouble();
+        }
+        int age = (int) Math.max(18, Math.min(90, Math.round(36 + 12 * (gaussian - 6))));
+        int year = REFERENCE_YEAR - age;
+        if (random.nextDouble() < PLACEHOLDER_BIRTHDAY_RATE) {
+            return LocalDate.of(year, 1, 1);
+        }
+        int month = 1 + search(monthCumulative, random.nextDouble());
+        int day = 1 + random.nextInt(LocalDate.of(year, month, 1).lengthOfMonth());
+        return LocalDate.of(year, month, day);
+    }
+
+    private static String phone(SplittableRandom random) {
+        // Turkish mobile numbers: +90 5xx xxx xx xx
+        return "+905" + (30 + random.nextInt(30)) + String.format("%07d", random.nextInt(10_000_000));
+    }
+
+    private static int zipf(SplittableRandom random, double[] cumulative) {
+        return search(cumulative, random.nextDouble());
+    }
+
+    private static int search(double[] cumulative, double u) {
+        int pos = Arrays.binarySearch(cumulative, u);
+        return Math.min(cumulative.length - 1, pos >= 0 ? pos : -pos - 1);
+    }
+
+    private static String[] namePool(String[] common, int size, long seed) {
+        String[] pool = new String[Math.max(size, common.length)];
+        System.arraycopy(common, 0, pool, 0, common.length);
+        SplittableRandom random = new SplittableRandom(seed);
+        Set<String> seen = new HashSet<>(Arrays.asList(common));
+        for (int i = common.length; i < pool.length;) {
+            StringBuilder sb = new StringBuilder();
+            int syllables = 2 + random.nextInt(2);
+            for (int s = 0; s < syllables; s++) {
+                sb.append(ONSETS[random.nextInt(ONSETS.length)]).append(NUCLEI[random.nextInt(NUCLEI.length)])
+                        .append(s + 1 == syllables ? CODAS[random.nextInt(CODAS.length)] : "");
+            }
+            String name = Character.toUpperCase(sb.charAt(0)) + sb.substring(1);
+            if (name.length() <= 50 && seen.add(name)) {
+                pool[i++] = name;
+            }
+        }
+        return pool;
+    }
+
+    private static double[] zipfCumulative(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int k = 0; k < n; k++) {
+            weights[k] = 1.0 / Math.pow(k + 1, exponent);
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double total = 0;
+        for (double w : weights) {
+            total += w;
+        }
+        double[] cumulative = new double[weights.length];
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            cumulative[i] = running / total;
+        }
+        return cumulative;
+    }
+
+    private static String lower(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static long mix(long seed, long index) {
+        // SplitMix64 finalizer, so neighbouring indexes get unrelated streams
+        long z = seed + index * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,20 +1,19 @@
 package com.cmpe343.project2.db;
 
-import com.cmpe343.project2.dao.ContactDAO;
+import com.cmpe343.project2.dao.ContactRepository;
 import com.cmpe343.project2.dao.UserDAO;
-import com.cmpe343.project2.model.Contact;
 import com.cmpe343.project2.model.Role;
 import com.cmpe343.project2.model.User;
 import com.cmpe343.project2.util.ConsoleColors;
 
-import java.time.LocalDate;
-import java.util.Random;
-
 /**
  * Utility class that seeds the database with baseline users and contacts so the
  * console application always starts with meaningful data. The seeding routine
  * follows a deterministic sequence: verify existing users, insert defaults when
- * missing, then repeat the process for a batch of contacts.
+ * missing, then repeat the process for a batch of contacts drawn from a seeded
+ * {@link ContactGenerator}. Both checks probe for a single row, so startup
+ * does not slow down as the tables grow. Larger data sets come from
+ * {@link com.cmpe343.project2.GenerateData}.
  *
  * @author Raul Ibrahimov
  * @author Akhmed Nazarov
@@ -23,12 +22,14 @@ import java.util.Random;
  */
 public class DataSeeder {
 
-    public static void seedData() {
+    /** Fixed so every fresh installation starts with the same contacts. */
+    private static final long SEED = 343L;
+
+    public static void seedData(ContactRepository contactDAO) {
         UserDAO userDAO = new UserDAO();
-        ContactDAO contactDAO = new ContactDAO();
 
         // 1. Seed Users if empty
-        if (userDAO.getAllUsers().isEmpty()) {
+        if (!userDAO.hasUsers()) {
             ConsoleColors.printInfo("Seeding Users...");
             // Using passwords 'tt', 'jd', 'sd', 'man' as per project brief?
             // Brief says: un: tt PSW: tt
@@ -40,34 +41,9 @@ public class DataSeeder {
         }
 
         // 2. Seed 50 Contacts if empty
-        if (contactDAO.findAll("contact_id", true).isEmpty()) {
+        if (contactDAO.isEmpty()) {
             ConsoleColors.printInfo("Seeding 50 Dummy Contacts...");
-            String[] firstNames = { "Ahmet", "Mehmet", "Ayse", "Fatma", "John", "Jane", "Ali", "Veli", "Zeynep",
-                    "Elif", "Sofia", "Liam", "Noah", "Olivia", "Mia", "Lucas", "Emir", "Aisha", "Diego", "Natalia" };
-            String[] lastNames = { "Yilmaz", "Demir", "Kaya", "Celik", "Smith", "Doe", "Ozturk", "Arslan", "Koc",
-                    "Sahin", "Garcia", "Khan", "Brown", "Ivanov", "Suzuki", "Nguyen", "Lopez", "Patel", "Hansen",
-                    "Petrova" };
-
-            Random rand = new Random();
-
-            for (int i = 0; i < 50; i++) {
-                String fn = firstNames[rand.nextInt(firstNames.length)];
-                String ln = lastNames[rand.nextInt(lastNames.length)];
-
-                Contact c = new Contact();
-                c.setFirstName(fn);
-                c.setLastName(ln);
-                c.setNickname(fn.substring(0, 2));
-                c.setPhonePrimary("555" + String.format("%07d", rand.nextInt(10000000)));
-                c.setEmail(fn.toLowerCase() + "." + ln.toLowerCase() + "@example.com");
-                c.setBirthDate(LocalDate.of(1970 + rand.nextInt(30), 1 + rand.nextInt(12), 1 + rand.nextInt(28)));
-
-                // Optional fields random fill
-                if (rand.nextBoolean())
-                    c.setLinkedinUrl("linkedin.com/in/" + fn + ln);
-
-                contactDAO.addContact(c);
-            }
+            contactDAO.addContacts(new ContactGenerator(SEED).range(0, 50));
             ConsoleColors.printSuccess("50 Contacts seeded!");
         }
     }
@@ -0,0 +1,367 @@
+package com.cmpe343.project2.db;
+
+import com.cmpe343.project2.config.ConfigSource;
+import com.cmpe343.project2.dao.dialect.SqlDialect;
+import com.cmpe343.project2.dao.dialect.SqlDialects;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable database and pool configuration ({@code db.*} keys), resolved once
+ * at startup so each deployment can be tuned without recompiling. Values come
+ * from built-in defaults, the properties file, environment variables and
+ * system properties as described in {@link ConfigSource}; console and metrics
+ * settings live in their own holders read from the same sources.
+ * {@link #load()} validates every value and reports all problems at once, so
+ * a misconfigured deployment fails fast at startup instead of on first use.
+ * The {@link SqlDialect} is derived from {@code db.url}; replicas must use the
+ * same engine. For MySQL, driver flags ({@code cachePrepStmts},
+ * {@code useServerPrepStmts}, {@code rewriteBatchedStatements},
+ * {@code useCursorFetch}, timeouts, fetch size and statement cache size) are
+ * appended to the JDBC URL by {@link #getJdbcUrl()} unless the base URL
+ * already sets them; embedded URLs are used as given.
+ */
+public final class DatabaseConfig {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("db.url", "jdbc:mysql://localhost:3306/cmpe343_project2?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true");
+        DEFAULTS.put("db.user", "myuser");
+        DEFAULTS.put("db.password", "1234");
+        DEFAULTS.put("db.replicas", "");
+        DEFAULTS.put("db.readYourWritesMillis", "5000");
+        DEFAULTS.put("db.pool.size", "10");
+        DEFAULTS.put("db.pool.borrowTimeoutMillis", "30000");
+        DEFAULTS.put("db.pool.warmUp", "2");
+        DEFAULTS.put("db.fetchSize", "0");
+        DEFAULTS.put("db.batchSize", "500");
+        DEFAULTS.put("db.statementCacheSize", "250");
+        DEFAULTS.put("db.statementCacheSqlLimit", "2048");
+        DEFAULTS.put("db.connectTimeoutMillis", "10000");
+        DEFAULTS.put("db.socketTimeoutMillis", "0");
+        DEFAULTS.put("db.cachePrepStmts", "true");
+        DEFAULTS.put("db.useServerPrepStmts", "false");
+        DEFAULTS.put("db.rewriteBatchedStatements", "true");
+        DEFAULTS.put("db.useCursorFetch", "false");
+        DEFAULTS.put("db.allowMultiQueries", "false");
+        DEFAULTS.put("db.contactStore", "jdbc");
+        DEFAULTS.put("db.stringDictionarySize", "4096");
+        DEFAULTS.put("db.migrateOnStartup", "true");
+        DEFAULTS.put("db.phoneCountryCode", "90");
+        DEFAULTS.put("db.retry.maxAttempts", "3");
+        DEFAULTS.put("db.retry.initialBackoffMillis", "50");
+        DEFAULTS.put("db.retry.maxBackoffMillis", "1000");
+        DEFAULTS.put("db.slowQuery.thresholdMillis", "200");
+        DEFAULTS.put("db.slowQuery.capacity", "100");
+    }
+
+    private static DatabaseConfig instance;
+
+    private final String url;
+    private final SqlDialect dialect;
+    private final String user;
+    private final String password;
+    private final List<String> replicaUrls;
+    private final long readYourWritesMillis;
+    private final int poolSize;
+    private final long borrowTimeoutMillis;
+    private final int poolWarmUp;
+    private final int fetchSize;
+    private final int batchSize;
+    private final int statementCacheSize;
+    private final int statementCacheSqlLimit;
+    private final int connectTimeoutMillis;
+    private final int socketTimeoutMillis;
+    private final boolean cachePrepStmts;
+    private final boolean useServerPrepStmts;
+    private final boolean rewriteBatchedStatements;
+    private final boolean useCursorFetch;
+    private final boolean allowMultiQueries;
+    private final String contactStore;
+    private final int stringDictionarySize;
+    private final boolean migrateOnStartup;
+    private final int phoneCountryCode;
+    private final int retryMaxAttempts;
+    private final long retryInitialBackoffMillis;
+    private final long retryMaxBackoffMillis;
+    private final long slowQueryThresholdMillis;
+    private final int slowQueryCapacity;
+
+    private DatabaseConfig(ConfigSource p) {
+        this.url = jdbcUrl(p, "db.url");
+        this.user = p.string("db.user");
+        this.password = p.raw("db.password");
+        this.replicaUrls = jdbcUrlList(p, "db.replicas");
+        this.dialect = dialect(p, "db.url", url);
+        this.readYourWritesMillis = p.longIn("db.readYourWritesMillis", 0, Long.MAX_VALUE);
+        this.poolSize = p.intIn("db.pool.size", 1, 1_000);
+        this.borrowTimeoutMillis = p.longIn("db.pool.borrowTimeoutMillis", 1, Long.MAX_VALUE);
+        this.poolWarmUp = p.intIn("db.pool.warmUp", 0, 1_000);
+        this.fetchSize = p.intIn("db.fetchSize", 0, Integer.MAX_VALUE);
+        this.batchSize = p.intIn("db.batchSize", 1, 100_000);
+        this.statementCacheSize = p.intIn("db.statementCacheSize", 0, 100_000);
+        this.statementCacheSqlLimit = p.intIn("db.statementCacheSqlLimit", 1, Integer.MAX_VALUE);
+        this.connectTimeoutMillis = p.intIn("db.connectTimeoutMillis", 0, Integer.MAX_VALUE);
+        this.socketTimeoutMillis = p.intIn("db.socketTimeoutMillis", 0, Integer.MAX_VALUE);
+        this.cachePrepStmts = p.bool("db.cachePrepStmts");
+        this.useServerPrepStmts = p.bool("db.useServerPrepStmts");
+        this.rewriteBatchedStatements = p.bool("db.rewriteBatchedStatements");
+        this.useCursorFetch = p.bool("db.useCursorFetch");
+        this.allowMultiQueries = p.bool("db.allowMultiQueries");
+        this.contactStore = p.oneOf("db.contactStore", "jdbc", "memory", "compact");
+        this.stringDictionarySize = p.intIn("db.stringDictionarySize", 0, 1 << 24);
+        this.migrateOnStartup = p.bool("db.migrateOnStartup");
+        this.phoneCountryCode = p.intIn("db.phoneCountryCode", 1, 999);
+        this.retryMaxAttempts = p.intIn("db.retry.maxAttempts", 1, 100);
+        this.retryInitialBackoffMillis = p.longIn("db.retry.initialBackoffMillis", 0, Long.MAX_VALUE);
+        this.retryMaxBackoffMillis = p.longIn("db.retry.maxBackoffMillis", 0, Long.MAX_VALUE);
+        this.slowQueryThresholdMillis = p.longIn("db.slowQuery.thresholdMillis", 0, Long.MAX_VALUE / 1_000_000);
+        this.slowQueryCapacity = p.intIn("db.slowQuery.capacity", 0, 100_000);
+
+        if (retryMaxBackoffMillis < retryInitialBackoffMillis) {
+            p.error("db.retry.maxBackoffMillis must not be smaller than db.retry.initialBackoffMillis");
+        }
+        for (String replicaUrl : replicaUrls) {
+            SqlDialect replicaDialect = dialect(p, "db.replicas", replicaUrl);
+            if (dialect != null && replicaDialect != null && !dialect.name().equals(replicaDialect.name())) {
+                p.error("db.replicas must use the same engine as db.url (" + dialect.name() + ") but got '"
+                        + replicaUrl + "'");
+            }
+            if (replicaDialect != null && replicaDialect.isEmbedded()) {
+                p.error("db.replicas cannot point at an embedded database: '" + replicaUrl + "'");
+            }
+        }
+        if (poolWarmUp > poolSize) {
+            p.error("db.pool.warmUp must not be larger than db.pool.size");
+        }
+        if (useCursorFetch && fetchSize == 0) {
+            p.error("db.useCursorFetch requires a positive db.fetchSize");
+        }
+        p.validate("database");
+    }
+
+    /**
+     * Resolves and validates the configuration, caching it for later calls.
+     * Call this early during startup to surface configuration errors before
+     * any user interaction.
+     *
+     * @return the validated configuration
+     * @throws IllegalStateException listing every invalid or unreadable value
+     */
+    public static synchronized DatabaseConfig load() {
+        if (instance == null) {
+            instance = new DatabaseConfig(ConfigSource.resolve(DEFAULTS));
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the configuration, loading it on first use.
+     */
+    public static DatabaseConfig get() {
+        return load();
+    }
+
+    /**
+     * The SQL dialect of the configured engine.
+     */
+    public SqlDialect getDialect() {
+        return dialect;
+    }
+
+    /**
+     * Builds the primary's JDBC URL including every tuned driver flag the
+     * engine understands.
+     */
+    public String getJdbcUrl() {
+        return withDriverFlags(url);
+    }
+
+    /**
+     * Builds the JDBC URLs of the read replicas, with the same driver flags as
+     * the primary.
+     */
+    public List<String> getReplicaJdbcUrls() {
+        return replicaUrls.stream().map(this::withDriverFlags).collect(Collectors.toUnmodifiableList());
+    }
+
+    private String withDriverFlags(String baseUrl) {
+        Map<String, String> flags = new LinkedHashMap<>();
+        flags.put("cachePrepStmts", String.valueOf(cachePrepStmts));
+        flags.put("prepStmtCacheSize", String.valueOf(statementCacheSize));
+        flags.put("prepStmtCacheSqlLimit", String.valueOf(statementCacheSqlLimit));
+        flags.put("useServerPrepStmts", String.valueOf(useServerPrepStmts));
+        flags.put("rewriteBatchedStatements", String.valueOf(rewriteBatchedStatements));
+        flags.put("useCursorFetch", String.valueOf(useCursorFetch));
+        flags.put("defaultFetchSize", String.valueOf(fetchSize));
+        flags.put("connectTimeout", String.valueOf(connectTimeoutMillis));
+        flags.put("socketTimeout", String.valueOf(socketTimeoutMillis));
+        flags.put("allowMultiQueries", String.valueOf(allowMultiQueries));
+        return dialect.configureUrl(baseUrl, flags);
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public long getReadYourWritesMillis() {
+        return readYourWritesMillis;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public long getBorrowTimeoutMillis() {
+        return borrowTimeoutMillis;
+    }
+
+    /**
+     * Connections each pool opens in the background at startup, while the
+     * console is being set up; 0 opens them on first use.
+     */
+    public int getPoolWarmUp() {
+        return poolWarmUp;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public int getSocketTimeoutMillis() {
+        return socketTimeoutMillis;
+    }
+
+    /**
+     * Whether one statement may carry several queries; the effective value
+     * also honours a flag written directly into the base URL.
+     */
+    public boolean isAllowMultiQueries() {
+        return dialect.supportsMultiStatementResults(getJdbcUrl());
+    }
+
+    /**
+     * Where contacts are kept: {@code jdbc} (the database), {@code memory}
+     * (heap objects) or {@code compact} (packed off-heap rows). Users always
+     * stay in the database.
+     */
+    public String getContactStore() {
+        return contactStore;
+    }
+
+    /**
+     * Number of distinct name strings shared while mapping rows; 0 disables it.
+     */
+    public int getStringDictionarySize() {
+        return stringDictionarySize;
+    }
+
+    /**
+     * Whether pending schema migrations are applied when the primary pool is
+     * created. Turn off where schema changes go through a DBA.
+     */
+    public boolean isMigrateOnStartup() {
+        return migrateOnStartup;
+    }
+
+    /**
+     * Calling code given to phone numbers entered without one, e.g. 90 for
+     * {@code 0532 123 45 67}.
+     */
+    public String getPhoneCountryCode() {
+        return String.valueOf(phoneCountryCode);
+    }
+
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    public long getRetryInitialBackoffMillis() {
+        return retryInitialBackoffMillis;
+    }
+
+    public long getRetryMaxBackoffMillis() {
+        return retryMaxBackoffMillis;
+    }
+
+    /**
+     * DAO calls taking at least this long are kept in the slow query log.
+     */
+    public long getSlowQueryThresholdMillis() {
+        return slowQueryThresholdMillis;
+    }
+
+    /**
+     * Number of slow calls kept; 0 turns statement tracing off.
+     */
+    public int getSlowQueryCapacity() {
+        return slowQueryCapacity;
+    }
+
+    /**
+     * Describes the effective settings with the password masked, for startup
+     * logs and support requests.
+     */
+    @Override
+    public String toString() {
+        return "DatabaseConfig[dialect=" + dialect.name() + ", url=" + getJdbcUrl() + ", user=" + user
+                + ", replicas=" + replicaUrls.size()
+                + ", poolSize=" + poolSize + ", fetchSize=" + fetchSize + ", batchSize=" + batchSize
+                + ", statementCacheSize=" + statementCacheSize + ", connectTimeoutMillis=" + connectTimeoutMillis
+                + ", socketTimeoutMillis=" + socketTimeoutMillis + ", retryMaxAttempts=" + retryMaxAttempts + "]";
+    }
+
+    private static String jdbcUrl(ConfigSource p, String key) {
+        String value = p.string(key);
+        if (!value.isEmpty() && !value.startsWith("jdbc:")) {
+            p.error(key + " must be a JDBC URL starting with 'jdbc:' but was '" + value + "'");
+        }
+        return value;
+    }
+
+    private static SqlDialect dialect(ConfigSource p, String key, String jdbcUrl) {
+        if (!jdbcUrl.startsWith("jdbc:")) {
+            return null; // already reported as a malformed URL
+        }
+        try {
+            return SqlDialects.forUrl(jdbcUrl);
+        } catch (IllegalArgumentException e) {
+            p.error(key + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<String> jdbcUrlList(ConfigSource p, String key) {
+        String raw = p.raw(key);
+        List<String> urls = Arrays.stream((raw == null ? "" : raw).split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toUnmodifiableList());
+        for (String candidate : urls) {
+            if (!candidate.startsWith("jdbc:")) {
+                p.error(key + " entries must be JDBC URLs but got '" + candidate + "'");
+            }
+        }
+        return urls;
+    }
+}
@@ -1,24 +1,42 @@
 package com.cmpe343.project2.db;
 
+import com.cmpe343.project2.dao.dialect.SqlDialect;
+import com.cmpe343.project2.db.migration.MigrationRunner;
+import com.cmpe343.project2.service.SessionContext;
 import com.cmpe343.project2.util.ConsoleColors;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Manages the lifecycle of the JDBC connection to the MySQL database using a
- * lightweight singleton. The class is intentionally minimal so that every call
- * to {@link #getConnection()} follows the same repeatable sequence:
+ * Manages access to the primary database and its optional read replicas
+ * through small shared {@link ConnectionPool}s. Every call follows the same
+ * repeatable sequence:
  * <ol>
- * <li>Check whether a connection already exists or has been closed.</li>
- * <li>Load the MySQL driver class to guarantee driver discovery on legacy
- *     runtimes.</li>
- * <li>Open a new connection with the configured credentials.</li>
- * <li>Return the cached connection for reuse throughout the application.</li>
+ * <li>Create the pools on first use, loading the driver class of the
+ *     configured {@link SqlDialect} to guarantee driver discovery on legacy
+ *     runtimes. Pending schema migrations are applied to the primary here
+ *     unless {@code db.migrateOnStartup} is off.</li>
+ * <li>Pick the target: {@link #getConnection()} always leases from the
+ *     primary, {@link #getReadConnection()} from the next replica in
+ *     round-robin order.</li>
+ * <li>Lease a connection, waiting while all of them are in use.</li>
+ * <li>Return the lease; closing it hands the connection back to the pool so
+ *     DAOs can keep using try-with-resources.</li>
  * </ol>
- * The explicit {@link #closeConnection()} method mirrors that lifecycle by
- * walking through validation and cleanup steps so the console application can
- * release resources gracefully when exiting.
+ * URLs, credentials, pool sizing and driver flags come from
+ * {@link DatabaseConfig}. Replicas are listed as comma-separated JDBC URLs in
+ * {@code db.replicas} and share the primary's credentials; pointing it at a
+ * second local MySQL instance is enough to exercise the routing. Without
+ * replicas every read goes to the primary. To keep read-your-writes semantics,
+ * a session that has just written reads from the primary for
+ * {@code db.readYourWritesMillis} (default 5000 ms), which covers typical
+ * replication lag.
+ * The explicit {@link #closeConnection()} method shuts the pools down so the
+ * console application can release resources gracefully when exiting.
  *
  * @author Raul Ibrahimov
  * @author Akhmed Nazarov
@@ -27,69 +45,163 @@ import java.sql.SQLException;
  */
 public class DatabaseConnection {
 
-    private static final String URL = "jdbc:mysql://localhost:3306/cmpe343_project2?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true";
-    private static final String USER = "myuser";
-    private static final String PASSWORD = "1234";
-
-    private static Connection connection = null;
+    private static ConnectionPool pool = null;
+    private static volatile List<ConnectionPool> replicaPools = List.of();
+    private static final AtomicInteger nextReplica = new AtomicInteger();
 
     // Private constructor to prevent instantiation
     private DatabaseConnection() {
     }
 
     /**
-     * Retrieves a ready-to-use JDBC connection. The method intentionally walks
-     * through the following steps to avoid surprises:
+     * Leases a ready-to-use JDBC connection to the primary. The method walks
+     * through the following steps:
      * <ul>
-     * <li>Verify whether a cached connection exists and is still open.</li>
-     * <li>Load the MySQL driver class to support environments that require
-     *     explicit driver registration.</li>
-     * <li>Create a new connection using the configured URL, username and
-     *     password when none is available.</li>
-     * <li>Return the shared connection instance to all callers.</li>
+     * <li>Create the pools on first use after loading the dialect's driver class.</li>
+     * <li>Wait for a free connection, reusing an idle one or opening a new one
+     *     with the configured URL, username and password.</li>
      * </ul>
-     * Any unrecoverable error prints a descriptive message and halts the
-     * application because database access is critical to the program flow.
+     * Callers must close the returned connection (ideally with
+     * try-with-resources) so it goes back to the pool. A missing driver is
+     * unrecoverable and halts the application; connection failures are thrown
+     * so callers can report or retry them.
      *
-     * @return Connection object guaranteed to be open when returned.
+     * @return Connection lease guaranteed to be open when returned.
+     * @throws SQLException when no connection can be obtained.
      */
-    public static Connection getConnection() {
-        try {
-            if (connection == null || connection.isClosed()) {
-                // Load driver implicitly in modern JDBC, but good practice for older envs
-                try {
-                    Class.forName("com.mysql.cj.jdbc.Driver");
-                } catch (ClassNotFoundException e) {
-                    ConsoleColors.printError("MySQL JDBC Driver not found. Add the library to your classpath.");
-                    System.exit(1);
-                }
+    public static Connection getConnection() throws SQLException {
+        return pool().borrow();
+    }
+
+    /**
+     * Leases a connection for a read-only statement. Reads are spread over the
+     * replicas in round-robin order; the primary serves them instead when no
+     * replica is configured, when the current session wrote recently, or when
+     * every replica is down or has no free connection. Replicas are only
+     * tried without waiting, so a saturated replica never holds a read up
+     * for the borrow timeout.
+     *
+     * @return Connection lease suitable for queries only.
+     * @throws SQLException when neither a replica nor the primary is reachable.
+     */
+    public static Connection getReadConnection() throws SQLException {
+        ConnectionPool primary = pool();
+        List<ConnectionPool> replicas = replicaPools;
+        if (replicas.isEmpty()
+                || SessionContext.getInstance().hasWrittenWithin(DatabaseConfig.get().getReadYourWritesMillis())) {
+            return primary.borrow();
+        }
 
-                connection = DriverManager.getConnection(URL, USER, PASSWORD);
-                // ConsoleColors.printInfo("Database connected successfully."); // Optional
-                // logging
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                Connection conn = replicas.get((start + i) % replicas.size()).tryBorrow();
+                if (conn != null) {
+                    return conn;
+                }
+            } catch (SQLException e) {
+                // Replica down: try the next one, then fail over to the primary
             }
-        } catch (SQLException e) {
-            ConsoleColors.printError("Failed to connect to database: " + e.getMessage());
-            ConsoleColors.printWarning("Ensure MySQL is running and the database 'cmpe343_project2' exists.");
-            System.exit(1);
         }
-        return connection;
+        return primary.borrow();
     }
 
     /**
-     * Closes the shared database connection during application shutdown. The
-     * method checks that a connection exists, confirms it is still open, closes
-     * it, and logs the outcome. Errors are reported to the console but do not
-     * rethrow to avoid masking shutdown routines.
+     * Reports whether the configured URL lets one statement carry several
+     * queries ({@code allowMultiQueries=true}), which enables single
+     * round-trip execution of multi-part reports.
+     */
+    public static boolean isMultiQueryEnabled() {
+        return DatabaseConfig.get().isAllowMultiQueries();
+    }
+
+    /**
+     * The SQL dialect of the configured database, for DAOs that need
+     * engine-specific expressions.
+     */
+    public static SqlDialect dialect() {
+        return DatabaseConfig.get().getDialect();
+    }
+
+    /**
+     * Creates the pools, applying pending migrations, and opens
+     * {@code db.pool.warmUp} connections to the primary and each replica in
+     * parallel. Meant to run in the background at startup so the first
+     * screen's queries do not wait for connection handshakes.
+     *
+     * @return number of connections opened ahead of use
+     * @throws SQLException when the pools cannot be created or migrated
      */
-    public static void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                ConsoleColors.printInfo("Database connection closed.");
+    public static int warmUp() throws SQLException {
+        ConnectionPool primary = pool();
+        int count = DatabaseConfig.get().getPoolWarmUp();
+        if (count == 0) {
+            return 0;
+        }
+        List<CompletableFuture<Integer>> pools = new ArrayList<>();
+        for (ConnectionPool replica : replicaPools) {
+            pools.add(CompletableFuture.supplyAsync(() -> replica.warmUp(count)));
+        }
+        int warmed = primary.warmUp(count);
+        for (CompletableFuture<Integer> replica : pools) {
+            warmed += replica.join();
+        }
+        return warmed;
+    }
+
+    private static synchronized ConnectionPool pool() throws SQLException {
+        if (pool == null) {
+            DatabaseConfig config = DatabaseConfig.get();
+            SqlDialect dialect = config.getDialect();
+            // Load driver implicitly in modern JDBC, but good practice for older envs
+            try {
+                Class.forName(dialect.driverClassName());
+            } catch (ClassNotFoundException e) {
+                ConsoleColors.printError(dialect.name() + " JDBC Driver (" + dialect.driverClassName()
+                        + ") not found. Add the library to your classpath.");
+                System.exit(1);
             }
+            ConnectionPool primary = newPool(config, "primary", config.getJdbcUrl());
+            if (config.isMigrateOnStartup()) {
+                migrate(primary, dialect);
+            }
+            pool = primary;
+
+            List<ConnectionPool> replicas = new ArrayList<>();
+            for (String replicaUrl : config.getReplicaJdbcUrls()) {
+                replicas.add(newPool(config, "replica-" + (replicas.size() + 1), replicaUrl));
+            }
+            replicaPools = List.copyOf(replicas);
+        }
+        return pool;
+    }
+
+    private static void migrate(ConnectionPool primary, SqlDialect dialect) throws SQLException {
+        try (Connection conn = primary.borrow()) {
+            new MigrationRunner().migrate(conn, dialect);
         } catch (SQLException e) {
-            ConsoleColors.printError("Error closing connection: " + e.getMessage());
+            primary.shutdown();
+            throw e;
+        }
+    }
+
+    private static ConnectionPool newPool(DatabaseConfig config, String name, String url) {
+        return new ConnectionPool(name, url, config.getUser(), config.getPassword(), config.getPoolSize(),
+                config.getBorrowTimeoutMillis());
+    }
+
+    /**
+     * Closes the shared connection pools during application shutdown. The
+     * method checks that the pools exist, shuts them down, and logs the
+     * outcome. Errors are never rethrown to avoid masking shutdown routines.
+     */
+    public static synchronized void closeConnection() {
+        if (pool != null) {
+            pool.shutdown();
+            replicaPools.forEach(ConnectionPool::shutdown);
+            pool = null;
+            replicaPools = List.of();
+            ConsoleColors.printInfo("Database connection closed.");
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.cmpe343.project2.db.migration;
+
+import com.cmpe343.project2.dao.dialect.SqlDialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * One versioned schema change. Versions are applied in ascending order and
+ * recorded in {@code schema_migrations}, so each runs once per database.
+ * Bodies check the catalog before changing it, because installations created
+ * from {@code scripts/schema.sql} may already contain part of a change.
+ */
+public final class Migration {
+
+    /**
+     * The statements of a migration.
+     */
+    @FunctionalInterface
+    public interface Body {
+        void apply(Connection conn, SqlDialect dialect) throws SQLException;
+    }
+
+    private final int version;
+    private final String description;
+    private final Body body;
+
+    public Migration(int version, String description, Body body) {
+        if (version < 1) {
+            throw new IllegalArgumentException("Migration versions start at 1");
+        }
+        this.version = version;
+        this.description = description;
+        this.body = body;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    void apply(Connection conn, SqlDialect dialect) throws SQLException {
+        body.apply(conn, dialect);
+    }
+
+    @Override
+    public String toString() {
+        return "V" + version + " " + description;
+    }
+}
@@ -0,0 +1,99 @@
+package com.cmpe343.project2.db.migration;
+
+import com.cmpe343.project2.dao.dialect.SqlDialect;
+import com.cmpe343.project2.util.ConsoleColors;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Brings a database up to the latest schema version at startup. The runner
+ * follows a fixed sequence:
+ * <ol>
+ * <li>Create the {@code schema_migrations} history table if needed.</li>
+ * <li>Read the versions already applied.</li>
+ * <li>Apply every newer {@link Migration} in version order, recording its
+ *     duration in the history so schema changes can be audited.</li>
+ * </ol>
+ * A failing migration stops the run and is rethrown, leaving later versions
+ * unapplied. If two instances race on the same version, the history's primary
+ * key lets only one record it; because DDL cannot be rolled back on every
+ * engine, roll out a release with new migrations on one instance first.
+ */
+public final class MigrationRunner {
+
+    private static final String HISTORY_DDL = "CREATE TABLE IF NOT EXISTS schema_migrations ("
+            + " version INT PRIMARY KEY,"
+            + " description VARCHAR(200) NOT NULL,"
+            + " applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,"
+            + " execution_ms BIGINT NOT NULL)";
+
+    private final List<Migration> migrations;
+
+    public MigrationRunner() {
+        this(Migrations.ALL);
+    }
+
+    public MigrationRunner(List<Migration> migrations) {
+        this.migrations = migrations;
+    }
+
+    /**
+     * Applies all pending migrations over {@code conn}.
+     *
+     * @return number of migrations applied by this call
+     * @throws SQLException when the history cannot be read or a migration fails
+     */
+    public int migrate(Connection conn, SqlDialect dialect) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(HISTORY_DDL);
+        }
+        Set<Integer> applied = appliedVersions(conn);
+
+        int count = 0;
+        for (Migration migration : migrations) {
+            if (applied.contains(migration.getVersion())) {
+                continue;
+            }
+            long start = System.nanoTime();
+            migration.apply(conn, dialect);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            if (record(conn, migration, elapsedMillis)) {
+                ConsoleColors.printInfo("Applied schema migration " + migration + " (" + elapsedMillis + " ms)");
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Set<Integer> appliedVersions(Connection conn) throws SQLException {
+        Set<Integer> versions = new HashSet<>();
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT version FROM schema_migrations")) {
+            while (rs.next()) {
+                versions.add(rs.getInt(1));
+            }
+        }
+        return versions;
+    }
+
+    private boolean record(Connection conn, Migration migration, long elapsedMillis) throws SQLException {
+        String sql = "INSERT INTO schema_migrations (version, description, execution_ms) VALUES (?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, migration.getVersion());
+            stmt.setString(2, migration.getDescription());
+            stmt.setLong(3, elapsedMillis);
+            stmt.executeUpdate();
+            return true;
+        } catch (SQLIntegrityConstraintViolationException e) {
+            return false; // another instance recorded it first
+        }
+    }
+}
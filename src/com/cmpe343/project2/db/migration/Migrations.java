@@ -0,0 +1,219 @@
+package com.cmpe343.project2.db.migration;
+
+import com.cmpe343.project2.util.PhoneNormalizer;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The application's schema history. Append new migrations at the end with the
+ * next version number; never edit one that has been released.
+ */
+public final class Migrations {
+
+    /** Indexes of the hot ORDER BY and WHERE columns, keyed by name. */
+    private static final String[][] INDEX_PACK = {
+            // Sorting by birth date and the MIN/MAX statistics
+            { "idx_contacts_birth_date", "birth_date" },
+    };
+
+    /** Indexes for narrow projections; created by V3, dropped by V6 as no query reads them. */
+    private static final String[][] PROJECTION_INDEXES = {
+            { "idx_contacts_last_summary", "last_name, first_name, phone_primary, email" },
+            { "idx_contacts_first_summary", "first_name, last_name, phone_primary, email" },
+            { "idx_contacts_phone", "phone_primary" },
+            { "idx_contacts_email", "email" },
+    };
+
+    private static final int BACKFILL_BATCH = 500;
+
+    public static final List<Migration> ALL = List.of(
+            new Migration(1, "Baseline users and contacts tables", (conn, dialect) -> {
+                try (Statement stmt = conn.createStatement()) {
+                    for (String ddl : dialect.baselineSchema()) {
+                        stmt.execute(ddl);
+                    }
+                }
+            }),
+            new Migration(2, "Optimistic lock version column on contacts", (conn, dialect) -> {
+                if (!columnExists(conn, "contacts", "version")) {
+                    execute(conn, "ALTER TABLE contacts ADD COLUMN version INT NOT NULL DEFAULT 0");
+                }
+            }),
+            new Migration(3, "Index pack for sorting, lookups and birth-month search", (conn, dialect) -> {
+                for (String[] index : INDEX_PACK) {
+                    createIndexIfMissing(conn, index[0], "(" + index[1] + ")");
+                }
+                for (String[] index : PROJECTION_INDEXES) {
+                    createIndexIfMissing(conn, index[0], "(" + index[1] + ")");
+                }
+                if (dialect.supportsExpressionIndexes()) {
+                    // Matches the predicate searchByCriteria builds from SqlDialect.monthOf
+                    createIndexIfMissing(conn, "idx_contacts_birth_month",
+                            "((" + dialect.monthOf("birth_date") + "))");
+                }
+            }),
+            new Migration(4, "Stored birth month and month-day columns for birthday searches", (conn, dialect) -> {
+                String month = dialect.monthOf("birth_date");
+                addColumnIfMissing(conn, "birth_month",
+                        dialect.storedGeneratedColumn("birth_month", "SMALLINT", month));
+                addColumnIfMissing(conn, "birth_mmdd", dialect.storedGeneratedColumn("birth_mmdd", "SMALLINT",
+                        month + " * 100 + " + dialect.dayOfMonth("birth_date")));
+                // The plain column index replaces the V3 expression index of the same name
+                if (dialect.supportsExpressionIndexes() && indexExists(conn, "contacts", "idx_contacts_birth_month")
+                        && !indexHasColumn(conn, "contacts", "idx_contacts_birth_month", "birth_month")) {
+                    execute(conn, "DROP INDEX idx_contacts_birth_month ON contacts");
+                }
+                createIndexIfMissing(conn, "idx_contacts_birth_month", "(birth_month)");
+                // Upcoming birthdays are one or two range scans, split at the year end
+                createIndexIfMissing(conn, "idx_contacts_birth_mmdd", "(birth_mmdd)");
+            }),
+            new Migration(5, "Phone lookup table with reversed-digit index", (conn, dialect) -> {
+                execute(conn, "CREATE TABLE IF NOT EXISTS contact_phones ("
+                        + " contact_id INT NOT NULL,"
+                        + " kind CHAR(1) NOT NULL,"
+                        + " digits VARCHAR(20) NOT NULL,"
+                        + " reversed_digits VARCHAR(20) NOT NULL,"
+                        + " PRIMARY KEY (contact_id, kind),"
+                        + " CONSTRAINT fk_contact_phones_contact FOREIGN KEY (contact_id)"
+                        + " REFERENCES contacts (contact_id) ON DELETE CASCADE)");
+                // Suffix search is a prefix range here; contact_id makes the semi-join index-only
+                createIndexIfMissing(conn, "contact_phones", "idx_contact_phones_reversed",
+                        "(reversed_digits, contact_id)");
+                backfillContactPhones(conn);
+            }),
+            new Migration(6, "Drop the unused projection indexes", (conn, dialect) -> {
+                // Every contact query reads full rows, so these only slowed down writes
+                for (String[] index : PROJECTION_INDEXES) {
+                    if (indexExists(conn, "contacts", index[0])) {
+                        execute(conn, dialect.dropIndex("contacts", index[0]));
+                    }
+                }
+            }));
+
+    private Migrations() {
+    }
+
+    /**
+     * Names of the indexes created by the index pack and the birthday
+     * columns, for tooling that compares plans with and without them.
+     */
+    public static List<String> indexPackNames() {
+        List<String> names = new ArrayList<>();
+        for (String[] index : INDEX_PACK) {
+            names.add(index[0]);
+        }
+        names.add("idx_contacts_birth_month");
+        names.add("idx_contacts_birth_mmdd");
+        return names;
+    }
+
+    static void execute(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    static void createIndexIfMissing(Connection conn, String name, String keyPart) throws SQLException {
+        createIndexIfMissing(conn, "contacts", name, keyPart);
+    }
+
+    static void createIndexIfMissing(Connection conn, String table, String name, String keyPart)
+            throws SQLException {
+        if (!indexExists(conn, table, name)) {
+            execute(conn, "CREATE INDEX " + name + " ON " + table + " " + keyPart);
+        }
+    }
+
+    /**
+     * Indexes the phones of existing contacts by their digits as stored; only
+     * numbers written from now on are normalized to E.164 first.
+     */
+    static void backfillContactPhones(Connection conn) throws SQLException {
+        String insert = "INSERT INTO contact_phones (contact_id, kind, digits, reversed_digits) VALUES (?, ?, ?, ?)";
+        try (Statement select = conn.createStatement();
+                ResultSet rs = select.executeQuery("SELECT contact_id, phone_primary, phone_secondary FROM contacts"
+                        + " WHERE contact_id NOT IN (SELECT contact_id FROM contact_phones)");
+                PreparedStatement stmt = conn.prepareStatement(insert)) {
+            int pending = 0;
+            while (rs.next()) {
+                pending += addPhone(stmt, rs.getInt(1), "P", rs.getString(2));
+                pending += addPhone(stmt, rs.getInt(1), "S", rs.getString(3));
+                if (pending >= BACKFILL_BATCH) {
+                    stmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    private static int addPhone(PreparedStatement stmt, int contactId, String kind, String phone)
+            throws SQLException {
+        String digits = PhoneNormalizer.digitsOf(phone);
+        if (digits.isEmpty()) {
+            return 0;
+        }
+        stmt.setInt(1, contactId);
+        stmt.setString(2, kind);
+        stmt.setString(3, digits);
+        stmt.setString(4, PhoneNormalizer.reversedDigits(digits));
+        stmt.addBatch();
+        return 1;
+    }
+
+    static void addColumnIfMissing(Connection conn, String column, String definition) throws SQLException {
+        if (!columnExists(conn, "contacts", column)) {
+            execute(conn, "ALTER TABLE contacts ADD COLUMN " + definition);
+        }
+    }
+
+    static boolean columnExists(Connection conn, String table, String column) throws SQLException {
+        DatabaseMetaData meta = conn.getMetaData();
+        try (ResultSet rs = meta.getColumns(conn.getCatalog(), conn.getSchema(), identifier(meta, table),
+                identifier(meta, column))) {
+            return rs.next();
+        }
+    }
+
+    public static boolean indexExists(Connection conn, String table, String index) throws SQLException {
+        DatabaseMetaData meta = conn.getMetaData();
+        try (ResultSet rs = meta.getIndexInfo(conn.getCatalog(), conn.getSchema(), identifier(meta, table), false,
+                true)) {
+            while (rs.next()) {
+                if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static boolean indexHasColumn(Connection conn, String table, String index, String column)
+            throws SQLException {
+        DatabaseMetaData meta = conn.getMetaData();
+        try (ResultSet rs = meta.getIndexInfo(conn.getCatalog(), conn.getSchema(), identifier(meta, table), false,
+                true)) {
+            while (rs.next()) {
+                if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))
+                        && column.equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** Unquoted identifiers are folded to upper case by some engines (H2). */
+    private static String identifier(DatabaseMetaData meta, String name) throws SQLException {
+        return meta.storesUpperCaseIdentifiers() ? name.toUpperCase() : name;
+    }
+}
@@ -0,0 +1,151 @@
+package com.cmpe343.project2.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe latency histogram with the bucket layout of HdrHistogram:
+ * values below 128 get one bucket each, and every power of two above that
+ * is split into 64 linear sub-buckets. Any recorded value is therefore
+ * reported within about 1.6% of its true value, from nanoseconds to hours,
+ * in a fixed 3,712 buckets (about 30 KB) and without allocation on the
+ * recording path. Percentiles report the highest value of their bucket, so
+ * they err on the slow side.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+    private static final int BUCKETS = LINEAR_LIMIT + (63 - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one value, typically a duration in nanoseconds. Negative
+     * values are recorded as zero.
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(index(v));
+        total.increment();
+        sum.add(v);
+        long seen;
+        while (v > (seen = max.get()) && !max.compareAndSet(seen, v)) {
+            // retry until the larger value is stored
+        }
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a
+     * {@link System#nanoTime()} reading.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    public long sum() {
+        return sum.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0 : (double) sum() / n;
+    }
+
+    /**
+     * Value below which the given share of recordings fall.
+     *
+     * @param percentile between 0 and 100, e.g. 99.9
+     * @return 0 when nothing has been recorded
+     */
+    public long percentile(double percentile) {
+        long n = count();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValue(i), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Number of recordings of at most {@code value}, rounded to bucket
+     * precision; the basis for cumulative exports.
+     */
+    public long countAtOrBelow(long value) {
+        long n = 0;
+        int last = index(Math.max(0, value));
+        for (int i = 0; i <= last; i++) {
+            n += counts.get(i);
+        }
+        return n;
+    }
+
+    /**
+     * Adds all recordings of another histogram to this one.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.addAndGet(i, c);
+            }
+        }
+        total.add(other.count());
+        sum.add(other.sum());
+        long otherMax = other.max();
+        long seen;
+        while (otherMax > (seen = max.get()) && !max.compareAndSet(seen, otherMax)) {
+            // retry until the larger value is stored
+        }
+    }
+
+    /**
+     * Clears all recordings. Values recorded concurrently may be lost.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    private static int index(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highestValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long sub = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,85 @@
+package com.cmpe343.project2.metrics;
+
+import java.util.Map;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import javax.management.ReflectionException;
+
+/**
+ * Read-only JMX view of a {@link MetricsRegistry}. Metrics are registered
+ * lazily as code paths run, so the attribute list is rebuilt on every
+ * {@link #getMBeanInfo()}; reconnecting JConsole shows newly added ones. The
+ * {@code prometheus} operation returns the full text exposition.
+ */
+final class MetricsMBean implements DynamicMBean {
+
+    static final String OBJECT_NAME = "com.cmpe343.project2:type=Metrics";
+
+    private final MetricsRegistry registry;
+
+    MetricsMBean(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Number value = registry.values().get(attribute);
+        if (value == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return value;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        Map<String, Number> values = registry.values();
+        AttributeList list = new AttributeList();
+        for (String name : attributes) {
+            Number value = values.get(name);
+            if (value != null) {
+                list.add(new Attribute(name, value));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        if ("prometheus".equals(actionName)) {
+            return registry.toPrometheus();
+        }
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        Map<String, Number> values = registry.values();
+        MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[values.size()];
+        int i = 0;
+        for (Map.Entry<String, Number> e : values.entrySet()) {
+            attributes[i++] = new MBeanAttributeInfo(e.getKey(), e.getValue().getClass().getName(), e.getKey(),
+                    true, false, false);
+        }
+        MBeanOperationInfo prometheus = new MBeanOperationInfo("prometheus",
+                "All metrics in the Prometheus text format", new MBeanParameterInfo[0], String.class.getName(),
+                MBeanOperationInfo.INFO);
+        return new MBeanInfo(getClass().getName(), "CMPE343 application metrics", attributes, null,
+                new MBeanOperationInfo[] { prometheus }, null);
+    }
+}
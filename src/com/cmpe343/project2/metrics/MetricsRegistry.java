@@ -0,0 +1,357 @@
+package com.cmpe343.project2.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide registry of counters, latency histograms and gauges. Metrics
+ * are looked up once by name and labels and then updated without locks:
+ * counters are {@link LongAdder}s and latencies go into
+ * {@link LatencyHistogram}s, so instrumented hot paths pay a few atomic
+ * increments per call. The registry can be read in three ways:
+ * <ul>
+ * <li>{@link #toPrometheus()} - Prometheus text exposition format, with
+ *     latencies as cumulative histograms in seconds;</li>
+ * <li>{@link #registerMBean()} - a JMX MBean with one attribute per value,
+ *     for JConsole or VisualVM;</li>
+ * <li>{@link #startPeriodicLog} - a one-line summary at a fixed interval.</li>
+ * </ul>
+ * Names follow Prometheus conventions ({@code cmpe343_} prefix, base units,
+ * {@code _total} for counters). Labels are given as name/value pairs.
+ */
+public final class MetricsRegistry {
+
+    /**
+     * Monotonic count of events.
+     */
+    public static final class Counter {
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long n) {
+            value.add(n);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    private enum Type {
+        COUNTER, GAUGE, HISTOGRAM
+    }
+
+    private static final class Entry {
+        final String name;
+        final String labels;
+        final Type type;
+        final Object metric;
+
+        Entry(String name, String labels, Type type, Object metric) {
+            this.name = name;
+            this.labels = labels;
+            this.type = type;
+            this.metric = metric;
+        }
+
+        double gaugeValue() {
+            return ((DoubleSupplier) metric).getAsDouble();
+        }
+    }
+
+    // Upper bounds of the exported histogram buckets, in seconds
+    private static final double[] BUCKET_SECONDS = { 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25,
+            0.5, 1, 2.5, 5, 10 };
+    private static final MetricsRegistry SHARED = new MetricsRegistry();
+
+    // Sorted by key so that the entries of one metric family are adjacent
+    private final Map<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, String> help = new ConcurrentSkipListMap<>();
+    private ScheduledExecutorService logger;
+
+    /**
+     * The registry used by the application's instrumentation.
+     */
+    public static MetricsRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the counter with the given name and labels, creating it on
+     * first use.
+     *
+     * @param labels alternating label names and values
+     */
+    public Counter counter(String name, String description, String... labels) {
+        return (Counter) register(name, description, Type.COUNTER, labels, new Counter()).metric;
+    }
+
+    /**
+     * Returns the latency histogram with the given name and labels, creating
+     * it on first use. Record durations in nanoseconds; they are exported in
+     * seconds.
+     *
+     * @param labels alternating label names and values
+     */
+    public LatencyHistogram histogram(String name, String description, String... labels) {
+        return (LatencyHistogram) register(name, description, Type.HISTOGRAM, labels, new LatencyHistogram()).metric;
+    }
+
+    /**
+     * Registers a value read when the metrics are exported, such as a queue
+     * length. Registering the same name and labels again replaces the
+     * supplier, e.g. when a pool is recreated.
+     *
+     * @param labels alternating label names and values
+     */
+    public void gauge(String name, String description, DoubleSupplier value, String... labels) {
+        String key = key(name, labels(labels));
+        help.putIfAbsent(name, description);
+        entries.put(key, new Entry(name, labels(labels), Type.GAUGE, value));
+    }
+
+    private Entry register(String name, String description, Type type, String[] labels, Object metric) {
+        String labelText = labels(labels);
+        help.putIfAbsent(name, description);
+        Entry entry = entries.computeIfAbsent(key(name, labelText), k -> new Entry(name, labelText, type, metric));
+        if (entry.type != type) {
+            throw new IllegalArgumentException(name + " is already registered as a " + entry.type);
+        }
+        return entry;
+    }
+
+    /**
+     * Renders every metric in the Prometheus text exposition format.
+     */
+    public String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+        String family = null;
+        for (Entry e : entries.values()) {
+            if (!e.name.equals(family)) {
+                family = e.name;
+                out.append("# HELP ").append(e.name).append(' ').append(help.get(e.name)).append('\n');
+                out.append("# TYPE ").append(e.name).append(' ').append(e.type.name().toLowerCase(Locale.ROOT))
+                        .append('\n');
+            }
+            switch (e.type) {
+                case COUNTER:
+                    sample(out, e.name, e.labels, null, ((Counter) e.metric).get());
+                    break;
+                case GAUGE:
+                    sample(out, e.name, e.labels, null, e.gaugeValue());
+                    break;
+                case HISTOGRAM:
+                    LatencyHistogram h = (LatencyHistogram) e.metric;
+                    long count = h.count();
+                    for (double bound : BUCKET_SECONDS) {
+                        String le = "le=\"" + BigDecimal.valueOf(bound).stripTrailingZeros().toPlainString() + "\"";
+                        sample(out, e.name + "_bucket", e.labels, le, h.countAtOrBelow((long) (bound * 1e9)));
+                    }
+                    sample(out, e.name + "_bucket", e.labels, "le=\"+Inf\"", count);
+                    sample(out, e.name + "_sum", e.labels, null, h.sum() / 1e9);
+                    sample(out, e.name + "_count", e.labels, null, count);
+                    break;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Human-readable table: counters and gauges with their value, latencies
+     * with count, mean and percentiles in milliseconds.
+     */
+    public String toTable() {
+        StringBuilder out = new StringBuilder(String.format("%-70s %10s %9s %9s %9s %9s%n", "Metric", "Count",
+                "Mean ms", "p50 ms", "p99 ms", "Max ms"));
+        for (Entry e : entries.values()) {
+            String id = e.name + (e.labels.isEmpty() ? "" : "{" + e.labels + "}");
+            switch (e.type) {
+                case COUNTER:
+                    out.append(String.format("%-70s %10d%n", id, ((Counter) e.metric).get()));
+                    break;
+                case GAUGE:
+                    out.append(String.format("%-70s %10s%n", id, number(e.gaugeValue())));
+                    break;
+                case HISTOGRAM:
+                    LatencyHistogram h = (LatencyHistogram) e.metric;
+                    out.append(String.format("%-70s %10d %9.2f %9.2f %9.2f %9.2f%n", id, h.count(), h.mean() / 1e6,
+                            h.percentile(50) / 1e6, h.percentile(99) / 1e6, h.max() / 1e6));
+                    break;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * One line per call summarizing each metric family: counters summed over
+     * their labels, histograms as total count and worst p99, gauges summed.
+     */
+    public String summaryLine() {
+        List<String> parts = new ArrayList<>();
+        String family = null;
+        double total = 0;
+        long count = 0;
+        long worstP99 = 0;
+        Type type = null;
+        for (Entry e : entries.values()) {
+            if (!e.name.equals(family)) {
+                if (family != null) {
+                    parts.add(summarize(family, type, total, count, worstP99));
+                }
+                family = e.name;
+                type = e.type;
+                total = 0;
+                count = 0;
+                worstP99 = 0;
+            }
+            switch (e.type) {
+                case COUNTER:
+                    total += ((Counter) e.metric).get();
+                    break;
+                case GAUGE:
+                    total += e.gaugeValue();
+                    break;
+                case HISTOGRAM:
+                    LatencyHistogram h = (LatencyHistogram) e.metric;
+                    count += h.count();
+                    worstP99 = Math.max(worstP99, h.percentile(99));
+                    break;
+            }
+        }
+        if (family != null) {
+            parts.add(summarize(family, type, total, count, worstP99));
+        }
+        return String.join(", ", parts);
+    }
+
+    private static String summarize(String family, Type type, double total, long count, long worstP99) {
+        String name = family.startsWith("cmpe343_") ? family.substring("cmpe343_".length()) : family;
+        if (type == Type.HISTOGRAM) {
+            return String.format("%s=%d (p99 %.1f ms)", name, count, worstP99 / 1e6);
+        }
+        return name + "=" + number(total);
+    }
+
+    /**
+     * Hands {@link #summaryLine()} to {@code sink} every
+     * {@code intervalSeconds} on a daemon thread, replacing any earlier
+     * schedule.
+     */
+    public synchronized void startPeriodicLog(long intervalSeconds, Consumer<String> sink) {
+        stopPeriodicLog();
+        logger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.scheduleAtFixedRate(() -> sink.accept("Metrics: " + summaryLine()), intervalSeconds,
+                intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stopPeriodicLog() {
+        if (logger != null) {
+            logger.shutdownNow();
+            logger = null;
+        }
+    }
+
+    /**
+     * Publishes the registry on the platform MBean server as
+     * {@code com.cmpe343.project2:type=Metrics}. Registering twice is
+     * harmless.
+     *
+     * @throws IllegalStateException when the MBean server rejects it
+     */
+    public void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(this),
+                    new ObjectName(MetricsMBean.OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already published
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register the metrics MBean: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Flat name/value view used by the MBean: histograms contribute their
+     * count, mean, p50, p99 and max in milliseconds.
+     */
+    Map<String, Number> values() {
+        Map<String, Number> values = new LinkedHashMap<>();
+        for (Entry e : entries.values()) {
+            String id = e.name + (e.labels.isEmpty() ? "" : "{" + e.labels.replace("\"", "") + "}");
+            switch (e.type) {
+                case COUNTER:
+                    values.put(id, ((Counter) e.metric).get());
+                    break;
+                case GAUGE:
+                    values.put(id, e.gaugeValue());
+                    break;
+                case HISTOGRAM:
+                    LatencyHistogram h = (LatencyHistogram) e.metric;
+                    values.put(id + ".count", h.count());
+                    values.put(id + ".meanMillis", h.mean() / 1e6);
+                    values.put(id + ".p50Millis", h.percentile(50) / 1e6);
+                    values.put(id + ".p99Millis", h.percentile(99) / 1e6);
+                    values.put(id + ".maxMillis", h.max() / 1e6);
+                    break;
+            }
+        }
+        return values;
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, String extra, double value) {
+        out.append(name);
+        if (!labels.isEmpty() || extra != null) {
+            out.append('{').append(labels);
+            if (extra != null) {
+                out.append(labels.isEmpty() ? "" : ",").append(extra);
+            }
+            out.append('}');
+        }
+        out.append(' ').append(number(value)).append('\n');
+    }
+
+    private static String number(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return Double.isNaN(value) ? "NaN" : String.valueOf(value);
+    }
+
+    private static String key(String name, String labels) {
+        return name + '{' + labels;
+    }
+
+    private static String labels(String[] pairs) {
+        if (pairs.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < pairs.length; i += 2) {
+            sb.append(i == 0 ? "" : ",").append(pairs[i]).append("=\"")
+                    .append(pairs[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                    .append('"');
+        }
+        return sb.toString();
+    }
+}
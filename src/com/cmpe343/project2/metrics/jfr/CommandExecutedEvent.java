@@ -0,0 +1,25 @@
+package com.cmpe343.project2.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A command run through {@code CommandInvoker.executeCommand}, spanning its
+ * DAO calls so they can be grouped per user action.
+ */
+@Name("com.cmpe343.CommandExecuted")
+@Label("Command Executed")
+@Category({ "CMPE343", "Commands" })
+@Description("Execution of an undoable command")
+public final class CommandExecutedEvent extends Event {
+
+    @Label("Command")
+    public String command;
+
+    @Label("Outcome")
+    @Description("applied, rejected or failed")
+    public String outcome;
+}
@@ -0,0 +1,24 @@
+package com.cmpe343.project2.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A command reverted through {@code CommandInvoker.undoLastCommand}.
+ */
+@Name("com.cmpe343.CommandUndone")
+@Label("Command Undone")
+@Category({ "CMPE343", "Commands" })
+@Description("Undo of the most recent command")
+public final class CommandUndoneEvent extends Event {
+
+    @Label("Command")
+    public String command;
+
+    @Label("Outcome")
+    @Description("applied or failed")
+    public String outcome;
+}
@@ -0,0 +1,34 @@
+package com.cmpe343.project2.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A pooled connection lease, from the borrow request until the connection
+ * is handed back. A lease that timed out waiting has no hold time.
+ */
+@Name("com.cmpe343.ConnectionLease")
+@Label("Connection Lease")
+@Category({ "CMPE343", "Database" })
+@Description("Wait for and use of a pooled JDBC connection")
+public final class ConnectionLeaseEvent extends Event {
+
+    @Label("Pool")
+    @Description("primary or replica-N")
+    public String pool;
+
+    @Label("Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long waitTime;
+
+    @Label("Hold Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long holdTime;
+
+    @Label("Timed Out")
+    public boolean timedOut;
+}
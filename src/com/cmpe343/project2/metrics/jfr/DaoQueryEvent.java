@@ -0,0 +1,43 @@
+package com.cmpe343.project2.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * One attempt of a DAO call, from leasing the connection to the end of its
+ * work. Emitted by {@code JdbcRunner}; retries produce one event each.
+ */
+@Name("com.cmpe343.DaoQuery")
+@Label("DAO Query")
+@Category({ "CMPE343", "Database" })
+@Description("A DAO call with the SQL it sent and the rows it read or wrote")
+public final class DaoQueryEvent extends Event {
+
+    @Label("Method")
+    @Description("DAO method, e.g. ContactDAO.searchByCriteria")
+    public String method;
+
+    @Label("SQL Shape")
+    @Description("Statements with placeholders, separated by semicolons")
+    public String sql;
+
+    @Label("Rows")
+    @Description("Rows written, or the size of the returned result for queries")
+    public long rows;
+
+    @Label("Connection Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long connectionWait;
+
+    @Label("Execute Time")
+    @Description("Time spent inside execute calls and commits")
+    @Timespan(Timespan.NANOSECONDS)
+    public long executeTime;
+
+    @Label("Failed")
+    public boolean failed;
+}
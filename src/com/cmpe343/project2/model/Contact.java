@@ -34,6 +34,7 @@ public class Contact {
     private LocalDate birthDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private int version; // Optimistic lock counter, bumped on every update
 
     // Constructors
 
@@ -85,6 +86,21 @@ public class Contact {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Copy constructor used by commands and menus that need an editable snapshot
+     * of an existing record. Every column, including timestamps and the
+     * optimistic lock version, is carried over so the copy can be written back
+     * against the same row state it was taken from.
+     *
+     * @param other contact to copy
+     */
+    public Contact(Contact other) {
+        this(other.contactId, other.firstName, other.middleName, other.lastName, other.nickname,
+                other.phonePrimary, other.phoneSecondary, other.email, other.linkedinUrl, other.birthDate,
+                other.createdAt, other.updatedAt);
+        this.version = other.version;
+    }
+
     // Getters and Setters (Encapsulation)
 
     /**
@@ -304,6 +320,25 @@ public class Contact {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Returns the optimistic lock version read together with the row. Updates
+     * only succeed while the stored version still equals this value.
+     *
+     * @return row version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Stores the optimistic lock version, typically assigned by DAO operations.
+     *
+     * @param version row version
+     */
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     /**
      * Builds the display-ready full name by concatenating first, optional middle
      * (when present) and last names with spaces. The helper ensures the UI never
@@ -4,16 +4,23 @@ import com.cmpe343.project2.model.User;
 
 /**
  * Manages the current user session.
- * Allows different parts of the app to know who is logged in.
+ * Allows different parts of the app to know who is logged in, and remembers
+ * when the session last changed data so its reads can be routed to the
+ * primary database until replicas have caught up. That write time is kept
+ * per thread in a {@link WriteClock}, so one thread's writes never pin other
+ * threads (batch workers, load test operators) to the primary; work handed
+ * to another thread carries its submitter's clock along, see
+ * {@link #bindWrites(WriteClock)}.
  */
 public class SessionContext {
     private static SessionContext instance;
+    private static final ThreadLocal<WriteClock> WRITES = ThreadLocal.withInitial(WriteClock::new);
     private User currentUser;
 
     private SessionContext() {
     }
 
-    public static SessionContext getInstance() {
+    public static synchronized SessionContext getInstance() {
         if (instance == null) {
             instance = new SessionContext();
         }
@@ -35,4 +42,51 @@ public class SessionContext {
     public boolean isLoggedIn() {
         return currentUser != null;
     }
+
+    /**
+     * Records that the calling thread's session has just committed a change.
+     */
+    public void recordWrite() {
+        WriteClock clock = WRITES.get();
+        clock.lastWriteNanos = System.nanoTime();
+        clock.hasWritten = true;
+    }
+
+    /**
+     * Checks whether the session committed a change within the given window,
+     * in which case its reads must see the primary to observe their own writes.
+     *
+     * @param windowMillis length of the read-your-writes window
+     */
+    public boolean hasWrittenWithin(long windowMillis) {
+        WriteClock clock = WRITES.get();
+        return clock.hasWritten && System.nanoTime() - clock.lastWriteNanos < windowMillis * 1_000_000L;
+    }
+
+    /**
+     * The calling thread's write clock, to be bound on a thread that runs
+     * work on its behalf.
+     */
+    public WriteClock currentWrites() {
+        return WRITES.get();
+    }
+
+    /**
+     * Makes the calling thread record and check writes on {@code clock}.
+     *
+     * @return the clock bound before, to restore when the work is done
+     */
+    public WriteClock bindWrites(WriteClock clock) {
+        WriteClock previous = WRITES.get();
+        WRITES.set(clock);
+        return previous;
+    }
+
+    /**
+     * When one logical session last committed a change.
+     */
+    public static final class WriteClock {
+        private volatile long lastWriteNanos;
+        private volatile boolean hasWritten;
+    }
 }
\ No newline at end of file
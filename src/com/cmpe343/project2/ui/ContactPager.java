@@ -0,0 +1,314 @@
+package com.cmpe343.project2.ui;
+
+import com.cmpe343.project2.dao.ContactRepository;
+import com.cmpe343.project2.dao.DaoThreadPool;
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.util.ConsoleColors;
+import com.cmpe343.project2.util.InputHelper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntSupplier;
+
+/**
+ * Browses a long contact list one page at a time. Only the page on screen
+ * is rendered, and only a few pages are ever held, so memory use and the
+ * time to the first row do not grow with the size of the list:
+ * <ol>
+ * <li>Pages are fetched from a {@link PageSource}, e.g. a window of the
+ *     sorted table, and kept in a small least-recently-used cache.</li>
+ * <li>While the operator reads a page, the next one is fetched on the DAO
+ *     thread pool, so paging forward usually shows it at once.</li>
+ * <li>Jumping to a page fetches just that page.</li>
+ * <li>Searching within the results walks forward from the current page
+ *     through the same source, in larger blocks, instead of running a new
+ *     query; the search wraps around once. Each block continues after the
+ *     last contact read, so a source that can seek never re-skips earlier
+ *     rows, and searching again resumes after the previous match.</li>
+ * </ol>
+ * Database failures propagate to the caller, which reports them.
+ */
+final class ContactPager {
+
+    /**
+     * Supplies windows of an ordered list of contacts.
+     */
+    @FunctionalInterface
+    interface PageSource {
+        /**
+         * Up to {@code limit} contacts after skipping {@code offset}; fewer
+         * only at the end of the list.
+         */
+        List<Contact> fetch(int offset, int limit);
+
+        /**
+         * The window at {@code offset}, where {@code previous} is the contact
+         * just before it. Sources that can seek past a contact override this;
+         * by default the window is fetched by offset.
+         */
+        default List<Contact> fetchAfter(Contact previous, int offset, int limit) {
+            return fetch(offset, limit);
+        }
+    }
+
+    private static final int CACHED_PAGES = 4;
+    private static final int SEARCH_BLOCK_ROWS = 500;
+
+    private final PageSource source;
+    private final int total;
+    private final int pageSize;
+    private final boolean plain;
+    private final Map<Integer, CompletableFuture<List<Contact>>> pages =
+            new LinkedHashMap<>(CACHED_PAGES * 2, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, CompletableFuture<List<Contact>>> eldest) {
+                    return size() > CACHED_PAGES;
+                }
+            };
+    private String lastSearch;
+    private int lastMatch = -1;
+    private Contact lastMatchContact;
+
+    /**
+     * @param total number of contacts the source can return
+     */
+    ContactPager(PageSource source, int total, int pageSize, boolean plain) {
+        this.source = source;
+        this.total = total;
+        this.pageSize = pageSize;
+        this.plain = plain;
+    }
+
+    /**
+     * A pager over a list already in memory, e.g. search results.
+     */
+    static ContactPager ofList(List<Contact> list, int pageSize, boolean plain) {
+        return new ContactPager((offset, limit) -> list.subList(Math.min(offset, list.size()),
+                (int) Math.min(list.size(), (long) offset + limit)), list.size(), pageSize, plain);
+    }
+
+    /**
+     * A source over the whole table in the given order. Pages are windows by
+     * offset; search blocks seek past the last contact read.
+     */
+    static PageSource sorted(ContactRepository contacts, String column, boolean ascending) {
+        return new PageSource() {
+            @Override
+            public List<Contact> fetch(int offset, int limit) {
+                return contacts.findPage(column, ascending, offset, limit);
+            }
+
+            @Override
+            public List<Contact> fetchAfter(Contact previous, int offset, int limit) {
+                return contacts.findPageAfter(column, ascending, previous, limit);
+            }
+        };
+    }
+
+    /**
+     * A pager whose size is counted while the first page is fetched.
+     */
+    static ContactPager counting(PageSource source, IntSupplier count, int pageSize, boolean plain) {
+        CompletableFuture<Integer> total = DaoThreadPool.submit(count::getAsInt);
+        CompletableFuture<List<Contact>> first = DaoThreadPool.submit(() -> source.fetch(0, pageSize));
+        ContactPager pager = new ContactPager(source, await(total), pageSize, plain);
+        pager.pages.put(0, first);
+        return pager;
+    }
+
+    int getPageCount() {
+        return Math.max(1, (total + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Shows the first page and reads paging commands until the operator
+     * quits. A list that fits on one page is shown without prompting.
+     */
+    void browse() {
+        int page = 0;
+        String caption = null;
+        boolean redraw = true;
+        while (true) {
+            if (redraw) {
+                List<Contact> rows = page(page);
+                if (rows.isEmpty()) {
+                    if (page == 0) {
+                        ConsoleColors.printWarning("No contacts found.");
+                        return;
+                    }
+                    // Contacts were deleted since the list was counted
+                    ConsoleColors.printWarning("Page " + (page + 1) + " is empty now; showing the first page.");
+                    page = 0;
+                    continue;
+                }
+                ContactTable.toStdout(plain).render(rows, caption != null ? caption : caption(page, rows.size()));
+                caption = null;
+                if (getPageCount() == 1) {
+                    return;
+                }
+                if (page + 1 < getPageCount()) {
+                    prefetch(page + 1);
+                }
+            }
+            redraw = false;
+
+            String command = InputHelper.readString("[Enter] next, [p]revious, [f]irst, [l]ast, page number, "
+                    + "/text to search, / to search again, [q]uit");
+            if (command.equalsIgnoreCase("q") || command.equalsIgnoreCase("back")) {
+                return;
+            } else if (command.isEmpty() || command.equalsIgnoreCase("n")) {
+                if (page + 1 >= getPageCount()) {
+                    ConsoleColors.printInfo("This is the last page.");
+                } else {
+                    page++;
+                    redraw = true;
+                }
+            } else if (command.equalsIgnoreCase("p")) {
+                if (page == 0) {
+                    ConsoleColors.printInfo("This is the first page.");
+                } else {
+                    page--;
+                    redraw = true;
+                }
+            } else if (command.equalsIgnoreCase("f")) {
+                page = 0;
+                redraw = true;
+            } else if (command.equalsIgnoreCase("l")) {
+                page = getPageCount() - 1;
+                redraw = true;
+            } else if (command.startsWith("/")) {
+                String needle = command.length() > 1 ? command.substring(1).trim() : lastSearch;
+                if (needle == null || needle.isEmpty()) {
+                    ConsoleColors.printError("Type the text to search for after '/'.");
+                    continue;
+                }
+                boolean again = needle.equals(lastSearch) && lastMatch >= 0;
+                lastSearch = needle;
+                lastMatch = again ? search(needle, lastMatch + 1, lastMatchContact)
+                        : search(needle, page * pageSize, null);
+                if (lastMatch < 0) {
+                    ConsoleColors.printWarning("No contact in these results matches '" + needle + "'.");
+                    continue;
+                }
+                page = lastMatch / pageSize;
+                caption = "Match for '" + needle + "' at contact " + (lastMatch + 1) + " - " + caption(page, 0);
+                redraw = true;
+            } else if (command.matches("\\d{1,9}")) {
+                int target = Integer.parseInt(command);
+                if (target < 1 || target > getPageCount()) {
+                    ConsoleColors.printError("Page must be between 1 and " + getPageCount() + ".");
+                } else {
+                    page = target - 1;
+                    redraw = true;
+                }
+            } else {
+                ConsoleColors.printError("Unknown command.");
+            }
+        }
+    }
+
+    private String caption(int page, int rowsOnPage) {
+        int first = page * pageSize + 1;
+        int last = rowsOnPage > 0 ? first + rowsOnPage - 1 : Math.min(total, first + pageSize - 1);
+        return "Page " + (page + 1) + " of " + getPageCount() + " (contacts " + first + "-" + last + " of " + total
+                + ")";
+    }
+
+    private List<Contact> page(int page) {
+        CompletableFuture<List<Contact>> cached = pages.get(page);
+        if (cached != null) {
+            try {
+                return await(cached);
+            } catch (RuntimeException e) {
+                // A failed prefetch is retried in the foreground, where its error is reported
+                pages.remove(page);
+            }
+        }
+        List<Contact> rows = source.fetch(page * pageSize, pageSize);
+        pages.put(page, CompletableFuture.completedFuture(rows));
+        return rows;
+    }
+
+    private void prefetch(int page) {
+        if (!pages.containsKey(page)) {
+            pages.put(page, DaoThreadPool.submit(() -> source.fetch(page * pageSize, pageSize)));
+        }
+    }
+
+    /**
+     * Index of the first contact at or after {@code from} that contains the
+     * text in a name, phone, email or LinkedIn field, wrapping around to the
+     * start once; -1 when none does. The match is kept in
+     * {@link #lastMatchContact} so that searching again can seek past it.
+     *
+     * @param previous the contact at {@code from - 1}, or null if not at hand
+     */
+    private int search(String needle, int from, Contact previous) {
+        String text = needle.toLowerCase(Locale.ROOT);
+        int start = from >= total ? 0 : from;
+        int match = scan(text, start, total, start == 0 ? null : previous);
+        return match >= 0 || start == 0 ? match : scan(text, 0, start, null);
+    }
+
+    private int scan(String text, int from, int to, Contact previous) {
+        int block = Math.max(pageSize, SEARCH_BLOCK_ROWS);
+        int offset = from;
+        while (offset < to) {
+            // The page on screen is cached, so a new search starts without a query
+            List<Contact> rows = previous == null && offset % pageSize == 0 ? shown(offset / pageSize) : null;
+            int wanted;
+            if (rows != null) {
+                wanted = Math.min(pageSize, to - offset);
+            } else {
+                wanted = Math.min(block, to - offset);
+                rows = previous != null ? source.fetchAfter(previous, offset, wanted) : source.fetch(offset, wanted);
+            }
+            for (int i = 0; i < rows.size() && offset + i < to; i++) {
+                if (matches(rows.get(i), text)) {
+                    lastMatchContact = rows.get(i);
+                    return offset + i;
+                }
+            }
+            if (rows.size() < wanted) {
+                break;
+            }
+            offset += rows.size();
+            previous = rows.get(rows.size() - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * A page already fetched and cached, without fetching it; null otherwise.
+     */
+    private List<Contact> shown(int page) {
+        CompletableFuture<List<Contact>> cached = pages.get(page);
+        return cached != null && cached.isDone() && !cached.isCompletedExceptionally() ? cached.join() : null;
+    }
+
+    private static boolean matches(Contact c, String text) {
+        return contains(c.getFirstName(), text) || contains(c.getMiddleName(), text)
+                || contains(c.getLastName(), text) || contains(c.getNickname(), text)
+                || contains(c.getPhonePrimary(), text) || contains(c.getPhoneSecondary(), text)
+                || contains(c.getEmail(), text) || contains(c.getLinkedinUrl(), text);
+    }
+
+    private static boolean contains(String value, String text) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(text);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.cmpe343.project2.ui;
+
+import com.cmpe343.project2.model.Contact;
+import com.cmpe343.project2.util.ConsoleColors;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Renders contact lists as a console table without per-row formatting cost.
+ * Rendering used to dominate listing large result sets: every row went
+ * through a twelve-specifier {@code String.format} and an autoflushed
+ * {@code println}. Instead the table is drawn in three steps:
+ * <ol>
+ * <li>Column widths are measured once over the list, so every row lines up
+ *     however long its values are.</li>
+ * <li>Rows are appended into one reusable {@link StringBuilder}; padding is
+ *     copied from a blank array and numbers and dates are written digit by
+ *     digit, so no format strings are parsed and few objects are created.</li>
+ * <li>The builder is handed to a large {@link BufferedWriter} over the
+ *     process's standard output whenever it passes {@value #CHUNK} chars.</li>
+ * </ol>
+ * The plain style drops colors and box drawing for output that is piped to a
+ * file or another program.
+ */
+final class ContactTable {
+
+    private static final String[] HEADERS = { "#", "First", "Middle", "Last", "Alias", "Phone (P)", "Phone (S)",
+            "Email", "Birth", "Created", "Updated", "LinkedIn" };
+    private static final int[] MIN_WIDTHS = { 4, 12, 12, 12, 12, 14, 14, 25, 12, 20, 20, 18 };
+    private static final int ID = 0;
+    private static final int BIRTH = 8;
+    private static final int CREATED = 9;
+    private static final int UPDATED = 10;
+    private static final int LAST = HEADERS.length - 1;
+
+    private static final int CHUNK = 32 * 1024;
+    private static final String NEWLINE = System.lineSeparator();
+    private static final char[] BLANKS = new char[256];
+
+    private static final String NEON_ACCENT = "\033[48;5;54m\033[38;5;226m"; // deep purple with neon yellow text
+    private static final String NEON_SHADOW = "\033[48;5;235m\033[38;5;141m"; // dark background with magenta text
+    private static final String NEON_PULSE = "\033[48;5;93m\033[38;5;16m"; // electric pink glow with dark ink
+    private static final String AURORA_GREEN = "\033[48;5;35m\033[38;5;231m";
+    private static final String AURORA_CYAN = "\033[48;5;31m\033[38;5;231m";
+    private static final String AURORA_BLUE = "\033[48;5;27m\033[38;5;231m";
+    private static final String ZEBRA_EVEN = "\033[48;5;236m\033[38;5;159m";
+    private static final String ZEBRA_ODD = "\033[48;5;238m\033[38;5;192m";
+
+    // Standard output as captured at startup; System.out may be swapped later
+    private static final PrintStream CONSOLE = System.out;
+    private static Writer stdout;
+
+    static {
+        Arrays.fill(BLANKS, ' ');
+    }
+
+    private final Writer out;
+    private final boolean plain;
+    private final StringBuilder buffer = new StringBuilder(CHUNK + 1024);
+    private char[] chunk = new char[0];
+    private final int[] widths = new int[HEADERS.length];
+
+    /**
+     * @param out   destination; flushed after every table but never closed
+     * @param plain true for uncolored ASCII output
+     */
+    ContactTable(Writer out, boolean plain) {
+        this.out = out;
+        this.plain = plain;
+    }
+
+    /**
+     * A table writing to standard output. When {@code System.out} has been
+     * redirected the table follows it; otherwise it bypasses the
+     * {@link PrintStream} and writes to the file descriptor directly.
+     */
+    static ContactTable toStdout(boolean plain) {
+        if (System.out != CONSOLE) {
+            return new ContactTable(new BufferedWriter(new OutputStreamWriter(System.out), CHUNK), plain);
+        }
+        return new ContactTable(stdout(), plain);
+    }
+
+    private static synchronized Writer stdout() {
+        if (stdout == null) {
+            stdout = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out),
+                    stdoutCharset()), 64 * 1024);
+        }
+        return stdout;
+    }
+
+    private static Charset stdoutCharset() {
+        String name = System.getProperty("stdout.encoding", System.getProperty("sun.stdout.encoding"));
+        try {
+            return name == null ? Charset.defaultCharset() : Charset.forName(name);
+        } catch (IllegalArgumentException e) {
+            return Charset.defaultCharset();
+        }
+    }
+
+    /**
+     * Draws the whole list followed by its bottom border.
+     */
+    void render(List<Contact> list) {
+        render(list, (plain ? "Contacts: " : "Contacts Loaded: ") + list.size());
+    }
+
+    /**
+     * Draws the list under a caption line, e.g. the page being shown.
+     */
+    void render(List<Contact> list, String caption) {
+        // Anything already printed through System.out must come first
+        System.out.flush();
+        measure(list);
+        try {
+            if (plain) {
+                renderPlain(list, caption);
+            } else {
+                renderStyled(list, caption);
+            }
+            drain(0);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the contact table", e);
+        }
+    }
+
+    private void measure(List<Contact> list) {
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = Math.max(MIN_WIDTHS[i], HEADERS[i].length());
+        }
+        int maxId = 0;
+        for (Contact c : list) {
+            maxId = Math.max(maxId, c.getContactId());
+            widen(1, c.getFirstName());
+            widen(2, c.getMiddleName());
+            widen(3, c.getLastName());
+            widen(4, c.getNickname());
+            widen(5, c.getPhonePrimary());
+            widen(6, c.getPhoneSecondary());
+            widen(7, c.getEmail());
+            widen(11, c.getLinkedinUrl());
+        }
+        widths[ID] = Math.max(widths[ID], digits(maxId));
+    }
+
+    private void widen(int column, String value) {
+        if (value != null && value.length() > widths[column]) {
+            widths[column] = value.length();
+        }
+    }
+
+    private void renderStyled(List<Contact> list, String caption) throws IOException {
+        int headerLength = 0;
+        for (int width : widths) {
+            headerLength += width;
+        }
+        headerLength += 3 * (widths.length - 1);
+        int borderWidth = headerLength + 4;
+
+        buffer.append(ConsoleColors.CYAN_BOLD).append("⚡ Cosmic Contact Directory ⚡").append(ConsoleColors.RESET)
+                .append(NEWLINE);
+        buffer.append(NEON_SHADOW).append(caption).append(ConsoleColors.RESET)
+                .append(NEWLINE);
+        border(NEON_PULSE, '╭', '═', '╮', borderWidth - 2);
+        buffer.append(AURORA_GREEN).append('▞').append(AURORA_CYAN).append('▞').append(AURORA_BLUE).append('▞')
+                .append(AURORA_CYAN).append('▞').append(AURORA_GREEN).append('▞').append(AURORA_CYAN).append('▞')
+                .append(AURORA_BLUE).append('▞').append(AURORA_CYAN).append('▞').append(AURORA_GREEN)
+                .append(ConsoleColors.RESET).append(NEWLINE);
+        border(NEON_ACCENT, '╔', '═', '╗', borderWidth - 2);
+        buffer.append(NEON_ACCENT).append("║ ").append(ConsoleColors.BLUE_BOLD);
+        for (int i = 0; i < HEADERS.length; i++) {
+            cell(i, HEADERS[i], " │ ", true);
+        }
+        buffer.append(ConsoleColors.RESET).append(NEON_ACCENT).append(" ║").append(ConsoleColors.RESET).append(NEWLINE);
+        border(NEON_ACCENT, '╠', '═', '╣', borderWidth - 2);
+
+        int rowIndex = 0;
+        for (Contact c : list) {
+            String zebra = (rowIndex++ % 2 == 0) ? ZEBRA_EVEN : ZEBRA_ODD;
+            String sideGlow = (rowIndex % 3 == 0) ? AURORA_GREEN : (rowIndex % 3 == 1 ? AURORA_CYAN : AURORA_BLUE);
+            buffer.append(sideGlow).append('║').append(ConsoleColors.RESET).append(' ').append(zebra);
+            row(c, " │ ", true);
+            buffer.append(ConsoleColors.RESET).append(' ').append(sideGlow).append('║').append(ConsoleColors.RESET)
+                    .append(NEWLINE);
+            if (rowIndex % 2 == 0 && rowIndex < list.size()) {
+                border(NEON_SHADOW, '║', '·', '║', borderWidth);
+            }
+            drain(CHUNK);
+        }
+        border(NEON_ACCENT, '╚', '═', '╝', borderWidth - 2);
+    }
+
+    private void renderPlain(List<Contact> list, String caption) throws IOException {
+        buffer.append(caption).append(NEWLINE);
+        for (int i = 0; i < HEADERS.length; i++) {
+            cell(i, HEADERS[i], " | ", false);
+        }
+        buffer.append(NEWLINE);
+        for (int i = 0; i < widths.length; i++) {
+            if (i > 0) {
+                buffer.append("-+-");
+            }
+            repeat('-', widths[i]);
+        }
+        buffer.append(NEWLINE);
+        for (Contact c : list) {
+            row(c, " | ", false);
+            buffer.append(NEWLINE);
+            drain(CHUNK);
+        }
+    }
+
+    private void row(Contact c, String separator, boolean padLast) {
+        int id = c.getContactId();
+        buffer.append(id);
+        pad(widths[ID] - digits(id));
+        buffer.append(separator);
+        cell(1, c.getFirstName(), separator, padLast);
+        cell(2, c.getMiddleName(), separator, padLast);
+        cell(3, c.getLastName(), separator, padLast);
+        cell(4, c.getNickname(), separator, padLast);
+        cell(5, c.getPhonePrimary(), separator, padLast);
+        cell(6, c.getPhoneSecondary(), separator, padLast);
+        cell(7, c.getEmail(), separator, padLast);
+        date(c.getBirthDate());
+        buffer.append(separator);
+        dateTime(c.getCreatedAt(), CREATED);
+        buffer.append(separator);
+        dateTime(c.getUpdatedAt(), UPDATED);
+        buffer.append(separator);
+        cell(LAST, c.getLinkedinUrl(), separator, padLast);
+    }
+
+    /**
+     * Appends a left-aligned value, followed by the separator unless it is
+     * the last column.
+     */
+    private void cell(int column, String value, String separator, boolean padLast) {
+        int length = 0;
+        if (value != null) {
+            buffer.append(value);
+            length = value.length();
+        }
+        if (column == LAST) {
+            if (padLast) {
+                pad(widths[column] - length);
+            }
+            return;
+        }
+        pad(widths[column] - length);
+        buffer.append(separator);
+    }
+
+    private void date(LocalDate date) {
+        if (date == null) {
+            pad(widths[BIRTH]);
+            return;
+        }
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            String text = date.toString();
+            buffer.append(text);
+            pad(widths[BIRTH] - text.length());
+            return;
+        }
+        ymd(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        pad(widths[BIRTH] - 10);
+    }
+
+    /**
+     * Appends {@code yyyy-MM-dd HH:mm:ss}; fractions of a second are not
+     * shown.
+     */
+    private void dateTime(LocalDateTime time, int column) {
+        if (time == null) {
+            pad(widths[column]);
+            return;
+        }
+        if (time.getYear() < 0 || time.getYear() > 9999) {
+            String text = time.withNano(0).toString().replace('T', ' ');
+            buffer.append(text);
+            pad(widths[column] - text.length());
+            return;
+        }
+        ymd(time.getYear(), time.getMonthValue(), time.getDayOfMonth());
+        buffer.append(' ');
+        twoDigits(time.getHour());
+        buffer.append(':');
+        twoDigits(time.getMinute());
+        buffer.append(':');
+        twoDigits(time.getSecond());
+        pad(widths[column] - 19);
+    }
+
+    private void ymd(int year, int month, int day) {
+        buffer.append((char) ('0' + year / 1000)).append((char) ('0' + year / 100 % 10))
+                .append((char) ('0' + year / 10 % 10)).append((char) ('0' + year % 10)).append('-');
+        twoDigits(month);
+        buffer.append('-');
+        twoDigits(day);
+    }
+
+    private void twoDigits(int value) {
+        buffer.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private void border(String color, char left, char fill, char right, int fillCount) {
+        buffer.append(color).append(left);
+        repeat(fill, fillCount);
+        buffer.append(right).append(ConsoleColors.RESET).append(NEWLINE);
+    }
+
+    private void repeat(char c, int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.append(c);
+        }
+    }
+
+    private void pad(int count) {
+        while (count > 0) {
+            int n = Math.min(count, BLANKS.length);
+            buffer.append(BLANKS, 0, n);
+            count -= n;
+        }
+    }
+
+    /**
+     * Hands the buffered text to the writer once it holds at least
+     * {@code threshold} chars.
+     */
+    private void drain(int threshold) throws IOException {
+        int length = buffer.length();
+        if (length == 0 || length < threshold) {
+            return;
+        }
+        if (chunk.length < length) {
+            chunk = new char[Math.max(length, CHUNK + 1024)];
+        }
+        buffer.getChars(0, length, chunk, 0);
+        out.write(chunk, 0, length);
+        buffer.setLength(0);
+    }
+
+    private static int digits(int value) {
+        int digits = value < 0 ? 2 : 1;
+        for (long rest = Math.abs((long) value); rest >= 10; rest /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
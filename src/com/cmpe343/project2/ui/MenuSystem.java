@@ -1,9 +1,16 @@
 package com.cmpe343.project2.ui;
 
 import com.cmpe343.project2.command.*;
+import com.cmpe343.project2.config.UiConfig;
 import com.cmpe343.project2.dao.ContactDAO;
+import com.cmpe343.project2.dao.ContactRepository;
+import com.cmpe343.project2.dao.DaoThreadPool;
+import com.cmpe343.project2.dao.DataAccessException;
+import com.cmpe343.project2.dao.SlowQueryLog;
 import com.cmpe343.project2.dao.UserDAO;
+import com.cmpe343.project2.db.DatabaseConfig;
 import com.cmpe343.project2.db.DatabaseConnection;
+import com.cmpe343.project2.metrics.MetricsRegistry;
 import com.cmpe343.project2.model.Contact;
 import com.cmpe343.project2.model.Role;
 import com.cmpe343.project2.model.SearchCriteria;
@@ -13,6 +20,9 @@ import com.cmpe343.project2.util.ConsoleColors;
 import com.cmpe343.project2.util.InputHelper;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * Central console controller that stitches together authentication, menu
@@ -36,14 +46,18 @@ import java.util.List;
 public class MenuSystem {
 
     private final UserDAO userDAO;
-    private final ContactDAO contactDAO;
+    private final ContactRepository contactDAO;
     private final CommandInvoker commandInvoker;
     private String lastSortColumn = "last_name";
     private boolean lastSortAsc = true;
 
     public MenuSystem() {
+        this(new ContactDAO());
+    }
+
+    public MenuSystem(ContactRepository contactRepository) {
         this.userDAO = new UserDAO();
-        this.contactDAO = new ContactDAO();
+        this.contactDAO = contactRepository;
         this.commandInvoker = new CommandInvoker();
     }
 
@@ -51,7 +65,33 @@ public class MenuSystem {
      * Starts the application flow.
      */
     public void start() {
-        printAsciiAnimation("STARTUP");
+        start(CompletableFuture.completedFuture(null), () -> {
+        });
+    }
+
+    /**
+     * Starts the application flow while startup work, such as seeding and
+     * opening connections, is still finishing in the background. The intro
+     * banner is shown meanwhile on an interactive console only; when input
+     * is piped it is skipped. The first prompt waits for {@code ready}.
+     *
+     * @param ready   completes when the database is usable; a failure is
+     *                rethrown here
+     * @param onReady runs once, right before the first prompt
+     */
+    public void start(CompletableFuture<?> ready, Runnable onReady) {
+        if (System.console() != null) {
+            printAsciiAnimation("STARTUP");
+        }
+        try {
+            ready.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        onReady.run();
 
         boolean running = true;
         while (running) {
@@ -63,6 +103,7 @@ public class MenuSystem {
         }
 
         printAsciiAnimation("SHUTDOWN");
+        DaoThreadPool.shutdown();
         DatabaseConnection.closeConnection();
         InputHelper.close();
     }
@@ -146,9 +187,10 @@ public class MenuSystem {
                     System.out.println("4. Add/Employ New User");
                     System.out.println("5. Delete/Fire Existing User");
                     System.out.println("6. Undo Last Action");
-                    System.out.println("7. Change Password");
-                    System.out.println("8. Logout");
-                    stay = processMenuChoice(InputHelper.readChoice("Select Operation", 1, 2, 3, 4, 5, 6, 7, 8),
+                    System.out.println("7. Performance Metrics");
+                    System.out.println("8. Change Password");
+                    System.out.println("9. Logout");
+                    stay = processMenuChoice(InputHelper.readChoice("Select Operation", 1, 2, 3, 4, 5, 6, 7, 8, 9),
                             role);
                     break;
             }
@@ -186,7 +228,7 @@ public class MenuSystem {
 
             String password = InputHelper.readString("Password");
 
-            User user = userDAO.authenticate(username, password);
+            User user = guarded(() -> userDAO.authenticate(username, password), null);
             if (user != null) {
                 SessionContext.getInstance().login(user);
                 ConsoleColors.printSuccess("Welcome, " + user.getFullName() + " (" + user.getRole() + ")");
@@ -200,7 +242,7 @@ public class MenuSystem {
     private boolean handleTesterChoice(int choice) {
         switch (choice) {
             case 1:
-                printContacts(getSortedContacts());
+                browseContacts();
                 return true;
             case 2:
                 handleSearchMenu();
@@ -223,7 +265,7 @@ public class MenuSystem {
     private boolean handleJuniorChoice(int choice) {
         switch (choice) {
             case 1:
-                printContacts(getSortedContacts());
+                browseContacts();
                 return true;
             case 2:
                 handleSearchMenu();
@@ -252,7 +294,7 @@ public class MenuSystem {
     private boolean handleSeniorChoice(int choice) {
         switch (choice) {
             case 1:
-                printContacts(getSortedContacts());
+                browseContacts();
                 return true;
             case 2:
                 handleSearchMenu();
@@ -287,10 +329,12 @@ public class MenuSystem {
     private boolean handleManagerChoice(int choice) {
         switch (choice) {
             case 1:
-                System.out.println(contactDAO.getStats());
+                String stats = guarded(contactDAO::getStats, null);
+                if (stats != null)
+                    System.out.println(stats);
                 return true;
             case 2:
-                printUsers(userDAO.getAllUsers());
+                printUsers(guarded(userDAO::getAllUsers, List.of()));
                 return true;
             case 3:
                 handleUpdateUser();
@@ -305,9 +349,12 @@ public class MenuSystem {
                 commandInvoker.undoLastCommand();
                 return true;
             case 7:
-                handleChangePassword();
+                handleMetricsMenu();
                 return true;
             case 8:
+                handleChangePassword();
+                return true;
+            case 9:
                 SessionContext.getInstance().logout();
                 return false;
             default:
@@ -316,15 +363,43 @@ public class MenuSystem {
         }
     }
 
+    private void handleMetricsMenu() {
+        while (true) {
+            System.out.println("1. Latency and Throughput Summary");
+            System.out.println("2. Prometheus Text Dump");
+            System.out.println("3. Slow Query Log");
+            System.out.println("4. Clear Slow Query Log");
+            System.out.println("5. Back to Main Menu");
+            int choice = InputHelper.readChoice("Choose option", 1, 2, 3, 4, 5);
+
+            if (choice == 5)
+                return;
+            if (choice == 1) {
+                System.out.println(MetricsRegistry.shared().toTable());
+            }
+            if (choice == 2) {
+                System.out.println(MetricsRegistry.shared().toPrometheus());
+            }
+            if (choice == 3) {
+                System.out.println(SlowQueryLog.shared().dump());
+            }
+            if (choice == 4) {
+                SlowQueryLog.shared().clear();
+                ConsoleColors.printSuccess("Slow query log cleared.");
+            }
+        }
+    }
+
     private void handleSearchMenu() {
         ConsoleColors.printInfo("Type 'back' at any prompt to return without losing your place.");
         while (true) {
             System.out.println("1. Search Contacts (Single Field)");
             System.out.println("2. Advanced Search (Multi-Field)");
-            System.out.println("3. Back to Main Menu");
-            int choice = InputHelper.readChoice("Choose option", 1, 2, 3);
+            System.out.println("3. Upcoming Birthdays");
+            System.out.println("4. Back to Main Menu");
+            int choice = InputHelper.readChoice("Choose option", 1, 2, 3, 4);
 
-            if (choice == 3)
+            if (choice == 4)
                 return;
             if (choice == 1) {
                 handleSingleFieldSearch();
@@ -332,6 +407,26 @@ public class MenuSystem {
             if (choice == 2) {
                 handleMultiFieldSearch();
             }
+            if (choice == 3) {
+                handleUpcomingBirthdays();
+            }
+        }
+    }
+
+    private void handleUpcomingBirthdays() {
+        int days;
+        while (true) {
+            days = InputHelper.readInt("Birthdays within how many days (0 = today, max 366)");
+            if (days >= 0 && days <= 366)
+                break;
+            ConsoleColors.printError("Enter a number between 0 and 366.");
+        }
+        int window = days;
+        List<Contact> results = guarded(() -> contactDAO.findUpcomingBirthdays(window), List.of());
+        if (results.isEmpty()) {
+            ConsoleColors.printWarning("No birthdays in the next " + days + " days.");
+        } else {
+            printContacts(results);
         }
     }
 
@@ -340,7 +435,7 @@ public class MenuSystem {
             ConsoleColors.printInfo("Single-field search supports partial matches. Choose a field below.");
             System.out.println("1. Search by First Name");
             System.out.println("2. Search by Last Name");
-            System.out.println("3. Search by Phone Number (primary or secondary)");
+            System.out.println("3. Search by Phone Number (last digits, primary or secondary)");
             System.out.println("4. Back");
             int fieldChoice = InputHelper.readChoice("Field", 1, 2, 3, 4);
 
@@ -359,16 +454,17 @@ public class MenuSystem {
                         "Use letters, spaces or hyphens only.", true);
             } else {
                 column = "phone_primary";
-                value = InputHelper.readValidatedString("Enter phone digits fragment", false, "[0-9+\\-\\s]+",
-                        "Use digits only for phone search.", true);
+                value = InputHelper.readValidatedString("Enter the last digits of the phone number", false,
+                        "[0-9+\\-\\s]*[0-9][0-9+\\-\\s]*", "Use digits only for phone search.", true);
             }
 
             if (value == null)
                 return;
 
-            List<Contact> results = ("phone_primary".equals(column))
-                    ? contactDAO.searchByCriteria(buildPhoneOnlyCriteria(value))
-                    : contactDAO.searchByField(column, value);
+            String term = value;
+            List<Contact> results = guarded(() -> ("phone_primary".equals(column))
+                    ? contactDAO.findByPhoneSuffix(term)
+                    : contactDAO.searchByField(column, term), List.of());
 
             if (results.isEmpty()) {
                 ConsoleColors.printWarning("No contacts found.");
@@ -386,7 +482,7 @@ public class MenuSystem {
         ConsoleColors.printInfo("Provide at least two fields. Partial text is accepted. Type 'back' to cancel any step.");
         while (true) {
             System.out.println(
-                    "Select fields to search (comma-separated). Options: 1) First Name 2) Last Name 3) Phone 4) Email 5) Birth Month");
+                    "Select fields to search (comma-separated). Options: 1) First Name 2) Last Name 3) Phone (last digits) 4) Email 5) Birth Month");
             String selectionInput = InputHelper.readString("Enter selections or type 'back'");
             if ("back".equalsIgnoreCase(selectionInput))
                 return;
@@ -446,8 +542,8 @@ public class MenuSystem {
                         }
                     }
                     case 3 -> {
-                        String phone = InputHelper.readValidatedString("Phone contains", false, "[0-9+\\-\\s]+",
-                                "Use digits only for phone numbers.", true);
+                        String phone = InputHelper.readValidatedString("Phone ends with", false,
+                                "[0-9+\\-\\s]*[0-9][0-9+\\-\\s]*", "Use digits only for phone numbers.", true);
                         if (phone == null) {
                             cancelled = true;
                         } else {
@@ -485,7 +581,7 @@ public class MenuSystem {
                 continue;
             }
 
-            List<Contact> results = contactDAO.searchByCriteria(criteria);
+            List<Contact> results = guarded(() -> contactDAO.searchByCriteria(criteria), List.of());
             if (results.isEmpty()) {
                 ConsoleColors.printWarning("No contacts found.");
                 int retry = InputHelper.readChoice("Try again? 1=Yes, 2=Back", 1, 2);
@@ -498,12 +594,6 @@ public class MenuSystem {
         }
     }
 
-    private SearchCriteria buildPhoneOnlyCriteria(String value) {
-        SearchCriteria criteria = new SearchCriteria();
-        criteria.setPhone(value);
-        return criteria;
-    }
-
     private Integer readBirthMonthWithBack() {
         while (true) {
             String monthInput = InputHelper.readString("Birth month (1-12) or 'back' to cancel");
@@ -578,7 +668,7 @@ public class MenuSystem {
 
                 lastSortColumn = col;
                 lastSortAsc = orderChoice == 1;
-                printContacts(getSortedContacts());
+                browseContacts();
                 return;
             }
         }
@@ -601,6 +691,8 @@ public class MenuSystem {
         if (nick == null)
             return;
         c.setNickname(nick);
+        ConsoleColors.printInfo("Phones are saved in international form; numbers without a country code get +"
+                + DatabaseConfig.get().getPhoneCountryCode() + ".");
         c.setPhonePrimary(InputHelper.readPhone("Primary Phone"));
         String secondary = InputHelper.readOptionalPhone("Secondary Phone", true);
         if (secondary == null)
@@ -621,7 +713,7 @@ public class MenuSystem {
     }
 
     private void handleUpdateContact() {
-        printContacts(getSortedContacts());
+        browseContacts();
         String idInput = InputHelper.readString("Enter Contact ID to Update (or type 'back')");
         if ("back".equalsIgnoreCase(idInput))
             return;
@@ -633,17 +725,13 @@ public class MenuSystem {
             return;
         }
 
-        List<Contact> existing = contactDAO.searchByField("contact_id", String.valueOf(id));
-        if (existing.isEmpty()) {
+        Contact oldContact = guarded(() -> contactDAO.findById(id), null);
+        if (oldContact == null) {
             ConsoleColors.printError("Contact not found.");
             return;
         }
-        Contact oldContact = existing.get(0);
-        Contact newContact = new Contact(
-                oldContact.getContactId(), oldContact.getFirstName(), oldContact.getMiddleName(),
-                oldContact.getLastName(), oldContact.getNickname(), oldContact.getPhonePrimary(),
-                oldContact.getPhoneSecondary(), oldContact.getEmail(), oldContact.getLinkedinUrl(),
-                oldContact.getBirthDate(), oldContact.getCreatedAt(), oldContact.getUpdatedAt());
+        // The copy keeps the version read here so the update can detect concurrent edits
+        Contact newContact = new Contact(oldContact);
 
         ConsoleColors.printInfo("Enter new value or press enter to keep [" + oldContact.getFirstName() + "]");
         String input = InputHelper.readValidatedString("First Name", true, "[A-Za-z\\-\\s]*",
@@ -681,7 +769,7 @@ public class MenuSystem {
     }
 
     private void handleDeleteContact() {
-        printContacts(getSortedContacts());
+        browseContacts();
         String idInput = InputHelper.readString("Enter Contact ID to DELETE (or type 'back')");
         if ("back".equalsIgnoreCase(idInput))
             return;
@@ -693,8 +781,8 @@ public class MenuSystem {
             return;
         }
 
-        List<Contact> existing = contactDAO.searchByField("contact_id", String.valueOf(id));
-        if (existing.isEmpty()) {
+        Contact existing = guarded(() -> contactDAO.findById(id), null);
+        if (existing == null) {
             ConsoleColors.printError("Contact not found.");
             return;
         }
@@ -703,7 +791,7 @@ public class MenuSystem {
         if (confirm == 2)
             return;
 
-        Command cmd = new DeleteContactCommand(contactDAO, existing.get(0));
+        Command cmd = new DeleteContactCommand(contactDAO, existing);
         commandInvoker.executeCommand(cmd);
     }
 
@@ -721,7 +809,7 @@ public class MenuSystem {
         }
         u.setRole(role);
 
-        if (userDAO.addUser(u, pwd)) {
+        if (guarded(() -> userDAO.addUser(u, pwd), false)) {
             ConsoleColors.printSuccess("User created successfully.");
         }
     }
@@ -739,7 +827,7 @@ public class MenuSystem {
             return;
         }
 
-        User target = userDAO.getUserById(id);
+        User target = guarded(() -> userDAO.getUserById(id), null);
         if (target == null) {
             ConsoleColors.printError("User not found.");
             return;
@@ -755,7 +843,7 @@ public class MenuSystem {
 
     private void handleUpdateUser() {
         int id = InputHelper.readInt("Enter User ID to Update");
-        User existingUser = userDAO.getUserById(id);
+        User existingUser = guarded(() -> userDAO.getUserById(id), null);
 
         if (existingUser == null) {
             ConsoleColors.printError("User not found.");
@@ -779,7 +867,7 @@ public class MenuSystem {
             return;
         existingUser.setRole(updatedRole);
 
-        if (userDAO.updateUser(existingUser)) {
+        if (guarded(() -> userDAO.updateUser(existingUser), false)) {
             ConsoleColors.printSuccess("User updated successfully.");
         }
     }
@@ -810,7 +898,7 @@ public class MenuSystem {
             // Get current user ID
             int userId = SessionContext.getInstance().getCurrentUser().getUserId();
 
-            if (userDAO.updatePassword(userId, newPass)) {
+            if (guarded(() -> userDAO.updatePassword(userId, newPass), false)) {
                 ConsoleColors.printSuccess("Password changed successfully.");
                 return;
             }
@@ -821,72 +909,57 @@ public class MenuSystem {
 
     // --- HELPERS ---
 
+    /**
+     * Shows a result list; lists longer than {@code ui.pageSize} open in the
+     * pager.
+     */
     private void printContacts(List<Contact> list) {
         if (list.isEmpty()) {
             ConsoleColors.printWarning("No contacts found.");
             return;
         }
-        String headerFormat = "%-4s │ %-12s │ %-12s │ %-12s │ %-12s │ %-14s │ %-14s │ %-25s │ %-12s │ %-20s │ %-20s │ %-18s";
-        String rowFormat = "%-4d │ %-12s │ %-12s │ %-12s │ %-12s │ %-14s │ %-14s │ %-25s │ %-12s │ %-20s │ %-20s │ %-18s";
-
-        String neonAccent = "\033[48;5;54m\033[38;5;226m"; // deep purple background with neon yellow text
-        String neonShadow = "\033[48;5;235m\033[38;5;141m"; // dark background with magenta text
-        String neonPulse = "\033[48;5;93m\033[38;5;16m"; // electric pink glow with dark ink
-        String auroraGreen = "\033[48;5;35m\033[38;5;231m";
-        String auroraCyan = "\033[48;5;31m\033[38;5;231m";
-        String auroraBlue = "\033[48;5;27m\033[38;5;231m";
-
-        String header = String.format(headerFormat, "#", "First", "Middle", "Last", "Alias", "Phone (P)",
-                "Phone (S)", "Email", "Birth", "Created", "Updated", "LinkedIn");
-        int borderWidth = header.length() + 4;
-        String glowLine = neonPulse + "╭" + "═".repeat(borderWidth - 2) + "╮" + ConsoleColors.RESET;
-        String topBorder = neonAccent + "╔" + "═".repeat(borderWidth - 2) + "╗" + ConsoleColors.RESET;
-        String midBorder = neonAccent + "╠" + "═".repeat(borderWidth - 2) + "╣" + ConsoleColors.RESET;
-        String bottomBorder = neonAccent + "╚" + "═".repeat(borderWidth - 2) + "╝" + ConsoleColors.RESET;
-
-        String auroraRibbon = auroraGreen + "▞" + auroraCyan + "▞" + auroraBlue + "▞" + auroraCyan + "▞" + auroraGreen
-                + "▞" + auroraCyan + "▞" + auroraBlue + "▞" + auroraCyan + "▞" + auroraGreen + ConsoleColors.RESET;
-
-        System.out.println(ConsoleColors.CYAN_BOLD + "⚡ Cosmic Contact Directory ⚡" + ConsoleColors.RESET);
-        System.out.println(neonShadow + "Contacts Loaded: " + list.size() + ConsoleColors.RESET);
-        System.out.println(glowLine);
-        System.out.println(auroraRibbon);
-        System.out.println(topBorder);
-        System.out.println(neonAccent + "║ " + ConsoleColors.BLUE_BOLD + header + ConsoleColors.RESET + neonAccent + " ║" + ConsoleColors.RESET);
-        System.out.println(midBorder);
-
-        int rowIndex = 0;
-        for (Contact c : list) {
-            String zebra = (rowIndex++ % 2 == 0) ? "\033[48;5;236m\033[38;5;159m" : "\033[48;5;238m\033[38;5;192m";
-            String row = String.format(rowFormat,
-                    c.getContactId(),
-                    safe(c.getFirstName()),
-                    safe(c.getMiddleName()),
-                    safe(c.getLastName()),
-                    safe(c.getNickname()),
-                    safe(c.getPhonePrimary()),
-                    safe(c.getPhoneSecondary()),
-                    safe(c.getEmail()),
-                    c.getBirthDate() == null ? "" : c.getBirthDate().toString(),
-                    c.getCreatedAt() == null ? "" : c.getCreatedAt().toString(),
-                    c.getUpdatedAt() == null ? "" : c.getUpdatedAt().toString(),
-                    safe(c.getLinkedinUrl()));
-            String sideGlow = (rowIndex % 3 == 0) ? auroraGreen : (rowIndex % 3 == 1 ? auroraCyan : auroraBlue);
-            System.out.println(sideGlow + "║" + ConsoleColors.RESET + " " + zebra + row + ConsoleColors.RESET
-                    + " " + sideGlow + "║" + ConsoleColors.RESET);
-            if (rowIndex % 2 == 0 && rowIndex < list.size()) {
-                System.out.println(neonShadow + "║" + "·".repeat(borderWidth) + "║" + ConsoleColors.RESET);
-            }
+        UiConfig config = UiConfig.get();
+        if (list.size() <= config.getPageSize()) {
+            ContactTable.toStdout(config.isPlainOutput()).render(list);
+            return;
         }
-        System.out.println(bottomBorder);
+        ContactPager.ofList(list, config.getPageSize(), config.isPlainOutput()).browse();
     }
 
-    private List<Contact> getSortedContacts() {
-        return contactDAO.findAll(lastSortColumn, lastSortAsc);
+    /**
+     * Pages through all contacts in the current sort order, fetching one page
+     * at a time instead of the whole table.
+     */
+    private void browseContacts() {
+        UiConfig config = UiConfig.get();
+        String column = lastSortColumn;
+        boolean ascending = lastSortAsc;
+        guarded(() -> {
+            ContactPager.counting(ContactPager.sorted(contactDAO, column, ascending), contactDAO::countAll,
+                    config.getPageSize(), config.isPlainOutput()).browse();
+            return null;
+        }, null);
     }
 
-    private String safe(String value) {
-        return value == null ? "" : value;
+    /**
+     * Runs a DAO call and reports a database failure on the console instead of
+     * propagating it, so a failed query returns the user to the menu. Transient
+     * failures have already been retried by the DAO, so the user is told that
+     * trying again later may help.
+     *
+     * @param action   DAO call to run
+     * @param fallback value returned when the call fails
+     */
+    private <T> T guarded(Supplier<T> action, T fallback) {
+        try {
+            return action.get();
+        } catch (DataAccessException e) {
+            ConsoleColors.printError(e.getMessage());
+            if (e.isTransient()) {
+                ConsoleColors.printWarning("The database is temporarily unavailable. Please try again shortly.");
+            }
+            return fallback;
+        }
     }
 
     private void printUsers(List<User> list) {
@@ -908,15 +981,16 @@ public class MenuSystem {
 
     private void printAsciiAnimation(String type) {
         if (type.equals("STARTUP")) {
-            System.out.println(ConsoleColors.CYAN_BOLD);
-            System.out.println("  _____ __  __ _____  ______   _____   _    _  _____  ____   _____ ");
-            System.out.println(" / ____|  \\/  |  __ \\|  ____| |  __ \\ | |  | |/ ____|/ __ \\ / ____|");
-            System.out.println("| |    | \\  / | |__) | |__    | |__) || |  | | |  __  |  | || |     ");
-            System.out.println("| |    | |\\/| |  ___/|  __|   |  ___/ | |  | | | |_ | |  | || |     ");
-            System.out.println("| |____| |  | | |    | |____  | |     | |__| | |__| ||__| || |____ ");
-            System.out.println(" \\_____|_|  |_|_|    |______| |_|      \\____/ \\_____| \\___/  \\_____| ");
-            System.out.println("  Advanced Java Programming • Group 21 • Matrix Intro Mode");
-            System.out.println(ConsoleColors.RESET);
+            // One write, so messages from the startup thread cannot split the banner
+            System.out.println(ConsoleColors.CYAN_BOLD + "\n"
+                    + "  _____ __  __ _____  ______   _____   _    _  _____  ____   _____ \n"
+                    + " / ____|  \\/  |  __ \\|  ____| |  __ \\ | |  | |/ ____|/ __ \\ / ____|\n"
+                    + "| |    | \\  / | |__) | |__    | |__) || |  | | |  __  |  | || |     \n"
+                    + "| |    | |\\/| |  ___/|  __|   |  ___/ | |  | | | |_ | |  | || |     \n"
+                    + "| |____| |  | | |    | |____  | |     | |__| | |__| ||__| || |____ \n"
+                    + " \\_____|_|  |_|_|    |______| |_|      \\____/ \\_____| \\___/  \\_____| \n"
+                    + "  Advanced Java Programming • Group 21 • Matrix Intro Mode\n"
+                    + ConsoleColors.RESET);
             try {
                 Thread.sleep(500);
             } catch (InterruptedException e) {
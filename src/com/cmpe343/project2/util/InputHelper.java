@@ -29,6 +29,8 @@ import java.time.format.DateTimeParseException;
 public class InputHelper {
     private static final Scanner scanner = new Scanner(System.in);
     private static final String BACK_KEYWORD = "back";
+    private static final String PHONE_FORMAT_ERROR =
+            "Invalid phone format. Use 7-15 digits, optionally with a leading + and spaces or dashes.";
 
     /**
      * Reads a string from the console.
@@ -257,11 +259,10 @@ public class InputHelper {
     public static String readPhone(String prompt) {
         while (true) {
             String phone = readString(prompt);
-            // Simple Regex for digits, allowing + at start, length 7-15
-            if (phone.matches("^\\+?[0-9]{7,15}$")) {
+            if (isPhone(phone)) {
                 return phone;
             }
-            ConsoleColors.printError("Invalid phone format. Digits only, 7-15 chars.");
+            ConsoleColors.printError(PHONE_FORMAT_ERROR);
         }
     }
 
@@ -280,13 +281,25 @@ public class InputHelper {
             if (phone.isEmpty()) {
                 return "";
             }
-            if (phone.matches("^\\+?[0-9]{7,15}$")) {
+            if (isPhone(phone)) {
                 return phone;
             }
-            ConsoleColors.printError("Invalid phone format. Digits only, 7-15 chars.");
+            ConsoleColors.printError(PHONE_FORMAT_ERROR);
         }
     }
 
+    /**
+     * 7-15 digits with an optional leading +; spaces, dashes, dots and
+     * parentheses between digit groups are allowed and removed on save.
+     */
+    private static boolean isPhone(String phone) {
+        if (!phone.matches("^\\+?[0-9][0-9 .()\\-]*$")) {
+            return false;
+        }
+        int digits = PhoneNormalizer.digitsOf(phone).length();
+        return digits >= 7 && digits <= PhoneNormalizer.MAX_DIGITS;
+    }
+
     /**
      * Clears the terminal using ANSI escape codes.
      */
@@ -0,0 +1,110 @@
+package com.cmpe343.project2.util;
+
+/**
+ * Brings phone numbers into E.164 form ({@code +} followed by at most 15
+ * digits) so that the same number is stored the same way however it was
+ * typed. Separators ({@code space - . ( )}) are dropped, then:
+ * <ul>
+ * <li>{@code +905321234567} and {@code 00905321234567} are international
+ *     numbers and keep their country code.</li>
+ * <li>{@code 05321234567} starts with the trunk prefix {@code 0}; the prefix
+ *     is replaced by the default country code.</li>
+ * <li>Numbers without prefix of up to 10 digits are national numbers and get
+ *     the default country code; longer ones are taken to include it.</li>
+ * </ul>
+ * Values that still are not 1-15 digits afterwards are returned unchanged,
+ * so legacy data that was never a valid number survives a round trip.
+ */
+public final class PhoneNormalizer {
+
+    /** Longest number E.164 allows, country code included. */
+    public static final int MAX_DIGITS = 15;
+
+    private static final int MAX_NATIONAL_DIGITS = 10;
+
+    private final String countryCode;
+
+    /**
+     * @param defaultCountryCode calling code for numbers entered without one,
+     *                           e.g. {@code "90"}
+     */
+    public PhoneNormalizer(String defaultCountryCode) {
+        if (defaultCountryCode == null || !defaultCountryCode.matches("[1-9][0-9]{0,2}")) {
+            throw new IllegalArgumentException("Country calling code must be 1-3 digits: " + defaultCountryCode);
+        }
+        this.countryCode = defaultCountryCode;
+    }
+
+    /**
+     * Normalizes a phone number.
+     *
+     * @return the E.164 form, null for null, the empty string for blank input,
+     *         or the trimmed input when it is not a phone number
+     */
+    public String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String trimmed = raw.trim();
+        if (trimmed.isEmpty()) {
+            return "";
+        }
+        boolean plus = trimmed.startsWith("+");
+        String digits = stripSeparators(plus ? trimmed.substring(1) : trimmed);
+        if (digits == null) {
+            return trimmed;
+        }
+        if (!plus) {
+            if (digits.startsWith("00")) {
+                digits = digits.substring(2);
+            } else if (digits.startsWith("0")) {
+                digits = countryCode + digits.substring(1);
+            } else if (digits.length() <= MAX_NATIONAL_DIGITS) {
+                digits = countryCode + digits;
+            }
+        }
+        if (digits.isEmpty() || digits.length() > MAX_DIGITS) {
+            return trimmed;
+        }
+        return "+" + digits;
+    }
+
+    /**
+     * The digits of a phone number or fragment in order, ignoring every other
+     * character.
+     */
+    public static String digitsOf(String phone) {
+        if (phone == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char ch = phone.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The digits of a phone number last to first, so that "ends with" becomes
+     * "starts with" and can use an ordinary index.
+     */
+    public static String reversedDigits(String phone) {
+        return new StringBuilder(digitsOf(phone)).reverse().toString();
+    }
+
+    private static String stripSeparators(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                sb.append(ch);
+            } else if (ch != ' ' && ch != '-' && ch != '.' && ch != '(' && ch != ')') {
+                return null;
+            }
+        }
+        return sb.toString();
+    }
+}